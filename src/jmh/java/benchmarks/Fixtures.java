@@ -0,0 +1,78 @@
+package benchmarks;
+
+import models.CameraInfo;
+import models.ImageDateTime;
+import models.UserAccount;
+import models.model_utils.Location;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static utils.paths.RandomPaths.RAND_JSON_CACHE_SAVE_PATH;
+import static utils.paths.TopPaths.TEMP_PATH;
+
+/**
+ * Loads the sample JSON files under {@code resources/} and builds the models the benchmarks work on.
+ * The benchmarks must be run from the project root, just like the demos.
+ */
+final class Fixtures {
+    private Fixtures() {}
+
+    static String read(String path) {
+        try {
+            return Files.readString(Path.of(path));
+        } catch (IOException exception) {throw new UncheckedIOException(exception);}
+    }
+
+    static String fixedJSON() {return read(RAND_JSON_CACHE_SAVE_PATH + "/sample-fixed.json");}
+
+    static String taggedJSON() {return read(RAND_JSON_CACHE_SAVE_PATH + "/sample-tag.json");}
+
+    static String userJSON() {return read(TEMP_PATH + "/sample-user-native.json");}
+
+    static String exifJSON() {return read(TEMP_PATH + "/exif-fragment.json");}
+
+    static UserAccount user() {
+        var json = new JSONObject(userJSON());
+        var account = new UserAccount();
+        try {
+            var profiles = json.getJSONObject(UserAccount.UserKeys.PROFILE_IMAGE);
+            for (var key : profiles.keySet()) account.addProfileSize(key, profiles.getString(key));
+            var links = json.getJSONObject(UserAccount.UserKeys.LINKS);
+            for (var key : links.keySet()) account.addLink(key, links.getString(key));
+        } catch (MalformedURLException exception) {throw new IllegalStateException(exception);}
+
+        account.id = json.getString(UserAccount.UserKeys.ID);
+        account.username = json.getString(UserAccount.UserKeys.USERNAME);
+        account.name = json.getString(UserAccount.UserKeys.NAME);
+        account.firstName = json.getString(UserAccount.UserKeys.FIRST_NAME);
+        account.lastName = json.getString(UserAccount.UserKeys.LAST_NAME);
+        account.bio = json.optString(UserAccount.UserKeys.BIO, null);
+        account.instagramUsername = json.optString(UserAccount.UserKeys.INSTAGRAM_USERNAME, null);
+        account.location = new Location();
+        account.location.setCity(json.optString(UserAccount.UserKeys.LOCATION, null));
+        account.updatedAt = new ImageDateTime(json.getString(UserAccount.UserKeys.UPDATED_AT));
+        account.totalLikes = json.getLong(UserAccount.UserKeys.TOTAL_LIKES);
+        account.totalPhotosPosted = json.getLong(UserAccount.UserKeys.TOTAL_PHOTOS);
+        account.totalPhotoCollections = json.getLong(UserAccount.UserKeys.TOTAL_COLLECTIONS);
+        account.hireable = json.getBoolean(UserAccount.UserKeys.FOR_HIRE);
+        account.acceptedUnsplashTOS = json.getBoolean(UserAccount.UserKeys.ACCEPTED_TOS);
+        return account;
+    }
+
+    static CameraInfo exif() {
+        var json = new JSONObject(exifJSON());
+        return new CameraInfo(
+                json.getString(CameraInfo.EXIFKeys.MAKE),
+                json.getString(CameraInfo.EXIFKeys.MODEL),
+                json.getString(CameraInfo.EXIFKeys.EXPOSURE_TIME),
+                json.getString(CameraInfo.EXIFKeys.APERTURE),
+                json.getString(CameraInfo.EXIFKeys.FOCAL_LENGTH),
+                json.getInt(CameraInfo.EXIFKeys.ISO)
+        );
+    }
+}
@@ -0,0 +1,63 @@
+package benchmarks;
+
+import models.CameraInfo;
+import models.ImageDateTime;
+import models.UserAccount;
+import org.openjdk.jmh.annotations.*;
+import utils.BlurHashDecoder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the model hot paths, i.e., {@link UserAccount#toJSON()} against the streaming
+ * {@link UserAccount#writeJSON(Appendable)}, the construction of an
+ * {@link ImageDateTime}, {@link CameraInfo#toJSON()} and the rendering of a {@code 32x32}
+ * BlurHash placeholder.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ModelBenchmark {
+    private UserAccount user;
+    private CameraInfo exif;
+    private String dateSource;
+    private StringBuilder output;
+    private BlurHashDecoder decoder;
+    private int[] pixels;
+
+    @Setup
+    public void setup() {
+        user = Fixtures.user();
+        exif = Fixtures.exif();
+        dateSource = user.updatedAt.source();
+        output = new StringBuilder(4096);
+        decoder = new BlurHashDecoder(32, 32);
+        pixels = new int[32 * 32];
+    }
+
+    @Benchmark
+    public String userToJSON() {return user.toJSON().toString();}
+
+    @Benchmark
+    public int userWriteJSON() throws IOException {
+        output.setLength(0);
+        user.writeJSON(output);
+        return output.length();
+    }
+
+    @Benchmark
+    public ImageDateTime imageDateTime() {return new ImageDateTime(dateSource);}
+
+    @Benchmark
+    public String cameraInfoToJSON() {return exif.toJSON().toString();}
+
+    @Benchmark
+    public int[] blurHash() {
+        decoder.decode("LA9%q}x]M{jF_3g3RjV[0hRkjZR*", pixels);
+        return pixels;
+    }
+}
@@ -0,0 +1,44 @@
+package benchmarks;
+
+import models.Image;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.*;
+import utils.json.ImageBinder;
+import utils.json.Projection;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code new JSONObject(stringJSON)} on the cached random photo samples, which is what every
+ * {@code init()} call does with the response body, against binding the same bytes straight into the
+ * {@link Image} model via {@link ImageBinder} and reading only the {@link Projection#PREVIEW} fields.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParseBenchmark {
+    private String fixedJSON;
+    private String taggedJSON;
+
+    @Setup
+    public void setup() {
+        fixedJSON = Fixtures.fixedJSON();
+        taggedJSON = Fixtures.taggedJSON();
+    }
+
+    @Benchmark
+    public JSONObject parseFixed() {return new JSONObject(fixedJSON);}
+
+    @Benchmark
+    public JSONObject parseTagged() {return new JSONObject(taggedJSON);}
+
+    @Benchmark
+    public Image bindFixed() throws IOException {return ImageBinder.bind(fixedJSON);}
+
+    @Benchmark
+    public Projection.Record projectFixed() throws IOException {return Projection.PREVIEW.bind(fixedJSON);}
+}
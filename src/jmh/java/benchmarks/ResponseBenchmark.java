@@ -0,0 +1,44 @@
+package benchmarks;
+
+import interfaces.UnsplashRandom;
+import org.openjdk.jmh.annotations.*;
+import utils.RandomFixed;
+import utils.http.HttpEngine;
+import utils.server.MockUnsplashServer;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the whole {@code init()} response handling i.e., the request, the body handling and the parsing,
+ * against a local {@link MockUnsplashServer} so that no quota is burned and the network is taken out of
+ * the picture.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseBenchmark {
+    private MockUnsplashServer server;
+    private RandomFixed fixed;
+
+    @Setup
+    public void setup() throws IOException {
+        System.setProperty(UnsplashRandom.API_KEY_PROPERTY, MockUnsplashServer.API_KEY);
+        server = MockUnsplashServer.start();
+        server.setRateLimit(Long.MAX_VALUE);
+        var engine = HttpEngine.builder().apiLink(server.apiLink()).rateLimiter(null).build();
+        fixed = new RandomFixed(engine);
+    }
+
+    @TearDown
+    public void tearDown() {server.close();}
+
+    @Benchmark
+    public boolean initSingle() {return fixed.init();}
+
+    @Benchmark
+    public boolean initBatch() {return fixed.init(UnsplashRandom.MAX_COUNT);}
+}
@@ -0,0 +1,38 @@
+package demos;
+
+import utils.BlurHashDecoder;
+import utils.json.ImageBinder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.lang.System.out;
+import static utils.paths.RandomPaths.RAND_JSON_CACHE_SAVE_PATH;
+
+public class BlurHashMain {
+
+    public static void main(String... args) throws IOException {
+        var image = ImageBinder.bind(Files.readString(Path.of(RAND_JSON_CACHE_SAVE_PATH + "/sample-fixed.json")));
+        var decoder = new BlurHashDecoder(32, 32 * image.metadata.dimension.height / image.metadata.dimension.width);
+        var pixels = new int[decoder.width() * decoder.height()];
+
+        out.println(image.metadata.blurhash + " " + BlurHashDecoder.isValid(image.metadata.blurhash));
+        out.println(decoder.decode(image.metadata, pixels) + " " + decoder.width() + "x" + decoder.height());
+        long red = 0, green = 0, blue = 0;
+        for (var pixel : pixels) {
+            red += pixel >> 16 & 0xFF;
+            green += pixel >> 8 & 0xFF;
+            blue += pixel & 0xFF;
+        }
+        out.printf("average #%02x%02x%02x, color %s%n", red / pixels.length, green / pixels.length,
+                   blue / pixels.length, image.metadata.color);
+
+        var placeholder = decoder.toImage(image.metadata.blurhash);
+        out.printf("top left #%06x%n", placeholder.getRGB(0, 0) & 0xFFFFFF);
+
+        var start = System.nanoTime();
+        for (int index = 0; index < 100_000; index++) decoder.decode(image.metadata.blurhash, pixels);
+        out.println((System.nanoTime() - start) / 100_000 + " ns per placeholder");
+    }
+}
@@ -0,0 +1,68 @@
+package demos;
+
+import models.Image;
+import utils.codec.ModelCodec;
+import utils.json.ImageBinder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+
+import static java.lang.System.out;
+import static utils.paths.RandomPaths.RAND_JSON_CACHE_SAVE_PATH;
+
+/**
+ * Round trips the cached sample images through the {@link ModelCodec} and checks that nothing has been lost,
+ * then compares the size of the records with the default Java serialization
+ */
+public class CodecMain {
+
+    public static void main(String... args) throws IOException {
+        for (var sample : new String[]{"sample-fixed.json", "sample-tag.json"}) {
+            var image = ImageBinder.bind(Files.readString(Path.of(RAND_JSON_CACHE_SAVE_PATH + "/" + sample)));
+            var bytes = ModelCodec.encode(image);
+            var copy = ModelCodec.decodeImage(bytes);
+            check(image, copy);
+
+            var stream = new ByteArrayOutputStream();
+            ModelCodec.write(image, stream);
+            ModelCodec.write(image.userAccountInfo, stream);
+            var in = new ByteArrayInputStream(stream.toByteArray());
+            check(image, Objects.requireNonNull(ModelCodec.readImage(in)));
+            check(image.userAccountInfo.toJSON().toString(), ModelCodec.readUser(in).toJSON().toString());
+            check((Object) null, ModelCodec.readImage(in));
+
+            // the location holds a JSONObject which isn't serializable at all
+            image.location = null;
+            var serialized = new ByteArrayOutputStream();
+            try (var objects = new ObjectOutputStream(serialized)) {objects.writeObject(image);}
+            out.println(sample + ": codec=" + bytes.length + " bytes, java=" + serialized.size() + " bytes");
+        }
+        out.println("round trip OK");
+    }
+
+    private static void check(Image expected, Image actual) {
+        check(expected.id, actual.id);
+        check(expected.imageSizeLinks, actual.imageSizeLinks);
+        check(expected.imageInfoLinks, actual.imageInfoLinks);
+        check(expected.description, actual.description);
+        check(expected.altDescription, actual.altDescription);
+        check(expected.metadata.toJSON().toString(), actual.metadata.toJSON().toString());
+        check(expected.metadata.createdAt.source(), actual.metadata.createdAt.source());
+        check(expected.promotedAt == null ? null : expected.promotedAt.source(),
+              actual.promotedAt == null ? null : actual.promotedAt.source());
+        check(expected.exif.toJSON().toString(), actual.exif.toJSON().toString());
+        check(expected.userAccountInfo.toJSON().toString(), actual.userAccountInfo.toJSON().toString());
+        check(expected.location.toJSON().toString(), actual.location.toJSON().toString());
+        check(expected.downloads + " " + expected.views + " " + expected.likes + " " + expected.selfLikes,
+              actual.downloads + " " + actual.views + " " + actual.likes + " " + actual.selfLikes);
+    }
+
+    private static void check(Object expected, Object actual) {
+        if (!Objects.equals(expected, actual)) throw new AssertionError(expected + " != " + actual);
+    }
+}
@@ -2,6 +2,10 @@ package demos;
 
 import models.ImageDateTime;
 
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
 import static java.lang.System.out;
 
 public class DateTimeMain {
@@ -16,5 +20,7 @@ public class DateTimeMain {
         out.println(dateTime.zone());
         out.println(dateTime.source());
         dateTime.forEach(item -> out.print(item + " "));
+        out.println();
+        out.println(StreamSupport.stream(dateTime.spliterator(), true).map(Map.Entry::getKey).collect(Collectors.toList()));
     }
 }
@@ -0,0 +1,63 @@
+package demos;
+
+import utils.AtomicFiles;
+import utils.GroupCommitter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import static java.lang.System.out;
+
+public class GroupCommitMain {
+
+    public static void main(String... args) throws IOException {
+        var directory = Files.createTempDirectory("group-commit");
+        var content = new byte[32 * 1024];
+        var writes = 200;
+        var pool = Executors.newFixedThreadPool(16);
+        try {
+            // one flush per write
+            var start = System.nanoTime();
+            var futures = new ArrayList<CompletableFuture<Void>>();
+            for (int index = 0; index < writes; index++) {
+                var target = directory.resolve("single-" + index + ".jpg");
+                futures.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        AtomicFiles.write(target, content, true);
+                    } catch (IOException exception) {throw new RuntimeException(exception);}
+                }, pool));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+            out.println("durable writes:  " + (System.nanoTime() - start) / 1_000_000 + " ms");
+
+            // the flushes are shared by the batches
+            try (var committer = new GroupCommitter()) {
+                start = System.nanoTime();
+                var commits = new ArrayList<CompletableFuture<Path>>();
+                for (int index = 0; index < writes; index++) {
+                    var target = directory.resolve("group-" + index + ".jpg");
+                    commits.add(CompletableFuture.supplyAsync(() -> committer.write(target, content), pool)
+                                                 .thenCompose(future -> future));
+                }
+                CompletableFuture.allOf(commits.toArray(CompletableFuture[]::new)).join();
+                out.println("group commit:    " + (System.nanoTime() - start) / 1_000_000 + " ms");
+                out.println(committer.stats() + " " + committer.stats().averageBatch());
+            }
+
+            try (Stream<Path> files = Files.list(directory)) {
+                out.println(files.filter(AtomicFiles::isTemporary).count() + " temporary files left");
+            }
+        } finally {
+            pool.shutdown();
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package demos;
+
+import interfaces.UnsplashRandom;
+import utils.RandomFixed;
+import utils.json.ImageBinder;
+import utils.server.MockUnsplashServer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.lang.System.out;
+import static utils.paths.RandomPaths.RAND_JSON_CACHE_SAVE_PATH;
+
+public class ImageBinderMain {
+
+    public static void main(String... args) throws IOException {
+        try (var in = Files.newInputStream(Path.of(RAND_JSON_CACHE_SAVE_PATH + "/sample-fixed.json"))) {
+            var image = ImageBinder.bind(in);
+            out.println(image.id + " " + image.metadata.dimension.width + "x" + image.metadata.dimension.height);
+            out.println(image.metadata.createdAt.source() + " " + image.metadata.blurhash);
+            out.println(image.imageInfoLinks.get("download"));
+            out.println(image.userAccountInfo.toJSON().toString(2));
+            out.println(image.exif.toJSON());
+            out.println(image.location);
+            out.println(image.likes + " " + image.views + " " + image.downloads);
+        }
+
+        System.setProperty(UnsplashRandom.API_KEY_PROPERTY, MockUnsplashServer.API_KEY);
+        try (var server = MockUnsplashServer.start()) {
+            var fixed = new RandomFixed(server.engine());
+            var image = fixed.fetchImage();
+            out.println(image.id + " " + image.imageInfoLinks.get("download"));
+            out.println(fixed.init() + " " + fixed.toImage().userAccountInfo.username);
+        }
+    }
+}
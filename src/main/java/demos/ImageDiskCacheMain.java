@@ -0,0 +1,50 @@
+package demos;
+
+import interfaces.UnsplashRandom;
+import utils.ImageDiskCache;
+import utils.RandomFixed;
+import utils.server.MockUnsplashServer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static java.lang.System.out;
+import static utils.paths.RandomPaths.RAND_IMAGE_FIXED_SAVE_PATH;
+
+public class ImageDiskCacheMain {
+
+    public static void main(String... args) throws IOException {
+        System.setProperty(UnsplashRandom.API_KEY_PROPERTY, MockUnsplashServer.API_KEY);
+        var directory = Files.createTempDirectory("image-cache");
+        var image = new byte[64 * 1024];
+        try (var server = MockUnsplashServer.start(0, image)) {
+            var cache = ImageDiskCache.open(directory, image.length * 2L);
+            var fixed = new RandomFixed(server.engine());
+            fixed.setImageCache(cache);
+
+            // the second copy of the same image doesn't go over the network
+            out.println(fixed.init());
+            out.println(fixed.toJPG("cache-demo-1") + " " + fixed.toJPG("cache-demo-2"));
+            out.println(server.imageRequests() + " " + cache.stats());
+
+            // three distinct images don't fit in the budget of two
+            out.println(fixed.init(2));
+            out.println(fixed.toJPGAsync("cache-demo-3").join());
+            fixed.select(1);
+            out.println(fixed.toJPGAsync("cache-demo-4").join());
+            out.println(server.imageRequests() + " " + cache.stats());
+
+            // the index is rebuilt from the directory
+            out.println(ImageDiskCache.open(directory, image.length * 2L).stats());
+        } finally {
+            for (int index = 1; index <= 4; index++)
+                Files.deleteIfExists(Path.of(RAND_IMAGE_FIXED_SAVE_PATH + "/cache-demo-" + index + ".jpg"));
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+}
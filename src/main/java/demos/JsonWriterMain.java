@@ -0,0 +1,56 @@
+package demos;
+
+import org.json.JSONObject;
+import utils.json.ImageBinder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.lang.System.out;
+import static utils.paths.RandomPaths.RAND_JSON_CACHE_SAVE_PATH;
+
+/**
+ * Checks that the streaming {@code writeJSON} methods produce the same JSON as the {@code toJSON} methods
+ */
+public class JsonWriterMain {
+
+    public static void main(String... args) throws IOException {
+        var image = ImageBinder.bind(Files.readString(Path.of(RAND_JSON_CACHE_SAVE_PATH + "/sample-fixed.json")));
+
+        var user = new StringBuilder();
+        image.userAccountInfo.writeJSON(user);
+        check("user", image.userAccountInfo.toJSON(), user);
+
+        var exif = new StringBuilder();
+        image.exif.writeJSON(exif);
+        check("exif", image.exif.toJSON(), exif);
+
+        var location = new StringBuilder();
+        image.location.writeJSON(location);
+        check("location", image.location.toJSON(), location);
+
+        var metadata = new StringBuilder();
+        image.metadata.writeJSON(metadata);
+        check("metadata", image.metadata.toJSON(), metadata);
+
+        var dateTime = new StringBuilder();
+        image.metadata.createdAt.writeJSON(dateTime);
+        check("date time", image.metadata.createdAt.toJSON(), dateTime);
+
+        var bytes = new ByteArrayOutputStream();
+        image.writeJSON(bytes);
+        var copy = ImageBinder.bind(bytes.toString(StandardCharsets.UTF_8));
+        check("image", image.userAccountInfo.toJSON(), copy.userAccountInfo.toJSON().toString());
+        check("image", image.exif.toJSON(), copy.exif.toJSON().toString());
+        out.println(bytes.toString(StandardCharsets.UTF_8));
+    }
+
+    private static void check(String model, JSONObject expected, CharSequence actual) {
+        if (!new JSONObject(expected.toString()).similar(new JSONObject(actual.toString())))
+            throw new AssertionError(model + ": " + expected + " != " + actual);
+        out.println(model + " OK");
+    }
+}
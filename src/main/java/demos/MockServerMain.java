@@ -0,0 +1,38 @@
+package demos;
+
+import interfaces.UnsplashRandom;
+import utils.RandomFixed;
+import utils.RandomTagged;
+import utils.server.MockUnsplashServer;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.stream.StreamSupport;
+
+import static java.lang.System.out;
+
+public class MockServerMain {
+
+    public static void main(String... args) throws IOException {
+        System.setProperty(UnsplashRandom.API_KEY_PROPERTY, MockUnsplashServer.API_KEY);
+        try (var server = MockUnsplashServer.start()) {
+            server.setLatency(Duration.ofMillis(20));
+            var engine = server.engine();
+
+            var fixed = new RandomFixed(engine);
+            out.println(fixed.init());
+            out.println(fixed.downloadLink());
+            out.println(fixed.toJPG());
+            out.println(StreamSupport.stream(fixed.spliterator(), true).filter(entry -> entry.getValue() instanceof Number).count());
+
+            var tagged = new RandomTagged("cats", engine);
+            out.println(tagged.init(5));
+            out.println(tagged.size());
+            out.println(engine.rateLimiter().budget());
+
+            server.setRateLimit(0);
+            out.println(tagged.init());
+            out.println(server.apiRequests() + " " + server.imageRequests());
+        }
+    }
+}
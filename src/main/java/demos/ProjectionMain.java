@@ -0,0 +1,49 @@
+package demos;
+
+import interfaces.UnsplashRandom;
+import org.json.JSONObject;
+import utils.RandomFixed;
+import utils.RandomTagged;
+import utils.json.Projection;
+import utils.server.MockUnsplashServer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.lang.System.out;
+import static utils.paths.RandomPaths.RAND_JSON_CACHE_SAVE_PATH;
+
+public class ProjectionMain {
+
+    public static void main(String... args) throws IOException {
+        var source = Files.readString(Path.of(RAND_JSON_CACHE_SAVE_PATH + "/sample-fixed.json"));
+        var record = Projection.PREVIEW.bind(source);
+        out.println(record);
+
+        var json = new JSONObject(source);
+        var matches = record.get("id").equals(json.getString("id"))
+                      && record.get("links.download").equals(json.getJSONObject("links").getString("download"))
+                      && record.get("urls.regular").equals(json.getJSONObject("urls").getString("regular"))
+                      && record.getInt("width") == json.getInt("width")
+                      && record.getInt("height") == json.getInt("height")
+                      && record.get("color").equals(json.getString("color"));
+        out.println("projection " + (matches ? "OK" : "MISMATCH"));
+
+        var custom = Projection.of("user.username", "exif.iso", "liked_by_user", "location.city", "missing.field");
+        out.println(custom.bind(source));
+
+        System.setProperty(UnsplashRandom.API_KEY_PROPERTY, MockUnsplashServer.API_KEY);
+        try (var server = MockUnsplashServer.start()) {
+            var fixed = new RandomFixed(server.engine());
+            out.println(fixed.fetchProjected(Projection.PREVIEW));
+            out.println(fixed.init() + " " + fixed.project(Projection.PREVIEW).get("id"));
+            var fixedBatch = fixed.fetchProjectedAsync(Projection.PREVIEW, 5).join();
+            out.println(fixedBatch.size() + " " + fixedBatch.get(4).get("id"));
+
+            var tagged = new RandomTagged("cats", server.engine());
+            var batch = tagged.fetchProjectedAsync(Projection.PREVIEW, 3).join();
+            out.println(batch.size() + " " + batch.get(2).get("links.download"));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package demos;
+
+import interfaces.UnsplashRandom;
+import utils.RandomFixed;
+import utils.json.JsonRecordLog;
+import utils.server.MockUnsplashServer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static java.lang.System.out;
+
+public class RecordLogMain {
+
+    public static void main(String... args) throws IOException {
+        System.setProperty(UnsplashRandom.API_KEY_PROPERTY, MockUnsplashServer.API_KEY);
+        var directory = Files.createTempDirectory("record-log");
+        try (var server = MockUnsplashServer.start()) {
+            String first;
+            try (var log = JsonRecordLog.open(directory, 32 * 1024)) {
+                var fixed = new RandomFixed(server.engine());
+                fixed.setRecordLog(log);
+                out.println(fixed.init(20));
+                for (int index = 0; fixed.select(index); index++) fixed.toJSON();
+                first = fixed.getImageID();
+                out.println(fixed.toJSONAsync().join());
+                out.println(log + " " + log.records());
+                out.println(log.get(first).equals(fixed.getStringJSON()));
+            }
+
+            // a torn record at the end of the last segment is cut off on the next open
+            try (var segments = Files.list(directory)) {
+                var last = segments.max(Comparator.naturalOrder()).orElseThrow();
+                Files.write(last, new byte[]{0, 0, 1, 0, 7}, StandardOpenOption.APPEND);
+            }
+            try (var log = JsonRecordLog.open(directory, 32 * 1024)) {
+                out.println(log + " " + log.records());
+                var count = new long[1];
+                log.forEach((id, json) -> count[0]++);
+                out.println(count[0] + " " + log.contains(first));
+            }
+        } finally {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+}
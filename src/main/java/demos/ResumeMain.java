@@ -0,0 +1,57 @@
+package demos;
+
+import interfaces.UnsplashRandom;
+import utils.RandomFixed;
+import utils.http.HttpEngine;
+import utils.http.RetryPolicy;
+import utils.server.MockUnsplashServer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.lang.System.out;
+import static utils.paths.RandomPaths.RAND_IMAGE_FIXED_SAVE_PATH;
+
+public class ResumeMain {
+
+    public static void main(String... args) throws IOException {
+        System.setProperty(UnsplashRandom.API_KEY_PROPERTY, MockUnsplashServer.API_KEY);
+        var image = new byte[8 << 20];
+        ThreadLocalRandom.current().nextBytes(image);
+        var target = Path.of(RAND_IMAGE_FIXED_SAVE_PATH + "/resume-demo.jpg");
+        try (var server = MockUnsplashServer.start(0, image)) {
+            var fixed = new RandomFixed(server.engine());
+            out.println(fixed.init());
+
+            // every body is cut in half, the first half stays in the .part file
+            server.setDropRate(1);
+            out.println(fixed.toJPG("resume-demo") + " " + server.imageBytesSent());
+            out.println(Files.size(Path.of(target + HttpEngine.PART_EXTENSION)));
+
+            // the next call only asks for the missing half
+            server.setDropRate(0);
+            out.println(fixed.toJPG("resume-demo") + " " + server.imageBytesSent());
+            out.println(Files.size(target) + " " + Files.exists(Path.of(target + HttpEngine.PART_EXTENSION)));
+
+            // the retries of a flaky connection pick up where the previous attempt stopped
+            var retrying = HttpEngine.builder()
+                                     .apiLink(server.apiLink())
+                                     .downloadPolicy(RetryPolicy.builder()
+                                                                .maxAttempts(10)
+                                                                .backoff(Duration.ofMillis(10), Duration.ofMillis(50))
+                                                                .build())
+                                     .build();
+            fixed.setEngine(retrying);
+            server.setDropRate(0.5);
+            var before = server.imageBytesSent();
+            out.println(fixed.toJPG("resume-demo") + " " + (server.imageBytesSent() - before));
+        } finally {
+            Files.deleteIfExists(target);
+            Files.deleteIfExists(Path.of(target + HttpEngine.PART_EXTENSION));
+            Files.deleteIfExists(Path.of(target + HttpEngine.PART_EXTENSION + ".meta"));
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package demos;
+
+import models.Image;
+import utils.ImageStatsStore;
+import utils.ImageStatsStore.Column;
+import utils.json.ImageBinder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static java.lang.System.out;
+import static utils.paths.RandomPaths.RAND_JSON_CACHE_SAVE_PATH;
+
+public class StatsStoreMain {
+
+    public static void main(String... args) throws IOException {
+        var fixed = Files.readString(Path.of(RAND_JSON_CACHE_SAVE_PATH + "/sample-fixed.json"));
+        var tagged = Files.readString(Path.of(RAND_JSON_CACHE_SAVE_PATH + "/sample-tag.json"));
+
+        var random = new Random(42);
+        var images = new ArrayList<Image>();
+        for (int index = 0; index < 20_000; index++) {
+            var image = ImageBinder.bind(index % 2 == 0 ? fixed : tagged);
+            image.id = image.id + "-" + index;
+            image.likes = random.nextInt(1000);
+            image.views = random.nextInt(1_000_000);
+            image.metadata.dimension.width = 1000 + random.nextInt(6000);
+            images.add(image);
+        }
+
+        var store = new ImageStatsStore();
+        store.addAll(images);
+        out.println(store);
+
+        var wide = store.filter(Column.WIDTH, 5000, Integer.MAX_VALUE);
+        var top = store.topK(wide, Column.LIKES, 5);
+        for (var row : top) out.println(store.id(row) + " " + store.get(Column.LIKES, row) + " " + store.color(row));
+
+        var expected = images.stream()
+                .filter(image -> image.metadata.dimension.width >= 5000)
+                .sorted(Comparator.comparingLong((Image image) -> image.likes).reversed())
+                .limit(5).map(image -> image.id).collect(Collectors.toList());
+        var actual = new ArrayList<String>();
+        for (var row : top) actual.add(store.id(row));
+        out.println("top-k " + (expected.equals(actual) ? "OK" : "MISMATCH " + expected));
+
+        var sorted = store.sort(Column.VIEWS, false);
+        var ordered = true;
+        for (int index = 1; index < sorted.length; index++)
+            ordered &= store.get(Column.VIEWS, sorted[index - 1]) <= store.get(Column.VIEWS, sorted[index]);
+        out.println("sort " + (ordered && sorted.length == store.size() ? "OK" : "MISMATCH"));
+        out.println(store.filterColor(store.color(0)).length + " images of color " + store.color(0));
+    }
+}
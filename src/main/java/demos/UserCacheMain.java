@@ -0,0 +1,39 @@
+package demos;
+
+import models.Image;
+import utils.UserCache;
+import utils.json.ImageBinder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import static java.lang.System.out;
+import static utils.paths.RandomPaths.RAND_JSON_CACHE_SAVE_PATH;
+
+public class UserCacheMain {
+
+    public static void main(String... args) throws IOException {
+        var fixed = Files.readString(Path.of(RAND_JSON_CACHE_SAVE_PATH + "/sample-fixed.json"));
+        var tagged = Files.readString(Path.of(RAND_JSON_CACHE_SAVE_PATH + "/sample-tag.json"));
+
+        var cache = new UserCache(1);
+        var images = new ArrayList<Image>();
+        for (int index = 0; index < 4; index++) {
+            images.add(cache.intern(ImageBinder.bind(fixed)));
+            images.add(cache.intern(ImageBinder.bind(fixed)));
+            images.add(cache.intern(ImageBinder.bind(tagged)));
+        }
+        out.println(images.get(0).userAccountInfo == images.get(1).userAccountInfo);
+        out.println(images.get(0).userAccountInfo == images.get(3).userAccountInfo);
+        out.println(cache.stats() + " " + cache.stats().hitRate());
+
+        cache = new UserCache(16);
+        for (int index = 0; index < 4; index++) {
+            cache.intern(ImageBinder.bind(fixed));
+            cache.intern(ImageBinder.bind(tagged));
+        }
+        out.println(cache.stats() + " " + cache.stats().hitRate());
+    }
+}
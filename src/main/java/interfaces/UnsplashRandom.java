@@ -2,9 +2,11 @@ package interfaces;
 
 import annotations.Author;
 import org.json.JSONObject;
+import utils.http.HttpEngine;
 
 import java.io.Serializable;
 import java.net.http.HttpRequest;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * This interface provides all the methods that has to be implemented in
@@ -32,10 +34,18 @@ public interface UnsplashRandom extends Serializable {
      * Prepared link for entering the API key, which is saved in an {@code .env}
      * file, which should be loaded on runtime and be replaced with the
      * {@code API_KEY} substring ath the end of the link.<br/>
-     * <b>Example</b>: {@code API_LINK.replace("API_KEY", "29837523bn532jk")}
+     * <b>Example</b>: {@code API_LINK.replace("API_KEY", "29837523bn532jk")}<br/>
+     * Note: The implementations should use {@link HttpEngine#apiLink()} which defaults to this link but,
+     * can be pointed at another server.
      */
     String API_LINK = "https://api.unsplash.com/photos/random/?client_id=API_KEY";
 
+    /**
+     * The system property that holds the API key when there's no {@code .env} file, mainly useful for
+     * pointing the implementations at a local stand-in server
+     */
+    String API_KEY_PROPERTY = "unsplash.api.key";
+
     /**
      * It is an extension of the {@code API LINK} prepared link field. Essentially,
      * this is also a prepared link that must be replaced first with {@code CATEGORY}
@@ -44,6 +54,32 @@ public interface UnsplashRandom extends Serializable {
      */
     String LINK_SUBPART_QUERY = "&query=CATEGORY";
 
+    /**
+     * Another extension of the {@code API LINK} prepared link field. When it is appended the API
+     * returns a JSON array of {@code COUNT} random images instead of a single JSON object, so
+     * that many images can be fetched in one round-trip. Note that the API only allows up to
+     * {@link UnsplashRandom#MAX_COUNT} images per request.<br/>
+     * <b>Example</b>: {@code API_LINK + LINK_SUBPART_COUNT.replace("COUNT", "30")}
+     */
+    String LINK_SUBPART_COUNT = "&count=COUNT";
+
+    /**
+     * The maximum amount of images that the API will return in one batch request
+     *
+     * @see UnsplashRandom#LINK_SUBPART_COUNT
+     */
+    int MAX_COUNT = 30;
+
+    /**
+     * The transport that should be used for every request made by the implementation. By default,
+     * it is the {@link HttpEngine#shared()} engine so that all the implementations reuse the same
+     * pooled connections, override it if the implementation allows injecting its own engine.
+     *
+     * @return an {@link HttpEngine} instance
+     * @see HttpEngine
+     */
+    default HttpEngine engine() { return HttpEngine.shared(); }
+
     /**
      * Should load the image to the JSON or, parse it to other format, preferably, XML.
      * Also note that this project uses {@link org.json} library, so it would be optimal
@@ -117,6 +153,61 @@ public interface UnsplashRandom extends Serializable {
      */
     boolean toJPG(String filename);
 
+    /**
+     * The non-blocking counterpart of {@link UnsplashRandom#init()}. The returned future should be
+     * composed from the request all the way to the parsing of the JSON, so that no thread is pinned
+     * while waiting for the server. By default, it merely runs {@link UnsplashRandom#init()} on the
+     * {@link HttpEngine#executor()} of the {@link UnsplashRandom#engine()}, override it with a truly
+     * non-blocking pipeline if possible.
+     *
+     * @return a {@link CompletableFuture} that completes with the same value {@link UnsplashRandom#init()}
+     * would've returned
+     * @see CompletableFuture
+     */
+    default CompletableFuture<Boolean> initAsync() {
+        return CompletableFuture.supplyAsync(this::init, engine().executor());
+    }
+
+    /**
+     * The non-blocking counterpart of {@link UnsplashRandom#toJSON()}. Note that, the JSON that is
+     * cached at the time of the call is the one that will be written. By default, it runs
+     * {@link UnsplashRandom#toJSON()} on the {@link HttpEngine#executor()} of the {@link UnsplashRandom#engine()}.
+     *
+     * @return a {@link CompletableFuture} that completes with the same value {@link UnsplashRandom#toJSON()}
+     * would've returned
+     * @see CompletableFuture
+     */
+    default CompletableFuture<Boolean> toJSONAsync() {
+        return CompletableFuture.supplyAsync(this::toJSON, engine().executor());
+    }
+
+    /**
+     * The non-blocking counterpart of {@link UnsplashRandom#toJPG()}. Note that, the image that is
+     * cached at the time of the call is the one that will be downloaded. By default, it runs
+     * {@link UnsplashRandom#toJPG()} on the {@link HttpEngine#executor()} of the {@link UnsplashRandom#engine()}.
+     *
+     * @return a {@link CompletableFuture} that completes with the same value {@link UnsplashRandom#toJPG()}
+     * would've returned
+     * @see CompletableFuture
+     */
+    default CompletableFuture<Boolean> toJPGAsync() {
+        return CompletableFuture.supplyAsync(this::toJPG, engine().executor());
+    }
+
+    /**
+     * The non-blocking counterpart of {@link UnsplashRandom#toJPG(String)}. By default, it runs
+     * {@link UnsplashRandom#toJPG(String)} on the {@link HttpEngine#executor()} of the
+     * {@link UnsplashRandom#engine()}.
+     *
+     * @param filename the name of the file
+     * @return a {@link CompletableFuture} that completes with the same value
+     * {@link UnsplashRandom#toJPG(String)} would've returned
+     * @see CompletableFuture
+     */
+    default CompletableFuture<Boolean> toJPGAsync(String filename) {
+        return CompletableFuture.supplyAsync(() -> toJPG(filename), engine().executor());
+    }
+
     /**
      * Clears all the stored caches and makes the implementation reusable i.e., prime-able
      * for another image fetch.
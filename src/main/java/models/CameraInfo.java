@@ -1,10 +1,13 @@
 package models;
 
+import models.model_utils.JsonWriter;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Unmodifiable;
 import org.json.JSONObject;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.List;
@@ -42,7 +45,7 @@ public class CameraInfo implements Serializable {
      */
     public final Integer iso;
 
-    public CameraInfo(String make, String model, String exposureTime, String aperture, String focalLength, int iso) {
+    public CameraInfo(String make, String model, String exposureTime, String aperture, String focalLength, Integer iso) {
         this.make = make;
         this.model = model;
         this.exposureTime = exposureTime;
@@ -64,6 +67,43 @@ public class CameraInfo implements Serializable {
         return jsonBuilder;
     }
 
+    /**
+     * Writes the exif fields straight into the writer, in the order of {@link EXIFKeys#getAllKeys()}
+     *
+     * @param writer the writer
+     * @throws IOException if the target of the writer fails
+     */
+    public void writeJSON(@NotNull JsonWriter writer) throws IOException {
+        writer.beginObject()
+              .name(EXIFKeys.MAKE).value(make)
+              .name(EXIFKeys.MODEL).value(model)
+              .name(EXIFKeys.EXPOSURE_TIME).value(exposureTime)
+              .name(EXIFKeys.APERTURE).value(aperture)
+              .name(EXIFKeys.FOCAL_LENGTH).value(focalLength)
+              .name(EXIFKeys.ISO).value((Object) iso)
+              .endObject();
+    }
+
+    /**
+     * Streams the exif fields into the appendable, the same JSON as {@link CameraInfo#toJSON()}
+     *
+     * @param out the target, e.g. a {@link StringBuilder} or, a {@link java.io.Writer}
+     * @throws IOException if the target fails
+     */
+    public void writeJSON(@NotNull Appendable out) throws IOException { writeJSON(new JsonWriter(out)); }
+
+    /**
+     * Streams the exif fields into the stream as UTF-8
+     *
+     * @param out the target stream, it is flushed but not closed
+     * @throws IOException if the stream fails
+     */
+    public void writeJSON(@NotNull OutputStream out) throws IOException {
+        var writer = JsonWriter.of(out);
+        writeJSON(writer);
+        writer.flush();
+    }
+
     public static final class EXIFKeys {
         public static final String MAKE = "make";
         public static final String MODEL = "model";
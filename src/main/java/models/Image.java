@@ -1,12 +1,17 @@
 package models;
 
+import models.model_utils.JsonWriter;
 import models.model_utils.Location;
+import org.jetbrains.annotations.NotNull;
 import org.json.JSONArray;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Serial;
 import java.io.Serializable;
 import java.net.URL;
 import java.util.Map;
+import java.util.Objects;
 
 public class Image implements Serializable {
     /**
@@ -37,6 +42,81 @@ public class Image implements Serializable {
 
     public boolean selfLikes;
 
+    /**
+     * Streams the image in the shape of the unsplash.com photo JSON, i.e., the metadata fields are written
+     * at the top level along with the nested {@code urls}, {@code links}, {@code user}, {@code exif} and
+     * {@code location} objects, the timestamps are written as their source strings
+     *
+     * @param writer the writer
+     * @throws IOException if the target of the writer fails
+     */
+    public void writeJSON(@NotNull JsonWriter writer) throws IOException {
+        writer.beginObject().name("id").value(id);
+        if (Objects.nonNull(metadata)) {
+            writer.name("created_at").value(source(metadata.createdAt))
+                  .name("updated_at").value(source(metadata.updatedAt));
+        }
+        writer.name("promoted_at").value(source(promotedAt));
+        if (Objects.nonNull(metadata)) {
+            if (Objects.nonNull(metadata.dimension))
+                writer.name("width").value(metadata.dimension.width).name("height").value(metadata.dimension.height);
+            writer.name("color").value(metadata.color)
+                  .name("blur_hash").value(metadata.blurhash);
+        }
+        writer.name("description").value(description)
+              .name("alt_description").value(altDescription);
+        writeLinks(writer.name("urls"), imageSizeLinks);
+        writeLinks(writer.name("links"), imageInfoLinks);
+        writer.name("likes").value(likes)
+              .name("liked_by_user").value(selfLikes)
+              .name("current_user_collections").value(currentUserCollections)
+              .name("sponsorship").value(sponsorship);
+        writer.name(ImageJSONKeys.USER);
+        if (Objects.nonNull(userAccountInfo)) userAccountInfo.writeJSON(writer);
+        else writer.nullValue();
+        writer.name("exif");
+        if (Objects.nonNull(exif)) exif.writeJSON(writer);
+        else writer.nullValue();
+        writer.name("location");
+        if (Objects.nonNull(location)) location.writeJSON(writer);
+        else writer.nullValue();
+        writer.name("views").value(views)
+              .name("downloads").value(downloads)
+              .endObject();
+    }
+
+    /**
+     * Streams the image into the appendable, e.g. to export a batch of images into one document
+     *
+     * @param out the target, e.g. a {@link StringBuilder} or, a {@link java.io.Writer}
+     * @throws IOException if the target fails
+     */
+    public void writeJSON(@NotNull Appendable out) throws IOException {writeJSON(new JsonWriter(out));}
+
+    /**
+     * Streams the image into the stream as UTF-8
+     *
+     * @param out the target stream, it is flushed but not closed
+     * @throws IOException if the stream fails
+     */
+    public void writeJSON(@NotNull OutputStream out) throws IOException {
+        var writer = JsonWriter.of(out);
+        writeJSON(writer);
+        writer.flush();
+    }
+
+    private static String source(ImageDateTime dateTime) {return Objects.isNull(dateTime) ? null : dateTime.source();}
+
+    private static void writeLinks(JsonWriter writer, Map<String, URL> links) throws IOException {
+        if (Objects.isNull(links)) {
+            writer.nullValue();
+            return;
+        }
+        writer.beginObject();
+        for (var link : links.entrySet()) writer.name(link.getKey()).value(link.getValue());
+        writer.endObject();
+    }
+
     public interface ImageSizes {
         String RAW = "raw";
         String FULL = "full";
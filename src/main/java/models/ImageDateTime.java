@@ -1,22 +1,32 @@
 package models;
 
 import annotations.Author;
+import models.model_utils.JsonWriter;
+import models.model_utils.LazyEntries;
 import org.jetbrains.annotations.NotNull;
 import org.json.JSONObject;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Serial;
 import java.io.Serializable;
+import java.time.DateTimeException;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.chrono.Chronology;
+import java.time.chrono.IsoChronology;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
 import java.time.temporal.TemporalQueries;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Spliterator;
 import java.util.function.Consumer;
+import java.util.function.IntFunction;
 
 /**
  * This class will parse all the dates from the image JSON file. Note that the JSON file will
@@ -46,113 +56,312 @@ import java.util.function.Consumer;
 )
 public class ImageDateTime implements Serializable, Iterable<Map.Entry<String, Object>> {
     /**
-     * The raw string that should follow the {@link DateTimeFormatter#ISO_DATE_TIME} format.
+     * The raw string that should follow the {@link DateTimeFormatter#ISO_DATE_TIME} format. It is only kept
+     * for the sources that don't have the fixed {@code yyyy-MM-ddTHH:mm:ssxxx} shape of the unsplash.com
+     * timestamps, for those it is {@code null} and {@link ImageDateTime#source()} rebuilds it on demand.
      *
      * @see DateTimeFormatter
      * @see DateTimeFormatter#ISO_DATE_TIME
      */
     private final String dateSource;
-
     /**
-     * The date part that will be extracted from the {@link ImageDateTime#dateSource} after parsing.
-     *
-     * @see LocalDate
+     * The point in time as seconds since {@code 1970-01-01T00:00:00Z}, if the source has no offset then
+     * the local date and time are taken as UTC
      */
-    private final LocalDate date;
+    private final long epochSecond;
     /**
-     * The time part that will be extracted from the {@link ImageDateTime#dateSource} after parsing.
+     * The zone offset of the source in seconds, {@code 0} if the source has no offset
      *
-     * @see LocalTime
+     * @see ZoneOffset#getTotalSeconds()
      */
-    private final LocalTime time;
+    private final int offsetSeconds;
 
     /**
-     * The chronology part that will be extracted from the {@link ImageDateTime#dateSource} after parsing.
-     *
-     * @see Chronology
-     */
-    private final Chronology chronology;
-    /**
-     * The zone offset part that will be extracted from the {@link ImageDateTime#dateSource} after parsing.
+     * The local date and time, materialised from {@link ImageDateTime#epochSecond} and
+     * {@link ImageDateTime#offsetSeconds} on the first access
      *
-     * @see ZoneOffset
+     * @see LocalDateTime
      */
-    private final ZoneOffset offset;
+    private transient LocalDateTime localDateTime;
     /**
-     * The zone id part that will be extracted from the {@link ImageDateTime#dateSource} after parsing.
+     * The result of the general purpose {@link DateTimeFormatter#ISO_DATE_TIME} parser, only used for the
+     * sources that don't have the fixed shape, i.e., {@link ImageDateTime#dateSource} isn't {@code null}
      *
-     * @see ZoneId
+     * @see TemporalAccessor
      */
-    private final ZoneId zone;
+    private transient TemporalAccessor accessor;
 
     /**
      * The serial version number field that will assist the JVM to correctly
      * cast/parse the object.
      */
     @Serial
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
+
+    /**
+     * The names of the fields in the order of {@link ImageDateTime#toJSON()}, used by the iterators
+     */
+    private static final String[] FIELDS = {"date", "time", "chronology", "offset", "zone"};
+    /**
+     * The length of the fixed {@code yyyy-MM-ddTHH:mm:ssxxx} shape
+     */
+    private static final int FIXED_LENGTH = 25;
+    /**
+     * The amount of days from {@code 0000-01-01} to {@code 1970-01-01}
+     */
+    private static final long DAYS_0000_TO_1970 = 719528L;
 
     /**
      * A constructor, that parses all the necessary information about the raw date string
      * right when an instance is created. Note that it isn't reusable i.e., You'd need to declare
-     * another instance if you want to parse another date source string.
+     * another instance if you want to parse another date source string.<br/>
+     * The unsplash.com timestamps always have the fixed {@code yyyy-MM-ddTHH:mm:ssxxx} shape, those are
+     * parsed by hand straight into {@link ImageDateTime#epochSecond} and {@link ImageDateTime#offsetSeconds},
+     * every other source falls back to {@link DateTimeFormatter#ISO_DATE_TIME}.
      *
      * @param dateSource the dataSource that needs to be parsed
+     * @throws java.time.format.DateTimeParseException if the source isn't an ISO 8601 date time
      * @see DateTimeFormatter#parse(CharSequence)
      * @see TemporalQueries
      */
     public ImageDateTime(String dateSource) {
+        var fixed = parseFixed(dateSource);
+        if (Objects.nonNull(fixed)) {
+            this.dateSource = null;
+            this.epochSecond = fixed[0];
+            this.offsetSeconds = (int) fixed[1];
+            return;
+        }
+
         var accessor = DateTimeFormatter.ISO_DATE_TIME.parse(dateSource);
+        var local = LocalDateTime.of(accessor.query(TemporalQueries.localDate()),
+                                     accessor.query(TemporalQueries.localTime()));
+        var offset = accessor.query(TemporalQueries.offset());
         this.dateSource = dateSource;
+        this.accessor = accessor;
+        this.offsetSeconds = Objects.isNull(offset) ? 0 : offset.getTotalSeconds();
+        this.epochSecond = local.toEpochSecond(Objects.isNull(offset) ? ZoneOffset.UTC : offset);
+    }
+
+    /**
+     * Creates a date time from a point in time and an offset, the {@link ImageDateTime#source()} will be in the
+     * fixed {@code yyyy-MM-ddTHH:mm:ssxxx} shape
+     *
+     * @param epochSecond   the seconds since {@code 1970-01-01T00:00:00Z}
+     * @param offsetSeconds the zone offset in seconds
+     * @throws java.time.DateTimeException if the offset is out of range or, the year doesn't have four digits
+     */
+    private ImageDateTime(long epochSecond, int offsetSeconds) {
+        this.dateSource = null;
+        this.epochSecond = epochSecond;
+        this.offsetSeconds = ZoneOffset.ofTotalSeconds(offsetSeconds).getTotalSeconds();
+        var year = local().getYear();
+        if (year < 0 || year > 9999) throw new DateTimeException("year out of range: " + year);
+    }
+
+    /**
+     * Creates a date time from a point in time and an offset without going through a string, e.g. when the
+     * value has been stored as {@link ImageDateTime#epochSecond()} and {@link ImageDateTime#offset()}
+     *
+     * @param epochSecond   the seconds since {@code 1970-01-01T00:00:00Z}
+     * @param offsetSeconds the zone offset in seconds
+     * @return an {@link ImageDateTime} instance whose source has the fixed shape
+     */
+    public static @NotNull ImageDateTime of(long epochSecond, int offsetSeconds) {
+        return new ImageDateTime(epochSecond, offsetSeconds);
+    }
+
+    /**
+     * Parses the fixed {@code yyyy-MM-ddTHH:mm:ssxxx} shape by hand
+     *
+     * @param source the raw date string
+     * @return the epoch second and the offset in seconds, {@code null} if the source doesn't have the fixed
+     * shape or, isn't a valid date time, in which case the general parser decides
+     */
+    private static long[] parseFixed(String source) {
+        if (Objects.isNull(source) || source.length() != FIXED_LENGTH) return null;
+        if (source.charAt(4) != '-' || source.charAt(7) != '-' || source.charAt(10) != 'T'
+            || source.charAt(13) != ':' || source.charAt(16) != ':' || source.charAt(22) != ':') return null;
+        var sign = source.charAt(19);
+        if (sign != '+' && sign != '-') return null;
+
+        var year = digits(source, 0, 4);
+        var month = digits(source, 5, 2);
+        var day = digits(source, 8, 2);
+        var hour = digits(source, 11, 2);
+        var minute = digits(source, 14, 2);
+        var second = digits(source, 17, 2);
+        var offsetHour = digits(source, 20, 2);
+        var offsetMinute = digits(source, 23, 2);
+        if ((year | month | day | hour | minute | second | offsetHour | offsetMinute) < 0) return null;
+        if (month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) return null;
+        if (hour > 23 || minute > 59 || second > 59 || offsetHour > 18 || offsetMinute > 59) return null;
+        var offset = offsetHour * 3600 + offsetMinute * 60;
+        // -00:00 is valid but it wouldn't survive the round trip through source()
+        if (offset > 18 * 3600 || offset == 0 && sign == '-') return null;
+        if (sign == '-') offset = -offset;
+
+        var epochDay = epochDay(year, month, day);
+        return new long[]{epochDay * 86400 + hour * 3600 + minute * 60 + second - offset, offset};
+    }
+
+    /**
+     * @return the value of the decimal digits, {@code -1} if any of the characters isn't a digit
+     */
+    private static int digits(String source, int start, int count) {
+        var value = 0;
+        for (int index = start; index < start + count; index++) {
+            var digit = source.charAt(index) - '0';
+            if (digit < 0 || digit > 9) return -1;
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static boolean isLeapYear(long year) {return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);}
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2: return isLeapYear(year) ? 29 : 28;
+            case 4: case 6: case 9: case 11: return 30;
+            default: return 31;
+        }
+    }
+
+    /**
+     * The same computation as {@link LocalDate#toEpochDay()} for the non-negative years
+     */
+    private static long epochDay(long year, long month, long day) {
+        long total = 365 * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12 + day - 1;
+        if (month > 2) total -= isLeapYear(year) ? 1 : 2;
+        return total - DAYS_0000_TO_1970;
+    }
 
-        this.date = accessor.query(TemporalQueries.localDate());
-        this.time = accessor.query(TemporalQueries.localTime());
-        this.chronology = accessor.query(TemporalQueries.chronology());
-        this.offset = accessor.query(TemporalQueries.offset());
-        this.zone = accessor.query(TemporalQueries.zone());
+    /**
+     * @return the local date and time, materialised on the first call
+     */
+    private LocalDateTime local() {
+        var local = localDateTime;
+        if (Objects.isNull(local))
+            localDateTime = local = LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.ofTotalSeconds(offsetSeconds));
+        return local;
+    }
+
+    /**
+     * @return the result of the general purpose parser, {@code null} for the sources with the fixed shape
+     */
+    private TemporalAccessor parsed() {
+        if (Objects.isNull(dateSource)) return null;
+        var parsed = accessor;
+        if (Objects.isNull(parsed)) accessor = parsed = DateTimeFormatter.ISO_DATE_TIME.parse(dateSource);
+        return parsed;
     }
 
     /**
-     * Getter for {@link ImageDateTime#date}, extracting the date fragment out of the raw date string
+     * Getter for the date, extracting the date fragment out of the raw date string
      *
      * @return a {@link LocalDate} instance that will contain the date fragment.
      */
-    public LocalDate date() { return date; }
+    public LocalDate date() {
+        var parsed = parsed();
+        return Objects.isNull(parsed) ? local().toLocalDate() : parsed.query(TemporalQueries.localDate());
+    }
 
     /**
-     * Getter for {@link ImageDateTime#time}, extracting the time fragment out of the raw date string
+     * Getter for the time, extracting the time fragment out of the raw date string
      *
      * @return a {@link LocalTime} instance that will contain the time fragment
      */
-    public LocalTime time() { return time; }
+    public LocalTime time() {
+        var parsed = parsed();
+        return Objects.isNull(parsed) ? local().toLocalTime() : parsed.query(TemporalQueries.localTime());
+    }
 
     /**
-     * Getter for {@link ImageDateTime#chronology}, extracting the chronology fragment out of the raw date string
+     * Getter for the chronology, extracting the chronology fragment out of the raw date string
      *
      * @return a {@link Chronology} instance that will contain the chronology fragment
      */
-    public Chronology chronology() { return chronology; }
+    public Chronology chronology() {
+        var parsed = parsed();
+        return Objects.isNull(parsed) ? IsoChronology.INSTANCE : parsed.query(TemporalQueries.chronology());
+    }
 
     /**
-     * Getter for {@link ImageDateTime#offset}, extracting the zone offset fragment out of the raw date string
+     * Getter for the zone offset, extracting the zone offset fragment out of the raw date string
      *
-     * @return a {@link ZoneOffset} instance that will contain the offset fragment
+     * @return a {@link ZoneOffset} instance that will contain the offset fragment, {@code null} if the source
+     * doesn't have an offset
      */
-    public ZoneOffset offset() { return offset; }
+    public ZoneOffset offset() {
+        var parsed = parsed();
+        return Objects.isNull(parsed) ? ZoneOffset.ofTotalSeconds(offsetSeconds) : parsed.query(TemporalQueries.offset());
+    }
 
     /**
-     * Getter for {@link ImageDateTime#zone}, extracting the zone id fragment out of the date source string
+     * Getter for the zone id, extracting the zone id fragment out of the date source string
      *
      * @return a {@link ZoneId} instance that will contain the zone id fragment
      */
-    public ZoneId zone() { return zone; }
+    public ZoneId zone() {
+        var parsed = parsed();
+        return Objects.isNull(parsed) ? offset() : parsed.query(TemporalQueries.zone());
+    }
 
     /**
-     * Getter for {@link ImageDateTime#dateSource} string
+     * Getter for the point in time, this is the cheapest way to compare or, sort the dates as it doesn't
+     * materialise any {@code java.time} object
+     *
+     * @return the seconds since {@code 1970-01-01T00:00:00Z}, if the source has no offset then the local
+     * date and time are taken as UTC
+     */
+    public long epochSecond() { return epochSecond; }
+
+    /**
+     * Checks whether the date time is stored as nothing but the {@link ImageDateTime#epochSecond()} and the
+     * {@link ImageDateTime#offset()}, i.e., the source has the fixed {@code yyyy-MM-ddTHH:mm:ssxxx} shape
+     * and {@link ImageDateTime#source()} is rebuilt from those two
+     *
+     * @return {@code true} if the source has the fixed shape
+     */
+    public boolean isCompact() { return Objects.isNull(dateSource); }
+
+    /**
+     * Getter for {@link ImageDateTime#dateSource} string, it is rebuilt from the
+     * {@link ImageDateTime#epochSecond()} and the {@link ImageDateTime#offset()} for the compact date times
      *
      * @return a {@code String} that'll contain the raw date string
      */
-    public String source() { return dateSource; }
+    public String source() {
+        if (Objects.nonNull(dateSource)) return dateSource;
+        var local = local();
+        var chars = new char[FIXED_LENGTH];
+        put(chars, 0, local.getYear(), 4);
+        chars[4] = '-';
+        put(chars, 5, local.getMonthValue(), 2);
+        chars[7] = '-';
+        put(chars, 8, local.getDayOfMonth(), 2);
+        chars[10] = 'T';
+        put(chars, 11, local.getHour(), 2);
+        chars[13] = ':';
+        put(chars, 14, local.getMinute(), 2);
+        chars[16] = ':';
+        put(chars, 17, local.getSecond(), 2);
+        chars[19] = offsetSeconds < 0 ? '-' : '+';
+        var offset = Math.abs(offsetSeconds);
+        put(chars, 20, offset / 3600, 2);
+        chars[22] = ':';
+        put(chars, 23, offset / 60 % 60, 2);
+        return new String(chars);
+    }
+
+    private static void put(char[] chars, int start, int value, int count) {
+        for (int index = start + count - 1; index >= start; index--) {
+            chars[index] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
 
     /**
      * This method will check for nullity for all objects if the said object turns out to be
@@ -174,22 +383,73 @@ public class ImageDateTime implements Serializable, Iterable<Map.Entry<String, O
      */
     public JSONObject toJSON() {
         var jsonBuilder = new JSONObject();
-        jsonBuilder.put("date", escapeNull(date));
-        jsonBuilder.put("time", escapeNull(time));
-        jsonBuilder.put("chronology", escapeNull(chronology));
-        jsonBuilder.put("offset", escapeNull(offset));
-        jsonBuilder.put("zone", escapeNull(zone));
+        jsonBuilder.put("date", escapeNull(date()));
+        jsonBuilder.put("time", escapeNull(time()));
+        jsonBuilder.put("chronology", escapeNull(chronology()));
+        jsonBuilder.put("offset", escapeNull(offset()));
+        jsonBuilder.put("zone", escapeNull(zone()));
         return jsonBuilder;
     }
 
     /**
-     * Returns an iterator over elements of type {@code T}.
+     * Writes the same fields as {@link ImageDateTime#toJSON()} straight into the writer, the date and time
+     * parts are written as their ISO strings
+     *
+     * @param writer the writer
+     * @throws IOException if the target of the writer fails
+     */
+    public void writeJSON(@NotNull JsonWriter writer) throws IOException {
+        writer.beginObject();
+        for (int index = 0; index < FIELDS.length; index++) writer.name(FIELDS[index]).value(field(index));
+        writer.endObject();
+    }
+
+    /**
+     * Writes the date fields into the appendable without building the {@link JSONObject}
+     *
+     * @param out the target, e.g. a {@link StringBuilder} or, a {@link java.io.Writer}
+     * @throws IOException if the target fails
+     */
+    public void writeJSON(@NotNull Appendable out) throws IOException { writeJSON(new JsonWriter(out)); }
+
+    /**
+     * Writes the date fields into the stream as UTF-8 without building the {@link JSONObject}
+     *
+     * @param out the target stream, it is flushed but not closed
+     * @throws IOException if the stream fails
+     */
+    public void writeJSON(@NotNull OutputStream out) throws IOException {
+        var writer = JsonWriter.of(out);
+        writeJSON(writer);
+        writer.flush();
+    }
+
+    /**
+     * Looks up the value of one of the {@link ImageDateTime#FIELDS}
+     *
+     * @param index the index of the field
+     * @return the value of the field, {@link JSONObject#NULL} if it is {@code null}
+     */
+    private Object field(int index) {
+        switch (index) {
+            case 0: return escapeNull(date());
+            case 1: return escapeNull(time());
+            case 2: return escapeNull(chronology());
+            case 3: return escapeNull(offset());
+            default: return escapeNull(zone());
+        }
+    }
+
+    /**
+     * Returns a lazy iterator over the same fields as {@link ImageDateTime#toJSON()} does, without building
+     * the {@link JSONObject}, a field's value is only looked up once it is visited.
      *
      * @return an Iterator.
+     * @see LazyEntries#iterator(String[], IntFunction)
      */
     @NotNull
     @Override
-    public Iterator<Map.Entry<String, Object>> iterator() { return toJSON().toMap().entrySet().iterator(); }
+    public Iterator<Map.Entry<String, Object>> iterator() { return LazyEntries.iterator(FIELDS, this::field); }
 
     /**
      * Performs the given action for each element of the {@code Iterable}
@@ -214,24 +474,14 @@ public class ImageDateTime implements Serializable, Iterable<Map.Entry<String, O
     public void forEach(Consumer<? super Map.Entry<String, Object>> action) { Iterable.super.forEach(action); }
 
     /**
-     * Creates a {@link Spliterator} over the elements described by this
-     * {@code Iterable}.
+     * Creates a sized {@link Spliterator} over the same fields as {@link ImageDateTime#iterator()}, it splits
+     * by halving the range of the fields and never builds the {@link JSONObject}.
      *
-     * @return a {@code Spliterator} over the elements described by this
-     * {@code Iterable}.
-     * The default implementation creates an
-     * <em><a href="../util/Spliterator.html#binding">early-binding</a></em>
-     * spliterator from the iterable's {@code Iterator}.  The spliterator
-     * inherits the <em>fail-fast</em> properties of the iterable's iterator.
-     * The default implementation should usually be overridden.  The
-     * spliterator returned by the default implementation has poor splitting
-     * capabilities, is unsized, and does not report any spliterator
-     * characteristics. Implementing classes can nearly always provide a
-     * better implementation.
-     * @since 1.8
+     * @return a {@code Spliterator} over the fields of this date
+     * @see LazyEntries#spliterator(String[], IntFunction)
      */
     @Override
-    public Spliterator<Map.Entry<String, Object>> spliterator() { return Iterable.super.spliterator(); }
+    public Spliterator<Map.Entry<String, Object>> spliterator() { return LazyEntries.spliterator(FIELDS, this::field); }
 
     /**
      * Returns a string representation of the object. In general, the
@@ -2,10 +2,15 @@ package models;
 
 import annotations.Author;
 import models.model_utils.Dimension;
+import models.model_utils.JsonWriter;
+import org.jetbrains.annotations.NotNull;
 import org.json.JSONObject;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.Objects;
 
 
 /**
@@ -73,4 +78,41 @@ public class ImageMetadata implements Serializable {
         jsonBuilder.put("updated_at", this.updatedAt.date());
         return jsonBuilder;
     }
+
+    /**
+     * Streams the same fragment as {@link ImageMetadata#toJSON()} into the writer, i.e., the {@code null}
+     * strings are left out and the dates are written as their {@link ImageDateTime#date()}
+     *
+     * @param writer the writer
+     * @throws IOException if the target of the writer fails
+     */
+    public void writeJSON(@NotNull JsonWriter writer) throws IOException {
+        writer.beginObject();
+        if (Objects.nonNull(blurhash)) writer.name("blur_hash").value(blurhash);
+        if (Objects.nonNull(color)) writer.name("color").value(color);
+        if (Objects.nonNull(createdAt)) writer.name("created_at").value(createdAt.date());
+        if (Objects.nonNull(updatedAt)) writer.name("updated_at").value(updatedAt.date());
+        if (Objects.nonNull(dimension)) writer.name("width").value(dimension.width).name("height").value(dimension.height);
+        writer.endObject();
+    }
+
+    /**
+     * Streams the metadata fragment into the appendable
+     *
+     * @param out the target, e.g. a {@link StringBuilder} or, a {@link java.io.Writer}
+     * @throws IOException if the target fails
+     */
+    public void writeJSON(@NotNull Appendable out) throws IOException {writeJSON(new JsonWriter(out));}
+
+    /**
+     * Streams the metadata fragment into the stream as UTF-8
+     *
+     * @param out the target stream, it is flushed but not closed
+     * @throws IOException if the stream fails
+     */
+    public void writeJSON(@NotNull OutputStream out) throws IOException {
+        var writer = JsonWriter.of(out);
+        writeJSON(writer);
+        writer.flush();
+    }
 }
@@ -1,17 +1,20 @@
 package models;
 
 import annotations.Author;
+import models.model_utils.JsonWriter;
+import models.model_utils.LinkTable;
 import models.model_utils.Location;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Unmodifiable;
 import org.json.JSONObject;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Serial;
 import java.io.Serializable;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -50,19 +53,31 @@ public class UserAccount implements Serializable {
      * cast/parse the object
      */
     @Serial
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
     /**
-     * The profile size i.e. {@code profile_image} JSON fields will be stored here
+     * The profile size i.e. {@code profile_image} JSON fields will be stored here, the three sizes share
+     * everything but the size parameters, so that part is only stored once
      *
      * @see PFPSizes
+     * @see ProfileSize
      */
     public final Map<String, URL> profileImageSizeLinks;
     /**
-     * The social link url JSON fields will be stored here
+     * The social link url JSON fields will be stored here, the links that follow the usual unsplash.com
+     * shape only store the username
      *
      * @see SocialKeys
+     * @see SocialLink
      */
     public final Map<String, URL> links;
+    /**
+     * The same table as {@link UserAccount#profileImageSizeLinks}, typed as a {@link LinkTable}
+     */
+    private final LinkTable<ProfileSize> profileSizeTable;
+    /**
+     * The same table as {@link UserAccount#links}, typed as a {@link LinkTable}
+     */
+    private final LinkTable<SocialLink> linkTable;
     /**
      * The {@code id} JSON field
      */
@@ -136,20 +151,30 @@ public class UserAccount implements Serializable {
 
     /**
      * The default constructor that only initializes {@link UserAccount#profileImageSizeLinks} and
-     * {@link UserAccount#links} fields with {@link HashMap}
+     * {@link UserAccount#links} fields with an empty {@link LinkTable}, i.e., every key of {@link PFPSizes}
+     * and {@link SocialKeys} is there with a {@code null} link
      */
     public UserAccount() {
-        profileImageSizeLinks = new HashMap<>(3);
-        PFPSizes.getAllKeys().forEach(
-                item -> profileImageSizeLinks.put(item, null)
-        );
-
-        links = new HashMap<>(50);
-        SocialKeys.getAllKeys().forEach(
-                item -> links.put(item, null)
-        );
+        profileImageSizeLinks = profileSizeTable = new LinkTable<>(ProfileSize.class);
+        links = linkTable = new LinkTable<>(SocialLink.class);
     }
 
+    /**
+     * Getter for the {@link UserAccount#profileImageSizeLinks} as the {@link LinkTable} it is, i.e., the
+     * links can be read and written as plain strings without building any {@link URL}
+     *
+     * @return the table of the profile image sizes
+     */
+    public @NotNull LinkTable<ProfileSize> profileSizeTable() {return profileSizeTable;}
+
+    /**
+     * Getter for the {@link UserAccount#links} as the {@link LinkTable} it is, i.e., the links can be
+     * read and written as plain strings without building any {@link URL}
+     *
+     * @return the table of the social links
+     */
+    public @NotNull LinkTable<SocialLink> linkTable() {return linkTable;}
+
     /**
      * This method will check for nullity for all objects if the said object turns out to be
      * {@code null} then {@link JSONObject#NULL} will be returned, otherwise that same object
@@ -235,6 +260,63 @@ public class UserAccount implements Serializable {
         return jsonBuilder;
     }
 
+    /**
+     * Streams the same JSON as {@link UserAccount#toJSON()} into the writer, i.e., the {@code profile_image},
+     * {@code social} and {@code links} objects are written in place rather than being packed into nested
+     * {@link JSONObject}s first
+     *
+     * @param writer the writer
+     * @throws IOException if the target of the writer fails
+     * @see UserKeys
+     */
+    public void writeJSON(@NotNull JsonWriter writer) throws IOException {
+        writer.beginObject()
+              .name(TOTAL_PHOTOS).value(totalPhotosPosted)
+              .name(ACCEPTED_TOS).value(acceptedUnsplashTOS);
+        writer.name(SOCIAL).beginObject()
+              .name(INSTAGRAM_USERNAME).value(instagramUsername)
+              .name(PORTFOLIO_URL).value(portfolioURL)
+              .name(TWITTER_USERNAME).value(twitterUsername)
+              .endObject();
+        writer.name(TWITTER_USERNAME).value(twitterUsername)
+              .name(LAST_NAME).value(lastName)
+              .name(BIO).value(bio)
+              .name(TOTAL_LIKES).value(totalLikes)
+              .name(PORTFOLIO_URL).value(portfolioURL);
+        profileSizeTable.writeJSON(writer.name(PROFILE_IMAGE));
+        writer.name(UPDATED_AT).value(isNull(updatedAt) ? null : updatedAt.source())
+              .name(FOR_HIRE).value(hireable);
+        if (!isNull(name)) writer.name(NAME).value(name);
+        writer.name(LOCATION).value(isNull(location) ? null : location.getCity());
+        linkTable.writeJSON(writer.name(LINKS));
+        writer.name(TOTAL_COLLECTIONS).value(totalPhotoCollections);
+        if (!isNull(id)) writer.name(ID).value(id);
+        if (!isNull(firstName)) writer.name(FIRST_NAME).value(firstName);
+        writer.name(INSTAGRAM_USERNAME).value(instagramUsername);
+        if (!isNull(username)) writer.name(USERNAME).value(username);
+        writer.endObject();
+    }
+
+    /**
+     * Streams the user into the appendable, handy for exporting many users into one document
+     *
+     * @param out the target, e.g. a {@link StringBuilder} or, a {@link java.io.Writer}
+     * @throws IOException if the target fails
+     */
+    public void writeJSON(@NotNull Appendable out) throws IOException {writeJSON(new JsonWriter(out));}
+
+    /**
+     * Streams the user into the stream as UTF-8 without building any {@link JSONObject}
+     *
+     * @param out the target stream, it is flushed but not closed
+     * @throws IOException if the stream fails
+     */
+    public void writeJSON(@NotNull OutputStream out) throws IOException {
+        var writer = JsonWriter.of(out);
+        writeJSON(writer);
+        writer.flush();
+    }
+
     /**
      * Adds an {@link Entry} of user profile picture url with the size key to the available
      * image sizes' list
@@ -328,6 +410,72 @@ public class UserAccount implements Serializable {
         addLink(socialType, new URL(urlSource));
     }
 
+    /**
+     * The {@code profile_image} sizes as the known keys of {@link UserAccount#profileImageSizeLinks}, the
+     * links of every size end with the same size parameters, e.g. {@code &h=32&w=32} for {@link PFPSizes#SMALL}
+     *
+     * @see PFPSizes
+     * @see LinkTable
+     */
+    public enum ProfileSize implements LinkTable.Template {
+        SMALL(PFPSizes.SMALL, 32), MEDIUM(PFPSizes.MEDIUM, 64), LARGE(PFPSizes.LARGE, 128);
+
+        private final String key;
+        private final String tail;
+
+        ProfileSize(String key, int pixels) {
+            this.key = key;
+            this.tail = "&h=" + pixels + "&w=" + pixels;
+        }
+
+        @Override
+        public String key() {return key;}
+
+        @Override
+        public String head() {return "";}
+
+        @Override
+        public String tail() {return tail;}
+    }
+
+    /**
+     * The {@code links} keys as the known keys of {@link UserAccount#links}, all of them are derived from the
+     * username, e.g. {@code https://api.unsplash.com/users/{username}/photos} for {@link SocialKeys#PHOTOS}
+     *
+     * @see SocialKeys
+     * @see LinkTable
+     */
+    public enum SocialLink implements LinkTable.Template {
+        FOLLOWERS(SocialKeys.FOLLOWERS, SocialLink.API, "/" + SocialKeys.FOLLOWERS),
+        FOLLOWING(SocialKeys.FOLLOWING, SocialLink.API, "/" + SocialKeys.FOLLOWING),
+        PORTFOLIO(SocialKeys.PORTFOLIO, SocialLink.API, "/" + SocialKeys.PORTFOLIO),
+        SELF(SocialKeys.SELF, SocialLink.API, ""),
+        HTML(SocialKeys.HTML, "https://unsplash.com/@", ""),
+        PHOTOS(SocialKeys.PHOTOS, SocialLink.API, "/" + SocialKeys.PHOTOS),
+        LIKES(SocialKeys.LIKES, SocialLink.API, "/" + SocialKeys.LIKES);
+
+        private static final String API = "https://api.unsplash.com/users/";
+
+        private final String key;
+        private final String head;
+        private final String tail;
+
+        SocialLink(String key, String head, String tail) {
+            this.key = key;
+            this.head = head;
+            this.tail = tail;
+        }
+
+        @Override
+        public String key() {return key;}
+
+        @Override
+        public String head() {return head;}
+
+        @Override
+        public String tail() {return tail;}
+    }
+
     /**
      * This class is a collection of all {@code profile} JSON key's value keys
      */
@@ -1,7 +1,10 @@
 package models.model_utils;
 
 import annotations.Author;
+import org.jetbrains.annotations.NotNull;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Serial;
 import java.io.Serializable;
 
@@ -48,4 +51,34 @@ public final class Dimension implements Serializable {
      * @param height that assigns the {@link Dimension#height} field
      */
     public Dimension(int width, int height) { this.width = width; this.height = height; }
+
+    /**
+     * Writes the {@code width} and {@code height} fields as a JSON object straight into the writer
+     *
+     * @param writer the writer
+     * @throws IOException if the target of the writer fails
+     */
+    public void writeJSON(@NotNull JsonWriter writer) throws IOException {
+        writer.beginObject().name("width").value(width).name("height").value(height).endObject();
+    }
+
+    /**
+     * Writes the dimension into the appendable
+     *
+     * @param out the target, e.g. a {@link StringBuilder} or, a {@link java.io.Writer}
+     * @throws IOException if the target fails
+     */
+    public void writeJSON(@NotNull Appendable out) throws IOException { writeJSON(new JsonWriter(out)); }
+
+    /**
+     * Writes the dimension into the stream as UTF-8
+     *
+     * @param out the target stream, it is flushed but not closed
+     * @throws IOException if the stream fails
+     */
+    public void writeJSON(@NotNull OutputStream out) throws IOException {
+        var writer = JsonWriter.of(out);
+        writeJSON(writer);
+        writer.flush();
+    }
 }
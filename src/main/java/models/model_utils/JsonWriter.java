@@ -0,0 +1,338 @@
+package models.model_utils;
+
+import annotations.Author;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * This class writes JSON straight to an {@link Appendable} or, as UTF-8 bytes straight to an {@link OutputStream},
+ * i.e., unlike {@code toJSON().toString()} no {@link JSONObject} and no maps are built, the names and values are
+ * emitted in the order they are written. The strings are escaped the same way {@link JSONObject#quote(String)}
+ * does, so the output of the models' {@code writeJSON} methods matches their {@code toJSON()} except for the
+ * order of the keys.<br/>
+ * <b>Example</b>:
+ * <pre>{@code
+ * var writer = JsonWriter.of(outputStream);
+ * writer.beginArray();
+ * for (var user : users) user.writeJSON(writer);
+ * writer.endArray().flush();
+ * }</pre>
+ *
+ * @author ConfusedRobo
+ * @see JSONObject#quote(String)
+ */
+@Author(
+        author = "ConfusedRobo",
+        creation = "Sunday, 18 October, 2026, 09:52:26 PM",
+        profile = "https://github.com/heretickeymaker"
+)
+public final class JsonWriter {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Appendable out;
+    /**
+     * Whether the current object or, array already has an element and the next one needs a comma
+     */
+    private boolean[] hasElements = new boolean[32];
+    private int depth;
+    /**
+     * {@code true} right after a name has been written, the value that follows doesn't need a comma
+     */
+    private boolean afterName;
+
+    /**
+     * Creates a writer that appends the JSON to the given {@link Appendable}, e.g. a {@link StringBuilder}
+     * or, a {@link java.io.Writer}
+     *
+     * @param out the target
+     */
+    public JsonWriter(@NotNull Appendable out) {this.out = Objects.requireNonNull(out);}
+
+    /**
+     * Creates a writer that encodes the JSON as UTF-8 straight into the stream through a small buffer,
+     * {@link JsonWriter#flush()} must be called once the document is complete
+     *
+     * @param out the target stream, it isn't closed by the writer
+     * @return a {@link JsonWriter} instance
+     */
+    public static @NotNull JsonWriter of(@NotNull OutputStream out) {return new JsonWriter(new Utf8Sink(out));}
+
+    /**
+     * @return this writer
+     * @throws IOException if the target fails
+     */
+    public JsonWriter beginObject() throws IOException {return open('{');}
+
+    /**
+     * @return this writer
+     * @throws IOException if the target fails
+     */
+    public JsonWriter endObject() throws IOException {return close('}');}
+
+    /**
+     * @return this writer
+     * @throws IOException if the target fails
+     */
+    public JsonWriter beginArray() throws IOException {return open('[');}
+
+    /**
+     * @return this writer
+     * @throws IOException if the target fails
+     */
+    public JsonWriter endArray() throws IOException {return close(']');}
+
+    /**
+     * Writes the name of the next property
+     *
+     * @param name the name
+     * @return this writer
+     * @throws IOException if the target fails
+     */
+    public JsonWriter name(@NotNull String name) throws IOException {
+        separator();
+        string(name);
+        out.append(':');
+        afterName = true;
+        return this;
+    }
+
+    /**
+     * Writes a string value
+     *
+     * @param value the value, {@code null} is written as a {@code null} literal
+     * @return this writer
+     * @throws IOException if the target fails
+     */
+    public JsonWriter value(@Nullable String value) throws IOException {
+        if (Objects.isNull(value)) return nullValue();
+        separator();
+        string(value);
+        return this;
+    }
+
+    /**
+     * Writes a number value
+     *
+     * @param value the value
+     * @return this writer
+     * @throws IOException if the target fails
+     */
+    public JsonWriter value(long value) throws IOException {
+        separator();
+        out.append(Long.toString(value));
+        return this;
+    }
+
+    /**
+     * Writes a boolean value
+     *
+     * @param value the value
+     * @return this writer
+     * @throws IOException if the target fails
+     */
+    public JsonWriter value(boolean value) throws IOException {
+        separator();
+        out.append(value ? "true" : "false");
+        return this;
+    }
+
+    /**
+     * Writes an arbitrary value the way {@link JSONObject#toString()} would, i.e., {@code null} and
+     * {@link JSONObject#NULL} become a {@code null} literal, numbers and booleans are written as they are,
+     * {@link JSONObject}s and {@link JSONArray}s are written as their JSON and, anything else
+     * (urls, dates, etc.) is written as the quoted {@link Object#toString()}
+     *
+     * @param value the value, may be {@code null}
+     * @return this writer
+     * @throws IOException if the target fails
+     */
+    public JsonWriter value(@Nullable Object value) throws IOException {
+        if (Objects.isNull(value) || JSONObject.NULL.equals(value)) return nullValue();
+        if (value instanceof Number) {
+            separator();
+            out.append(JSONObject.numberToString((Number) value));
+            return this;
+        }
+        if (value instanceof Boolean) return value(((Boolean) value).booleanValue());
+        if (value instanceof JSONObject || value instanceof JSONArray) {
+            separator();
+            out.append(value.toString());
+            return this;
+        }
+        return value(value.toString());
+    }
+
+    /**
+     * Writes a {@code null} literal
+     *
+     * @return this writer
+     * @throws IOException if the target fails
+     */
+    public JsonWriter nullValue() throws IOException {
+        separator();
+        out.append("null");
+        return this;
+    }
+
+    /**
+     * Flushes the target if it can be flushed, which is required for the writers created via
+     * {@link JsonWriter#of(OutputStream)}
+     *
+     * @throws IOException if the target fails
+     */
+    public void flush() throws IOException {if (out instanceof Flushable) ((Flushable) out).flush();}
+
+    private JsonWriter open(char bracket) throws IOException {
+        separator();
+        out.append(bracket);
+        if (depth == hasElements.length) hasElements = Arrays.copyOf(hasElements, depth * 2);
+        hasElements[depth++] = false;
+        return this;
+    }
+
+    private JsonWriter close(char bracket) throws IOException {
+        if (depth == 0) throw new IllegalStateException("nothing to close");
+        depth--;
+        out.append(bracket);
+        return this;
+    }
+
+    private void separator() throws IOException {
+        if (afterName) {
+            afterName = false;
+            return;
+        }
+        if (depth == 0) return;
+        if (hasElements[depth - 1]) out.append(',');
+        else hasElements[depth - 1] = true;
+    }
+
+    /**
+     * Writes the quoted and escaped string, the unescaped runs are appended in one go
+     */
+    private void string(String value) throws IOException {
+        out.append('"');
+        var start = 0;
+        var length = value.length();
+        char previous = 0;
+        for (int index = 0; index < length; index++) {
+            var c = value.charAt(index);
+            String escape = null;
+            switch (c) {
+                case '"':
+                    escape = "\\\"";
+                    break;
+                case '\\':
+                    escape = "\\\\";
+                    break;
+                case '/':
+                    if (previous == '<') escape = "\\/";
+                    break;
+                case '\b':
+                    escape = "\\b";
+                    break;
+                case '\t':
+                    escape = "\\t";
+                    break;
+                case '\n':
+                    escape = "\\n";
+                    break;
+                case '\f':
+                    escape = "\\f";
+                    break;
+                case '\r':
+                    escape = "\\r";
+                    break;
+                default:
+                    if (c < ' ' || c >= '\u0080' && c < '\u00a0' || c >= '\u2000' && c < '\u2100') {
+                        out.append(value, start, index).append("\\u")
+                           .append(HEX[c >> 12 & 0xF]).append(HEX[c >> 8 & 0xF])
+                           .append(HEX[c >> 4 & 0xF]).append(HEX[c & 0xF]);
+                        start = index + 1;
+                    }
+            }
+            if (Objects.nonNull(escape)) {
+                out.append(value, start, index).append(escape);
+                start = index + 1;
+            }
+            previous = c;
+        }
+        out.append(value, start, length).append('"');
+    }
+
+    /**
+     * Encodes the characters as UTF-8 into a buffer that is handed over to the stream once it is full
+     */
+    private static final class Utf8Sink implements Appendable, Flushable {
+        private final OutputStream out;
+        private final byte[] buffer = new byte[8192];
+        private int size;
+        /**
+         * The high surrogate of a pair whose low surrogate hasn't been appended yet, {@code 0} if there's none
+         */
+        private char pendingSurrogate;
+
+        private Utf8Sink(OutputStream out) {this.out = out;}
+
+        @Override
+        public Appendable append(CharSequence sequence) throws IOException {
+            return append(sequence, 0, sequence.length());
+        }
+
+        @Override
+        public Appendable append(CharSequence sequence, int start, int end) throws IOException {
+            for (int index = start; index < end; index++) append(sequence.charAt(index));
+            return this;
+        }
+
+        @Override
+        public Appendable append(char c) throws IOException {
+            if (size + 4 > buffer.length) flushBuffer();
+            if (pendingSurrogate != 0) {
+                var high = pendingSurrogate;
+                pendingSurrogate = 0;
+                if (Character.isLowSurrogate(c)) {
+                    var codePoint = Character.toCodePoint(high, c);
+                    buffer[size++] = (byte) (0xF0 | codePoint >> 18);
+                    buffer[size++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                    buffer[size++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                    buffer[size++] = (byte) (0x80 | codePoint & 0x3F);
+                    return this;
+                }
+                buffer[size++] = '?';
+                if (size + 4 > buffer.length) flushBuffer();
+            }
+            if (c < 0x80) buffer[size++] = (byte) c;
+            else if (c < 0x800) {
+                buffer[size++] = (byte) (0xC0 | c >> 6);
+                buffer[size++] = (byte) (0x80 | c & 0x3F);
+            } else if (Character.isHighSurrogate(c)) pendingSurrogate = c;
+            else if (Character.isLowSurrogate(c)) buffer[size++] = '?';
+            else {
+                buffer[size++] = (byte) (0xE0 | c >> 12);
+                buffer[size++] = (byte) (0x80 | c >> 6 & 0x3F);
+                buffer[size++] = (byte) (0x80 | c & 0x3F);
+            }
+            return this;
+        }
+
+        private void flushBuffer() throws IOException {
+            out.write(buffer, 0, size);
+            size = 0;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            flushBuffer();
+            out.flush();
+        }
+    }
+}
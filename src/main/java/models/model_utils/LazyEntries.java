@@ -0,0 +1,183 @@
+package models.model_utils;
+
+import annotations.Author;
+import org.jetbrains.annotations.NotNull;
+import org.json.JSONObject;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * This class provides lazy, view based iterators and spliterators over the fields of the models, i.e., unlike
+ * {@code toMap().entrySet().iterator()} nothing is copied up front, an entry is only created for the field
+ * that is being visited and its value is the live value of the underlying data. The spliterators split
+ * just like their source does, so the fields can be walked by a parallel stream as well.<br/>
+ * Note that, the values of a {@link JSONObject} are handed out as they are stored, i.e., nested objects are
+ * {@link JSONObject}s and {@link org.json.JSONArray}s rather than the {@code Map}s and {@code List}s that
+ * {@link JSONObject#toMap()} would have built, and {@code null} values are {@link JSONObject#NULL}.
+ *
+ * @author ConfusedRobo
+ * @see Spliterator
+ * @see JSONObject#keySet()
+ */
+@Author(
+        author = "ConfusedRobo",
+        creation = "Sunday, 18 October, 2026, 08:31:17 PM",
+        profile = "https://github.com/heretickeymaker"
+)
+public final class LazyEntries {
+    private LazyEntries() {}
+
+    /**
+     * Creates an iterator over the top level fields of the object, backed by {@link JSONObject#keySet()}
+     *
+     * @param object the object, may be {@code null} in which case the iterator is empty
+     * @return a lazy {@link Iterator} of the fields
+     */
+    public static @NotNull Iterator<Entry<String, Object>> iterator(JSONObject object) {
+        if (Objects.isNull(object)) return Collections.emptyIterator();
+        var keys = object.keySet().iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {return keys.hasNext();}
+
+            @Override
+            public Entry<String, Object> next() {return entry(object, keys.next());}
+        };
+    }
+
+    /**
+     * Creates a spliterator over the top level fields of the object, backed by the spliterator of
+     * {@link JSONObject#keySet()}
+     *
+     * @param object the object, may be {@code null} in which case the spliterator is empty
+     * @return a lazy {@link Spliterator} of the fields
+     */
+    public static @NotNull Spliterator<Entry<String, Object>> spliterator(JSONObject object) {
+        if (Objects.isNull(object)) return Spliterators.emptySpliterator();
+        return new KeySpliterator(object, object.keySet().spliterator());
+    }
+
+    /**
+     * Creates an iterator over a fixed set of fields, the value of a field is only looked up once it is visited
+     *
+     * @param keys   the names of the fields
+     * @param values looks up the value of the field at the given index
+     * @return a lazy {@link Iterator} of the fields
+     */
+    public static @NotNull Iterator<Entry<String, Object>> iterator(@NotNull String[] keys,
+                                                                     @NotNull IntFunction<Object> values) {
+        return new Iterator<>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {return index < keys.length;}
+
+            @Override
+            public Entry<String, Object> next() {
+                if (index >= keys.length) throw new NoSuchElementException();
+                var current = index++;
+                return new SimpleImmutableEntry<>(keys[current], values.apply(current));
+            }
+        };
+    }
+
+    /**
+     * Creates a sized spliterator over a fixed set of fields that splits by halving the index range
+     *
+     * @param keys   the names of the fields
+     * @param values looks up the value of the field at the given index
+     * @return a lazy {@link Spliterator} of the fields
+     */
+    public static @NotNull Spliterator<Entry<String, Object>> spliterator(@NotNull String[] keys,
+                                                                           @NotNull IntFunction<Object> values) {
+        return new IndexSpliterator(keys, values, 0, keys.length);
+    }
+
+    private static Entry<String, Object> entry(JSONObject object, String key) {
+        return new SimpleImmutableEntry<>(key, object.opt(key));
+    }
+
+    /**
+     * Maps the keys of the source spliterator to the entries of the object
+     */
+    private static final class KeySpliterator implements Spliterator<Entry<String, Object>> {
+        private final JSONObject object;
+        private final Spliterator<String> keys;
+
+        private KeySpliterator(JSONObject object, Spliterator<String> keys) {
+            this.object = object;
+            this.keys = keys;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Entry<String, Object>> action) {
+            return keys.tryAdvance(key -> action.accept(entry(object, key)));
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Entry<String, Object>> action) {
+            keys.forEachRemaining(key -> action.accept(entry(object, key)));
+        }
+
+        @Override
+        public Spliterator<Entry<String, Object>> trySplit() {
+            var prefix = keys.trySplit();
+            return Objects.isNull(prefix) ? null : new KeySpliterator(object, prefix);
+        }
+
+        @Override
+        public long estimateSize() {return keys.estimateSize();}
+
+        @Override
+        public int characteristics() {return keys.characteristics() & ~SORTED | DISTINCT | NONNULL;}
+    }
+
+    /**
+     * Walks the index range {@code [origin, fence)} of a fixed set of fields
+     */
+    private static final class IndexSpliterator implements Spliterator<Entry<String, Object>> {
+        private final String[] keys;
+        private final IntFunction<Object> values;
+        private int origin;
+        private final int fence;
+
+        private IndexSpliterator(String[] keys, IntFunction<Object> values, int origin, int fence) {
+            this.keys = keys;
+            this.values = values;
+            this.origin = origin;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Entry<String, Object>> action) {
+            if (origin >= fence) return false;
+            var index = origin++;
+            action.accept(new SimpleImmutableEntry<>(keys[index], values.apply(index)));
+            return true;
+        }
+
+        @Override
+        public Spliterator<Entry<String, Object>> trySplit() {
+            var middle = (origin + fence) >>> 1;
+            if (middle <= origin) return null;
+            var prefix = new IndexSpliterator(keys, values, origin, middle);
+            origin = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {return fence - origin;}
+
+        @Override
+        public int characteristics() {return ORDERED | SIZED | SUBSIZED | DISTINCT | NONNULL | IMMUTABLE;}
+    }
+}
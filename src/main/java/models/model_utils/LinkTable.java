@@ -0,0 +1,363 @@
+package models.model_utils;
+
+import annotations.Author;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.io.Serializable;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * This class is a compact {@link Map} of links whose keys are known up front, i.e., the keys are the constants
+ * of an enum and the links are stored in an array indexed by the ordinal of the constant rather than in a
+ * {@link HashMap} of {@link URL}s. Moreover, most of the links only differ in a small fragment, e.g.
+ * {@code https://api.unsplash.com/users/{username}/photos}, so every constant describes the head and the tail
+ * that its links usually have via {@link Template}, if a link has those only the fragment in between is stored
+ * and the equal fragments of the different keys share the same {@code String} instance. The {@link URL}s are
+ * built on demand, only when they are asked for.<br/>
+ * The keys of the enum are always contained in the map, just like the pre-populated maps used to, their value
+ * is {@code null} as long as no link has been put, removing such a key only resets its link to {@code null}.
+ * Any other key is stored as it is in a lazily created {@link HashMap}.
+ *
+ * @param <E> the enum of the known keys
+ * @author ConfusedRobo
+ * @see Template
+ * @see AbstractMap
+ */
+@Author(
+        author = "ConfusedRobo",
+        creation = "Sunday, 18 October, 2026, 10:12:44 PM",
+        profile = "https://github.com/heretickeymaker"
+)
+public final class LinkTable<E extends Enum<E> & LinkTable.Template> extends AbstractMap<String, URL>
+        implements Serializable {
+    /**
+     * The serial version number field that will assist the JVM to correctly
+     * cast/parse the object
+     */
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Describes a known key and the shape its links usually have, i.e., {@code head + fragment + tail}
+     */
+    public interface Template {
+        /**
+         * @return the JSON key of the link
+         */
+        String key();
+
+        /**
+         * @return the part every link of the key usually starts with, may be empty
+         */
+        String head();
+
+        /**
+         * @return the part every link of the key usually ends with, may be empty
+         */
+        String tail();
+    }
+
+    private final Class<E> type;
+    /**
+     * The link of every known key indexed by the ordinal, either the whole link or, only the fragment between
+     * the head and the tail if the bit of the key in {@link LinkTable#fragments} is set
+     */
+    private final String[] parts;
+    /**
+     * The bitmask of the keys whose part is a fragment rather than the whole link
+     */
+    private long fragments;
+    /**
+     * The links of the unknown keys, {@code null} until the first one is put
+     */
+    private HashMap<String, String> extra;
+    private transient E[] templates;
+
+    /**
+     * Creates an empty table for the constants of the enum
+     *
+     * @param type the enum of the known keys, it may have up to {@code 64} constants
+     * @throws IllegalArgumentException if the enum has too many constants
+     */
+    public LinkTable(@NotNull Class<E> type) {
+        this.type = type;
+        this.templates = type.getEnumConstants();
+        if (templates.length > Long.SIZE) throw new IllegalArgumentException("too many keys: " + type);
+        this.parts = new String[templates.length];
+    }
+
+    private E[] templates() {
+        var templates = this.templates;
+        if (Objects.isNull(templates)) this.templates = templates = type.getEnumConstants();
+        return templates;
+    }
+
+    /**
+     * @return the ordinal of the known key, {@code -1} if the key is unknown
+     */
+    private int indexOf(Object key) {
+        var templates = templates();
+        for (int index = 0; index < templates.length; index++) if (templates[index].key().equals(key)) return index;
+        return -1;
+    }
+
+    /**
+     * Rebuilds the whole link of a known key
+     */
+    private String source(int index) {
+        var part = parts[index];
+        if (Objects.isNull(part) || (fragments & 1L << index) == 0) return part;
+        var template = templates()[index];
+        return template.head() + part + template.tail();
+    }
+
+    /**
+     * Stores the link of a known key, only the fragment is kept if the link has the shape of the key
+     */
+    private String store(int index, String source) {
+        var previous = source(index);
+        var mask = 1L << index;
+        fragments &= ~mask;
+        parts[index] = source;
+        if (Objects.isNull(source)) return previous;
+
+        var template = templates()[index];
+        var head = template.head();
+        var tail = template.tail();
+        if (source.length() <= head.length() + tail.length() || !source.startsWith(head) || !source.endsWith(tail))
+            return previous;
+        var fragment = source.substring(head.length(), source.length() - tail.length());
+        for (int other = 0; other < parts.length; other++) {
+            if (other != index && (fragments & 1L << other) != 0 && fragment.equals(parts[other])) {
+                fragment = parts[other];
+                break;
+            }
+        }
+        parts[index] = fragment;
+        fragments |= mask;
+        return previous;
+    }
+
+    private static URL toURL(String source) {
+        if (Objects.isNull(source)) return null;
+        try {
+            return new URL(source);
+        } catch (MalformedURLException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    /**
+     * Getter for the link of a known key
+     *
+     * @param key the known key
+     * @return the link as a {@code String}, {@code null} if there's none
+     */
+    public @Nullable String source(@NotNull E key) {return source(key.ordinal());}
+
+    /**
+     * Getter for the link of any key, without building an {@link URL}
+     *
+     * @param key the key
+     * @return the link as a {@code String}, {@code null} if there's none
+     */
+    public @Nullable String source(@NotNull String key) {
+        var index = indexOf(key);
+        if (index >= 0) return source(index);
+        return Objects.isNull(extra) ? null : extra.get(key);
+    }
+
+    /**
+     * Getter for the link of a known key
+     *
+     * @param key the known key
+     * @return a new {@link URL}, {@code null} if there's no link
+     */
+    public @Nullable URL get(@NotNull E key) {return toURL(source(key));}
+
+    /**
+     * Puts the link of any key without going through an {@link URL}, e.g. when the link comes from a
+     * trusted source such as {@link URL#toExternalForm()}
+     *
+     * @param key    the key
+     * @param source the link, {@code null} to remove it
+     * @return the previous link, {@code null} if there was none
+     */
+    public @Nullable String putSource(@NotNull String key, @Nullable String source) {
+        var index = indexOf(key);
+        if (index >= 0) return store(index, source);
+        if (Objects.isNull(extra)) extra = new HashMap<>(4);
+        return extra.put(key, source);
+    }
+
+    /**
+     * Visits the links that aren't {@code null}, the known keys first, in the order of the enum
+     *
+     * @param action receives the key and the link as a {@code String}
+     */
+    public void forEachSource(@NotNull BiConsumer<String, String> action) {
+        var templates = templates();
+        for (int index = 0; index < parts.length; index++)
+            if (Objects.nonNull(parts[index])) action.accept(templates[index].key(), source(index));
+        if (Objects.nonNull(extra)) extra.forEach((key, source) -> {if (Objects.nonNull(source)) action.accept(key, source);});
+    }
+
+    /**
+     * @return the amount of links that aren't {@code null}
+     */
+    public int sourceCount() {
+        var count = 0;
+        for (var part : parts) if (Objects.nonNull(part)) count++;
+        if (Objects.nonNull(extra)) for (var source : extra.values()) if (Objects.nonNull(source)) count++;
+        return count;
+    }
+
+    /**
+     * Streams the table as a JSON object, the known keys without a link are written as {@code null}
+     *
+     * @param writer the writer, positioned right after the name of the object
+     * @throws IOException if the target of the writer fails
+     */
+    public void writeJSON(@NotNull JsonWriter writer) throws IOException {
+        var templates = templates();
+        writer.beginObject();
+        for (int index = 0; index < parts.length; index++) writer.name(templates[index].key()).value(source(index));
+        if (Objects.nonNull(extra)) for (var link : extra.entrySet()) writer.name(link.getKey()).value(link.getValue());
+        writer.endObject();
+    }
+
+    @Override
+    public URL get(Object key) {return key instanceof String ? toURL(source((String) key)) : null;}
+
+    @Override
+    public URL put(String key, URL value) {
+        return toURL(putSource(key, Objects.isNull(value) ? null : value.toExternalForm()));
+    }
+
+    @Override
+    public URL remove(Object key) {
+        var index = indexOf(key);
+        if (index >= 0) return toURL(store(index, null));
+        return Objects.isNull(extra) ? null : toURL(extra.remove(key));
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0 || Objects.nonNull(extra) && extra.containsKey(key);
+    }
+
+    @Override
+    public int size() {return parts.length + (Objects.isNull(extra) ? 0 : extra.size());}
+
+    @Override
+    public void clear() {
+        for (int index = 0; index < parts.length; index++) parts[index] = null;
+        fragments = 0;
+        extra = null;
+    }
+
+    @Override
+    public @NotNull Set<Entry<String, URL>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public @NotNull Iterator<Entry<String, URL>> iterator() {return new Entries();}
+
+            @Override
+            public int size() {return LinkTable.this.size();}
+        };
+    }
+
+    /**
+     * Walks the known keys and then the unknown ones, the entries write through to the table
+     */
+    private final class Entries implements Iterator<Entry<String, URL>> {
+        private int index;
+        private Iterator<Map.Entry<String, String>> extras;
+        /**
+         * The ordinal of the last known key that has been handed out, {@code -2} for an unknown key and
+         * {@code -1} if there's none to remove
+         */
+        private int last = -1;
+
+        @Override
+        public boolean hasNext() {
+            if (index < parts.length) return true;
+            if (Objects.isNull(extras)) {
+                if (Objects.isNull(extra)) return false;
+                extras = extra.entrySet().iterator();
+            }
+            return extras.hasNext();
+        }
+
+        @Override
+        public Entry<String, URL> next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            if (index < parts.length) {
+                last = index;
+                return new Link(templates()[index++].key());
+            }
+            last = -2;
+            return new Link(extras.next().getKey());
+        }
+
+        @Override
+        public void remove() {
+            if (last == -1) throw new IllegalStateException();
+            if (last == -2) extras.remove();
+            else store(last, null);
+            last = -1;
+        }
+    }
+
+    /**
+     * An entry whose value is read from and written to the table
+     */
+    private final class Link implements Entry<String, URL> {
+        private final String key;
+
+        private Link(String key) {this.key = key;}
+
+        @Override
+        public String getKey() {return key;}
+
+        @Override
+        public URL getValue() {return get(key);}
+
+        @Override
+        public URL setValue(URL value) {return put(key, value);}
+
+        /**
+         * Compares the entries as {@link Entry#equals(Object)} demands, i.e., via {@link URL#equals(Object)},
+         * so that the table equals any other map of the same links and the other way around
+         */
+        @Override
+        public boolean equals(Object object) {
+            if (!(object instanceof Entry)) return false;
+            var other = (Entry<?, ?>) object;
+            return key.equals(other.getKey()) && Objects.equals(getValue(), other.getValue());
+        }
+
+        /**
+         * Hashes the entry as {@link Entry#hashCode()} demands, i.e., via {@link URL#hashCode()}, so that the
+         * table hashes like any other map of the same links
+         */
+        @Override
+        public int hashCode() {return key.hashCode() ^ Objects.hashCode(getValue());}
+
+        @Override
+        public String toString() {return key + "=" + source(key);}
+    }
+}
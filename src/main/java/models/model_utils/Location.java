@@ -4,6 +4,8 @@ import annotations.Author;
 import org.jetbrains.annotations.NotNull;
 import org.json.JSONObject;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Serial;
 import java.io.Serializable;
 
@@ -203,6 +205,47 @@ public class Location implements Serializable {
         return jsonBuilder;
     }
 
+    /**
+     * Writes the location straight into the writer, the {@code position} is only written if the coordinates
+     * are set, just like {@link Location#toJSON()} leaves it out
+     *
+     * @param writer the writer
+     * @throws IOException if the target of the writer fails
+     */
+    public void writeJSON(@NotNull JsonWriter writer) throws IOException {
+        writer.beginObject()
+              .name("title").value(title)
+              .name("name").value(name)
+              .name("city").value(city)
+              .name("country").value(country);
+        if (!isNull(coordinates)) {
+            writer.name("position").beginObject();
+            for (var key : coordinates.keySet()) writer.name(key).value(coordinates.opt(key));
+            writer.endObject();
+        }
+        writer.endObject();
+    }
+
+    /**
+     * Streams the location into the appendable without building the {@link JSONObject}
+     *
+     * @param out the target, e.g. a {@link StringBuilder} or, a {@link java.io.Writer}
+     * @throws IOException if the target fails
+     */
+    public void writeJSON(@NotNull Appendable out) throws IOException {writeJSON(new JsonWriter(out));}
+
+    /**
+     * Streams the location into the stream as UTF-8
+     *
+     * @param out the target stream, it is flushed but not closed
+     * @throws IOException if the stream fails
+     */
+    public void writeJSON(@NotNull OutputStream out) throws IOException {
+        var writer = JsonWriter.of(out);
+        writeJSON(writer);
+        writer.flush();
+    }
+
     /**
      * Getter for the {@link Location#title} field.
      *
@@ -0,0 +1,172 @@
+package utils;
+
+import annotations.Author;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileAttribute;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * This class writes files so that a reader only ever sees the old or, the whole new content of a file, never
+ * an empty or, a truncated one. The content goes into a hidden temporary file next to the target, i.e., in the
+ * same directory so that both are on the same file store, which is then renamed over the target in one atomic
+ * step. A crash in the middle of a write leaves the target untouched and, at worst, a temporary file behind
+ * that can be recognised via {@link AtomicFiles#isTemporary(Path)}.<br/>
+ * A durable write additionally forces the temporary file to the disk before the rename and, the directory
+ * after it, so that the new content survives a power loss as well. The durable writes cost a disk flush
+ * each, use a {@link GroupCommitter} in order to share the directory flushes among many concurrent writes
+ * and, to issue their file flushes together.
+ *
+ * @author ConfusedRobo
+ * @see GroupCommitter
+ * @see StandardCopyOption#ATOMIC_MOVE
+ */
+@Author(
+        author = "ConfusedRobo",
+        creation = "Monday, 19 October, 2026, 03:08:44 AM",
+        profile = "https://github.com/heretickeymaker"
+)
+public final class AtomicFiles {
+    /**
+     * The extension of the temporary files
+     */
+    public static final String TEMP_EXTENSION = ".tmp";
+
+    private AtomicFiles() {}
+
+    /**
+     * Creates a new, empty temporary file next to the target, the missing parent directories are created
+     * as well. Unlike {@link Files#createTempFile(Path, String, String, FileAttribute[])} the file gets the
+     * default permissions, so the target stays readable by the same users as before once it is replaced.
+     *
+     * @param target the file that'll be replaced by the temporary file
+     * @return the temporary file
+     * @throws IOException if the file can't be created
+     */
+    public static @NotNull Path temporary(@NotNull Path target) throws IOException {
+        var parent = target.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        var prefix = "." + target.getFileName() + ".";
+        while (true) {
+            var suffix = Long.toUnsignedString(ThreadLocalRandom.current().nextLong(), Character.MAX_RADIX);
+            try {
+                return Files.createFile(parent.resolve(prefix + suffix + TEMP_EXTENSION));
+            } catch (FileAlreadyExistsException ignored) {}
+        }
+    }
+
+    /**
+     * @param file the file
+     * @return {@code true} if the file has been created by {@link AtomicFiles#temporary(Path)}
+     */
+    public static boolean isTemporary(@NotNull Path file) {
+        var name = file.getFileName().toString();
+        return name.startsWith(".") && name.endsWith(TEMP_EXTENSION);
+    }
+
+    /**
+     * Replaces the target by the bytes
+     *
+     * @param target  the file
+     * @param content the new content of the file
+     * @param durable whether the content should be forced to the disk before returning
+     * @throws IOException if the content can't be written, the target is left untouched in this case
+     */
+    public static void write(@NotNull Path target, byte @NotNull [] content, boolean durable) throws IOException {
+        var temporary = temporary(target);
+        try {
+            writeTemporary(temporary, content, durable);
+            commit(temporary, target, false);
+            if (durable) syncDirectory(target.toAbsolutePath().getParent());
+        } catch (IOException | RuntimeException exception) {
+            Files.deleteIfExists(temporary);
+            throw exception;
+        }
+    }
+
+    /**
+     * Replaces the target by the UTF-8 encoded string
+     *
+     * @param target  the file
+     * @param content the new content of the file
+     * @param durable whether the content should be forced to the disk before returning
+     * @throws IOException if the content can't be written, the target is left untouched in this case
+     */
+    public static void writeString(@NotNull Path target, @NotNull String content, boolean durable) throws IOException {
+        write(target, content.getBytes(StandardCharsets.UTF_8), durable);
+    }
+
+    /**
+     * Writes the bytes into an already created temporary file
+     *
+     * @param temporary the temporary file
+     * @param content   the content
+     * @param force     whether the file should be forced to the disk
+     * @throws IOException if the content can't be written
+     */
+    static void writeTemporary(Path temporary, byte[] content, boolean force) throws IOException {
+        try (var channel = FileChannel.open(temporary, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            var buffer = ByteBuffer.wrap(content);
+            while (buffer.hasRemaining()) channel.write(buffer);
+            if (force) channel.force(true);
+        }
+    }
+
+    /**
+     * Renames the temporary file over the target, e.g. once a download into the temporary file is complete
+     *
+     * @param temporary the temporary file, it must be in the same directory as the target
+     * @param target    the file that'll be replaced
+     * @param durable   whether the temporary file and the directory should be forced to the disk
+     * @return the target
+     * @throws IOException if the file can't be renamed
+     */
+    public static @NotNull Path commit(@NotNull Path temporary, @NotNull Path target, boolean durable)
+            throws IOException {
+        if (durable) force(temporary);
+        try {
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException exception) {
+            // e.g. some network file systems, a plain rename is the next best thing
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        if (durable) syncDirectory(target.toAbsolutePath().getParent());
+        return target;
+    }
+
+    /**
+     * Forces the content of the file to the disk
+     *
+     * @param file the file
+     * @throws IOException if the file can't be forced
+     */
+    static void force(Path file) throws IOException {
+        try (var channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Forces the entries of the directory to the disk, i.e., makes the renames durable. Not every platform
+     * allows a directory to be opened, there the renames are left to the file system.
+     *
+     * @param directory the directory, may be {@code null}
+     */
+    static void syncDirectory(Path directory) {
+        if (Objects.isNull(directory)) return;
+        try (var channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ignored) {}
+    }
+}
@@ -0,0 +1,265 @@
+package utils;
+
+import annotations.Author;
+import models.ImageMetadata;
+import org.jetbrains.annotations.NotNull;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * This class renders the {@link ImageMetadata#blurhash} of an image into a small placeholder, i.e., the
+ * BlurHash is a handful of DCT components encoded as base 83 and this class sums them up into ARGB pixels.
+ * A decoder is made for one placeholder size, the cosine of every component at every column and row is
+ * computed up front, and all the scratch buffers are owned by the decoder, so decoding into a caller supplied
+ * {@code int[]} doesn't allocate anything. Moreover, the components are summed per row first and then per
+ * pixel, so every pixel only costs as many multiplications as there are horizontal components.<br/>
+ * A decoder isn't thread safe, use one per thread.<br/>
+ * <b>Example</b>:
+ * <pre>{@code
+ * var decoder = new BlurHashDecoder(32, 32);
+ * var pixels = new int[32 * 32];
+ * if (decoder.decode(image.metadata, pixels)) send(pixels);
+ * }</pre>
+ *
+ * @author ConfusedRobo
+ * @see ImageMetadata#blurhash
+ * @see <a href="https://github.com/woltapp/blurhash/blob/master/Algorithm.md">BlurHash algorithm</a>
+ */
+@Author(
+        author = "ConfusedRobo",
+        creation = "Sunday, 18 October, 2026, 11:52:08 PM",
+        profile = "https://github.com/heretickeymaker"
+)
+public final class BlurHashDecoder {
+    /**
+     * The most components a BlurHash may have per axis
+     */
+    public static final int MAX_COMPONENTS = 9;
+
+    private static final String BASE83 =
+            "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz#$%*+,-.:;=?@[]^_{|}~";
+    /**
+     * The value of every base 83 digit by its character, {@code -1} for the characters that aren't digits
+     */
+    private static final byte[] DIGITS = new byte[128];
+    /**
+     * The linear value of every sRGB channel value
+     */
+    private static final float[] SRGB_TO_LINEAR = new float[256];
+    private static final int LINEAR_STEPS = 4096;
+    /**
+     * The sRGB channel value of the linear values from {@code 0} to {@code 1} in {@link #LINEAR_STEPS} steps
+     */
+    private static final byte[] LINEAR_TO_SRGB = new byte[LINEAR_STEPS + 1];
+
+    static {
+        Arrays.fill(DIGITS, (byte) -1);
+        for (int index = 0; index < BASE83.length(); index++) DIGITS[BASE83.charAt(index)] = (byte) index;
+        for (int value = 0; value < SRGB_TO_LINEAR.length; value++) {
+            var channel = value / 255.0;
+            SRGB_TO_LINEAR[value] = (float) (channel <= 0.04045 ? channel / 12.92 : Math.pow((channel + 0.055) / 1.055, 2.4));
+        }
+        for (int step = 0; step <= LINEAR_STEPS; step++) {
+            var linear = (double) step / LINEAR_STEPS;
+            var channel = linear <= 0.0031308 ? linear * 12.92 : 1.055 * Math.pow(linear, 1 / 2.4) - 0.055;
+            LINEAR_TO_SRGB[step] = (byte) Math.round(channel * 255);
+        }
+    }
+
+    private final int width;
+    private final int height;
+    /**
+     * {@code cos(PI * x * i / width)} at {@code [x * MAX_COMPONENTS + i]}
+     */
+    private final float[] cosX;
+    /**
+     * {@code cos(PI * y * j / height)} at {@code [y * MAX_COMPONENTS + j]}
+     */
+    private final float[] cosY;
+    /**
+     * The decoded components as linear red, green and blue at {@code [(j * componentsX + i) * 3]}
+     */
+    private final float[] components = new float[MAX_COMPONENTS * MAX_COMPONENTS * 3];
+    /**
+     * The components of the current row summed over the vertical components, at {@code [i * 3]}
+     */
+    private final float[] row = new float[MAX_COMPONENTS * 3];
+
+    /**
+     * Creates a decoder for placeholders of the size
+     *
+     * @param width  the width of the placeholders in pixels
+     * @param height the height of the placeholders in pixels
+     * @throws IllegalArgumentException if the size isn't positive
+     */
+    public BlurHashDecoder(int width, int height) {
+        if (width < 1 || height < 1) throw new IllegalArgumentException("invalid size: " + width + "x" + height);
+        this.width = width;
+        this.height = height;
+        this.cosX = cosines(width);
+        this.cosY = cosines(height);
+    }
+
+    private static float[] cosines(int length) {
+        var cosines = new float[length * MAX_COMPONENTS];
+        for (int position = 0; position < length; position++)
+            for (int component = 0; component < MAX_COMPONENTS; component++)
+                cosines[position * MAX_COMPONENTS + component] = (float) Math.cos(Math.PI * position * component / length);
+        return cosines;
+    }
+
+    /**
+     * @return the width of the placeholders in pixels
+     */
+    public int width() {return width;}
+
+    /**
+     * @return the height of the placeholders in pixels
+     */
+    public int height() {return height;}
+
+    /**
+     * Renders the BlurHash of the metadata, if it has one
+     *
+     * @param metadata the metadata of the image
+     * @param pixels   the target of the opaque ARGB pixels in row major order, at least {@code width * height} long
+     * @return {@code true} if the placeholder has been rendered, {@code false} if there's no BlurHash
+     * @throws IllegalArgumentException if the BlurHash is malformed or, the buffer is too small
+     */
+    public boolean decode(@NotNull ImageMetadata metadata, int @NotNull [] pixels) {
+        if (Objects.isNull(metadata.blurhash)) return false;
+        decode(metadata.blurhash, 1, pixels);
+        return true;
+    }
+
+    /**
+     * Renders the BlurHash with the default contrast
+     *
+     * @param blurHash the BlurHash, e.g. {@code LA9%q}x]M{jF_3g3RjV[0hRkjZR*}
+     * @param pixels   the target of the opaque ARGB pixels in row major order, at least {@code width * height} long
+     * @throws IllegalArgumentException if the BlurHash is malformed or, the buffer is too small
+     */
+    public void decode(@NotNull String blurHash, int @NotNull [] pixels) {decode(blurHash, 1, pixels);}
+
+    /**
+     * Renders the BlurHash
+     *
+     * @param blurHash the BlurHash
+     * @param punch    scales the contrast of the placeholder, {@code 1} leaves it as it has been encoded
+     * @param pixels   the target of the opaque ARGB pixels in row major order, at least {@code width * height} long
+     * @throws IllegalArgumentException if the BlurHash is malformed or, the buffer is too small
+     */
+    public void decode(@NotNull String blurHash, float punch, int @NotNull [] pixels) {
+        if (pixels.length < width * height)
+            throw new IllegalArgumentException("buffer too small: " + pixels.length + " < " + width * height);
+        if (blurHash.length() < 6) throw new IllegalArgumentException("BlurHash too short: " + blurHash);
+        var sizeFlag = decode83(blurHash, 0, 1);
+        if (sizeFlag >= MAX_COMPONENTS * MAX_COMPONENTS)
+            throw new IllegalArgumentException("too many BlurHash components: " + blurHash);
+        var componentsX = sizeFlag % MAX_COMPONENTS + 1;
+        var componentsY = sizeFlag / MAX_COMPONENTS + 1;
+        var count = componentsX * componentsY;
+        if (blurHash.length() != 4 + 2 * count)
+            throw new IllegalArgumentException("BlurHash length mismatch: " + blurHash);
+
+        var maxValue = (decode83(blurHash, 1, 1) + 1) / 166f * punch;
+        var dc = decode83(blurHash, 2, 4);
+        components[0] = SRGB_TO_LINEAR[dc >> 16 & 0xFF];
+        components[1] = SRGB_TO_LINEAR[dc >> 8 & 0xFF];
+        components[2] = SRGB_TO_LINEAR[dc & 0xFF];
+        for (int component = 1; component < count; component++) {
+            var ac = decode83(blurHash, 4 + component * 2, 2);
+            components[component * 3] = signedSquare(ac / (19 * 19)) * maxValue;
+            components[component * 3 + 1] = signedSquare(ac / 19 % 19) * maxValue;
+            components[component * 3 + 2] = signedSquare(ac % 19) * maxValue;
+        }
+
+        for (int y = 0; y < height; y++) {
+            var cosRow = y * MAX_COMPONENTS;
+            for (int i = 0; i < componentsX; i++) {
+                float red = 0, green = 0, blue = 0;
+                for (int j = 0; j < componentsY; j++) {
+                    var basis = cosY[cosRow + j];
+                    var offset = (j * componentsX + i) * 3;
+                    red += components[offset] * basis;
+                    green += components[offset + 1] * basis;
+                    blue += components[offset + 2] * basis;
+                }
+                row[i * 3] = red;
+                row[i * 3 + 1] = green;
+                row[i * 3 + 2] = blue;
+            }
+            var target = y * width;
+            for (int x = 0; x < width; x++) {
+                var cosColumn = x * MAX_COMPONENTS;
+                float red = 0, green = 0, blue = 0;
+                for (int i = 0; i < componentsX; i++) {
+                    var basis = cosX[cosColumn + i];
+                    red += row[i * 3] * basis;
+                    green += row[i * 3 + 1] * basis;
+                    blue += row[i * 3 + 2] * basis;
+                }
+                pixels[target + x] = 0xFF000000 | toSRGB(red) << 16 | toSRGB(green) << 8 | toSRGB(blue);
+            }
+        }
+    }
+
+    /**
+     * Renders the BlurHash into a new {@link BufferedImage}, unlike the other methods this one allocates
+     *
+     * @param blurHash the BlurHash
+     * @return an opaque {@link BufferedImage} of the size of the decoder
+     * @throws IllegalArgumentException if the BlurHash is malformed
+     */
+    public @NotNull BufferedImage toImage(@NotNull String blurHash) {
+        var pixels = new int[width * height];
+        decode(blurHash, 1, pixels);
+        var image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        image.setRGB(0, 0, width, height, pixels, 0, width);
+        return image;
+    }
+
+    /**
+     * Checks whether the string is a well formed BlurHash without decoding it
+     *
+     * @param blurHash the BlurHash, may be {@code null}
+     * @return {@code true} if the length matches the size flag and, all the characters are base 83 digits
+     */
+    public static boolean isValid(String blurHash) {
+        if (Objects.isNull(blurHash) || blurHash.length() < 6) return false;
+        for (int index = 0; index < blurHash.length(); index++) {
+            var character = blurHash.charAt(index);
+            if (character >= DIGITS.length || DIGITS[character] < 0) return false;
+        }
+        var sizeFlag = DIGITS[blurHash.charAt(0)];
+        return sizeFlag < MAX_COMPONENTS * MAX_COMPONENTS
+               && blurHash.length() == 4 + 2 * (sizeFlag % MAX_COMPONENTS + 1) * (sizeFlag / MAX_COMPONENTS + 1);
+    }
+
+    private static int decode83(String source, int start, int length) {
+        var value = 0;
+        for (int index = start; index < start + length; index++) {
+            var character = source.charAt(index);
+            var digit = character < DIGITS.length ? DIGITS[character] : -1;
+            if (digit < 0) throw new IllegalArgumentException("invalid BlurHash character '" + character + "'");
+            value = value * 83 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * @return {@code sign(v) * v^2} of {@code v = (quantised - 9) / 9}
+     */
+    private static float signedSquare(int quantised) {
+        var value = (quantised - 9) / 9f;
+        return Math.copySign(value * value, value);
+    }
+
+    private static int toSRGB(float linear) {
+        if (linear <= 0) return 0;
+        if (linear >= 1) return 255;
+        return LINEAR_TO_SRGB[(int) (linear * LINEAR_STEPS + 0.5f)] & 0xFF;
+    }
+}
@@ -0,0 +1,337 @@
+package utils;
+
+import annotations.Author;
+import interfaces.UnsplashRandom;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import utils.http.HttpEngine;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static utils.paths.RandomPaths.RAND_CATEGORISED_SAVE_PATH;
+
+/**
+ * This class downloads many random images for many categories at once. Every category is handled
+ * by its own {@link RandomTagged} instance which is confined to a single task, so the mutable state
+ * of {@link RandomTagged} is never shared between threads. The images of a category are fetched in
+ * batches of up to {@link UnsplashRandom#MAX_COUNT} via {@link RandomTagged#init(int)}, the id and the
+ * download link of every image are taken out of the batch and, each image is then streamed to the disk
+ * by a task of its own, i.e., the downloads of a single category run side by side as well.<br/>
+ * The tasks run on virtual threads when the runtime supports them and on a bounded pool of platform
+ * threads otherwise, either way no more than {@code maxConcurrency} fetches and downloads are running
+ * at the same time.<br/>
+ * <b>Example</b>:
+ * <pre>{@code
+ * try (var downloader = new BulkDownloader(64)) {
+ *     var results = downloader.download(List.of("cats", "dogs", "robots"), 10);
+ *     results.stream().filter(result -> !result.isSuccess()).forEach(System.out::println);
+ * }
+ * }</pre>
+ *
+ * @author ConfusedRobo
+ * @see RandomTagged
+ * @see Result
+ * @see Semaphore
+ */
+@Author(
+        author = "ConfusedRobo",
+        creation = "Sunday, 18 October, 2026, 01:05:12 PM",
+        profile = "https://github.com/heretickeymaker"
+)
+public final class BulkDownloader implements AutoCloseable {
+    /**
+     * The executor that will run one task per category
+     */
+    private final ExecutorService executor;
+    /**
+     * The global concurrency cap, one permit is held for every batch fetch and for every image download
+     */
+    private final Semaphore permits;
+    /**
+     * The transport that'll be injected into every {@link RandomTagged} instance, {@code null} means
+     * the {@link HttpEngine#shared()} engine
+     */
+    private final HttpEngine engine;
+
+    /**
+     * Creates a downloader that uses the {@link HttpEngine#shared()} engine
+     *
+     * @param maxConcurrency the maximum amount of fetches and downloads that are running at the same time
+     */
+    public BulkDownloader(int maxConcurrency) {this(maxConcurrency, null);}
+
+    /**
+     * Creates a downloader that injects the given engine into every {@link RandomTagged} instance
+     *
+     * @param maxConcurrency the maximum amount of fetches and downloads that are running at the same time
+     * @param engine         the engine that'll be used for the requests, {@code null} for the shared one
+     * @throws IllegalArgumentException if the max concurrency is less than {@code 1}
+     */
+    public BulkDownloader(int maxConcurrency, @Nullable HttpEngine engine) {
+        if (maxConcurrency < 1) throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+        this.permits = new Semaphore(maxConcurrency);
+        this.executor = newExecutor(maxConcurrency);
+        this.engine = engine;
+    }
+
+    /**
+     * Creates a virtual thread per task executor via reflection so that this class still compiles and
+     * runs on the runtimes that don't have virtual threads, on those a fixed pool of daemon threads
+     * is created instead
+     *
+     * @param maxConcurrency the size of the fallback pool
+     * @return an {@link ExecutorService} instance
+     */
+    private static ExecutorService newExecutor(int maxConcurrency) {
+        try {
+            var factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException exception) {
+            var counter = new AtomicInteger();
+            ThreadFactory threadFactory = runnable -> {
+                var thread = new Thread(runnable, "bulk-downloader-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+            return Executors.newFixedThreadPool(maxConcurrency, threadFactory);
+        }
+    }
+
+    /**
+     * Downloads {@code countPerCategory} random images for every category and blocks until all of them
+     * have either been written or, failed
+     *
+     * @param categories       the categories, tags or topics of the images
+     * @param countPerCategory the amount of images that'll be downloaded for each category
+     * @return a {@link Result} for every requested image in the order of the categories
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public List<Result> download(@NotNull List<String> categories, int countPerCategory) throws InterruptedException {
+        try {
+            return downloadAsync(categories, countPerCategory).get();
+        } catch (ExecutionException exception) {
+            throw new IllegalStateException(exception.getCause());
+        }
+    }
+
+    /**
+     * The non-blocking counterpart of {@link BulkDownloader#download(List, int)}
+     *
+     * @param categories       the categories, tags or topics of the images
+     * @param countPerCategory the amount of images that'll be downloaded for each category
+     * @return a {@link CompletableFuture} that completes with a {@link Result} for every requested image
+     * @throws IllegalArgumentException if the count per category is less than {@code 1}
+     */
+    public CompletableFuture<List<Result>> downloadAsync(@NotNull List<String> categories, int countPerCategory) {
+        if (countPerCategory < 1)
+            throw new IllegalArgumentException("countPerCategory must be positive: " + countPerCategory);
+        var tasks = new ArrayList<CompletableFuture<List<Result>>>(categories.size());
+        for (var category : categories)
+            tasks.add(CompletableFuture.supplyAsync(() -> fetchCategory(category, countPerCategory), executor)
+                                       .thenCompose(BulkDownloader::collect));
+
+        return CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).thenApply(ignored -> {
+            var results = new ArrayList<Result>(categories.size() * countPerCategory);
+            tasks.forEach(task -> results.addAll(task.join()));
+            return Collections.unmodifiableList(results);
+        });
+    }
+
+    /**
+     * Fetches the images of one category and hands every image over to a download task of its own, this
+     * method runs on its own task and is the only owner of the {@link RandomTagged} instance. It doesn't wait
+     * for the downloads, so the bounded fallback pool can't be blocked by the categories waiting for their
+     * own images.
+     *
+     * @param category the category of the images
+     * @param count    the amount of images
+     * @return the pending results of every image of the category in order
+     */
+    private List<CompletableFuture<Result>> fetchCategory(String category, int count) {
+        var results = new ArrayList<CompletableFuture<Result>>(count);
+        try {
+            var tagged = new RandomTagged(category, engine);
+            var folder = category.strip().replace(' ', '-');
+            while (results.size() < count) {
+                var batchSize = Math.min(UnsplashRandom.MAX_COUNT, count - results.size());
+                permits.acquire();
+                boolean fetched;
+                try {
+                    fetched = tagged.init(batchSize);
+                } finally {
+                    permits.release();
+                }
+                if (!fetched) {
+                    failRemaining(results, category, count, null);
+                    break;
+                }
+                for (int index = 0; index < tagged.size() && results.size() < count; index++) {
+                    tagged.select(index);
+                    // the snapshot is all a download needs, the instance itself stays with this task
+                    var position = results.size();
+                    var imageID = tagged.getImageID();
+                    var link = tagged.downloadLink();
+                    var target = Path.of(RAND_CATEGORISED_SAVE_PATH + "/" + folder + "-" + imageID + ".jpg");
+                    var httpEngine = tagged.engine();
+                    results.add(CompletableFuture.supplyAsync(
+                            () -> downloadImage(httpEngine, category, position, imageID, link, target), executor));
+                }
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            failRemaining(results, category, count, exception);
+        } catch (RuntimeException exception) {
+            failRemaining(results, category, count, exception);
+        }
+        return results;
+    }
+
+    /**
+     * Streams one image to the disk while holding a permit, it is the same file that
+     * {@link RandomTagged#toJPG()} would have written. A failed download keeps its cause in the result
+     *
+     * @param engine   the engine of the category
+     * @param category the category of the image
+     * @param index    the position of the image within its category
+     * @param imageID  the id of the image
+     * @param link     the download link of the image
+     * @param target   the file of the image
+     * @return the result of the image
+     */
+    private Result downloadImage(HttpEngine engine, String category, int index, String imageID,
+                                 String link, Path target) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return new Result(category, index, imageID, false, exception);
+        }
+        try {
+            return engine.downloadResumableAsync(URI.create(link), target, null)
+                         .handle((path, failure) -> new Result(category, index, imageID, Objects.isNull(failure),
+                                                               unwrap(failure)))
+                         .join();
+        } catch (RuntimeException exception) {
+            return new Result(category, index, imageID, false, exception);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Strips the {@link CompletionException} wrapper off the failure of a download
+     *
+     * @param failure the failure of the download, {@code null} if it has succeeded
+     * @return the actual cause, {@code null} if there's none
+     */
+    private static @Nullable Throwable unwrap(@Nullable Throwable failure) {
+        while (failure instanceof CompletionException && Objects.nonNull(failure.getCause())) failure = failure.getCause();
+        return failure;
+    }
+
+    /**
+     * Waits for the pending results of a category without blocking a thread
+     *
+     * @param pending the pending results in order
+     * @return a {@link CompletableFuture} of the results in the same order
+     */
+    private static CompletableFuture<List<Result>> collect(List<CompletableFuture<Result>> pending) {
+        return CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).thenApply(ignored -> {
+            var results = new ArrayList<Result>(pending.size());
+            pending.forEach(result -> results.add(result.join()));
+            return results;
+        });
+    }
+
+    /**
+     * Fills the rest of the results of a category with failures
+     *
+     * @param results  the results of the category so far
+     * @param category the category of the images
+     * @param count    the amount of images that were requested
+     * @param error    the cause of the failure, may be {@code null}
+     */
+    private static void failRemaining(List<CompletableFuture<Result>> results, String category, int count,
+                                      Throwable error) {
+        while (results.size() < count)
+            results.add(CompletableFuture.completedFuture(new Result(category, results.size(), null, false, error)));
+    }
+
+    /**
+     * Stops accepting new categories and waits for the running ones to finish
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(1, TimeUnit.HOURS)) executor.shutdownNow();
+        } catch (InterruptedException exception) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * The outcome of a single image of a bulk download
+     */
+    public static final class Result {
+        private final String category;
+        private final int index;
+        private final String imageID;
+        private final boolean success;
+        private final Throwable error;
+
+        private Result(String category, int index, String imageID, boolean success, Throwable error) {
+            this.category = category;
+            this.index = index;
+            this.imageID = imageID;
+            this.success = success;
+            this.error = error;
+        }
+
+        /**
+         * @return the category the image belongs to
+         */
+        public String category() {return category;}
+
+        /**
+         * @return the position of the image within its category, starting from {@code 0}
+         */
+        public int index() {return index;}
+
+        /**
+         * @return the id of the image, {@code null} if the image couldn't be fetched at all
+         */
+        public @Nullable String imageID() {return imageID;}
+
+        /**
+         * @return {@code true} if the image has been written to the disk, {@code false} otherwise
+         */
+        public boolean isSuccess() {return success;}
+
+        /**
+         * @return the exception that caused the failure, {@code null} if there was none or, it is unknown
+         */
+        public @Nullable Throwable error() {return error;}
+
+        @Override
+        public String toString() {
+            return "Result {CATEGORY=" + category + ", INDEX=" + index + ", ID=" + imageID
+                   + ", SUCCESS=" + success + (Objects.isNull(error) ? "" : ", ERROR=" + error) + "}";
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package utils;
+
+import annotations.Author;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class makes the durable writes of many concurrent writers share part of their disk flushes, i.e., the
+ * writers hand their finished temporary files over and, a single committer thread collects them for up to
+ * {@code maxDelay} or, until {@code maxBatch} of them are pending. Every file of the batch is then forced to
+ * the disk, the flushes are issued side by side on a small pool of threads, only then the files are renamed
+ * over their targets and, every directory of the batch is forced once instead of once per file. Note that
+ * each file still costs a flush of its own, as there's no way to flush a whole file system from Java, the
+ * batch only saves the directory flushes and lets the file system fold the concurrent file flushes into
+ * fewer journal commits. The writers wait on a {@link CompletableFuture} rather than on the disk.<br/>
+ * <b>Example</b>:
+ * <pre>{@code
+ * try (var committer = new GroupCommitter()) {
+ *     var fixed = new RandomFixed();
+ *     fixed.setCommitter(committer);
+ *     fixed.init(30);
+ *     var written = new ArrayList<CompletableFuture<Boolean>>();
+ *     for (int index = 0; fixed.select(index); index++) written.add(fixed.toJPGAsync(fixed.getImageID()));
+ *     // the committer must outlive the writes it has been handed
+ *     CompletableFuture.allOf(written.toArray(CompletableFuture[]::new)).join();
+ * }
+ * }</pre>
+ *
+ * @author ConfusedRobo
+ * @see AtomicFiles
+ * @see Stats
+ */
+@Author(
+        author = "ConfusedRobo",
+        creation = "Monday, 19 October, 2026, 03:26:15 AM",
+        profile = "https://github.com/heretickeymaker"
+)
+public final class GroupCommitter implements Closeable {
+    /**
+     * The default amount of time the first write of a batch waits for others to join it
+     */
+    public static final Duration DEFAULT_MAX_DELAY = Duration.ofMillis(5);
+    /**
+     * The default amount of writes in a batch
+     */
+    public static final int DEFAULT_MAX_BATCH = 64;
+
+    private static final int MAX_FORCE_THREADS = 8;
+
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private final long maxDelayNanos;
+    private final int maxBatch;
+    private final Thread thread;
+    /**
+     * The threads that force the files of a batch side by side
+     */
+    private final ExecutorService forcers;
+    private volatile boolean closed;
+
+    private long commits;
+    private long batches;
+    private long failures;
+
+    /**
+     * Creates a committer with {@link GroupCommitter#DEFAULT_MAX_DELAY} and {@link GroupCommitter#DEFAULT_MAX_BATCH}
+     */
+    public GroupCommitter() {this(DEFAULT_MAX_DELAY, DEFAULT_MAX_BATCH);}
+
+    /**
+     * Creates a committer and starts its thread
+     *
+     * @param maxDelay the amount of time the first write of a batch waits for others to join it
+     * @param maxBatch the amount of writes after which a batch is committed right away
+     * @throws IllegalArgumentException if the delay is negative or, the batch size isn't positive
+     */
+    public GroupCommitter(@NotNull Duration maxDelay, int maxBatch) {
+        if (maxDelay.isNegative()) throw new IllegalArgumentException("negative maxDelay: " + maxDelay);
+        if (maxBatch < 1) throw new IllegalArgumentException("maxBatch must be positive: " + maxBatch);
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.maxBatch = maxBatch;
+        var counter = new AtomicInteger();
+        this.forcers = Executors.newFixedThreadPool(Math.min(maxBatch, MAX_FORCE_THREADS), runnable -> {
+            var forcer = new Thread(runnable, "group-committer-force-" + counter.incrementAndGet());
+            forcer.setDaemon(true);
+            return forcer;
+        });
+        this.thread = new Thread(this::run, "group-committer");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Schedules the durable rename of a finished temporary file over the target
+     *
+     * @param temporary the temporary file, e.g. from {@link AtomicFiles#temporary(Path)}
+     * @param target    the file that'll be replaced
+     * @return a {@link CompletableFuture} that completes with the target once the batch has been committed,
+     * the temporary file is deleted if the commit fails
+     */
+    public @NotNull CompletableFuture<Path> commit(@NotNull Path temporary, @NotNull Path target) {
+        var pending = new Pending(temporary, target);
+        if (closed) pending.fail(new IOException("the committer has been closed"));
+        else queue.add(pending);
+        // the committer may have drained the queue for the last time in between
+        if (closed && queue.remove(pending)) pending.fail(new IOException("the committer has been closed"));
+        return pending.future;
+    }
+
+    /**
+     * Writes the bytes into a temporary file on the calling thread and schedules its durable rename
+     *
+     * @param target  the file
+     * @param content the new content of the file
+     * @return a {@link CompletableFuture} that completes with the target once the batch has been committed
+     */
+    public @NotNull CompletableFuture<Path> write(@NotNull Path target, byte @NotNull [] content) {
+        Path temporary = null;
+        try {
+            temporary = AtomicFiles.temporary(target);
+            AtomicFiles.writeTemporary(temporary, content, false);
+            return commit(temporary, target);
+        } catch (IOException exception) {
+            deleteQuietly(temporary);
+            return CompletableFuture.failedFuture(exception);
+        }
+    }
+
+    /**
+     * The string counterpart of {@link GroupCommitter#write(Path, byte[])}, the string is UTF-8 encoded
+     *
+     * @param target  the file
+     * @param content the new content of the file
+     * @return a {@link CompletableFuture} that completes with the target once the batch has been committed
+     */
+    public @NotNull CompletableFuture<Path> writeString(@NotNull Path target, @NotNull String content) {
+        return write(target, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void run() {
+        var batch = new ArrayList<Pending>(maxBatch);
+        while (!closed || !queue.isEmpty()) {
+            try {
+                var first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (Objects.isNull(first)) continue;
+                batch.add(first);
+                var deadline = System.nanoTime() + maxDelayNanos;
+                while (batch.size() < maxBatch) {
+                    var remaining = deadline - System.nanoTime();
+                    var next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (Objects.isNull(next)) break;
+                    batch.add(next);
+                }
+            } catch (InterruptedException exception) {
+                // nobody interrupts the committer, the pending writes are still committed below
+            }
+            if (!batch.isEmpty()) commit(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Forces every file of the batch side by side, renames the ones that have been forced and then forces every
+     * distinct directory once
+     */
+    private void commit(List<Pending> batch) {
+        var forced = new ArrayList<CompletableFuture<Void>>(batch.size());
+        for (var pending : batch) forced.add(force(pending.temporary, batch.size() > 1));
+
+        var directories = new LinkedHashSet<Path>();
+        var committed = new ArrayList<Pending>(batch.size());
+        for (int index = 0; index < batch.size(); index++) {
+            var pending = batch.get(index);
+            try {
+                forced.get(index).join();
+                AtomicFiles.commit(pending.temporary, pending.target, false);
+                directories.add(pending.target.toAbsolutePath().getParent());
+                committed.add(pending);
+            } catch (CompletionException exception) {
+                pending.fail(Objects.isNull(exception.getCause()) ? exception : exception.getCause());
+            } catch (IOException | RuntimeException exception) {
+                pending.fail(exception);
+            }
+        }
+        for (var directory : directories) AtomicFiles.syncDirectory(directory);
+        synchronized (this) {
+            batches++;
+            commits += committed.size();
+            failures += batch.size() - committed.size();
+        }
+        for (var pending : committed) pending.future.complete(pending.target);
+    }
+
+    /**
+     * Forces the file to the disk, on one of the {@link GroupCommitter#forcers} if the batch has more files
+     */
+    private CompletableFuture<Void> force(Path file, boolean concurrently) {
+        Runnable task = () -> {
+            try {
+                AtomicFiles.force(file);
+            } catch (IOException exception) {throw new CompletionException(exception);}
+        };
+        if (!concurrently) {
+            try {
+                task.run();
+                return CompletableFuture.completedFuture(null);
+            } catch (RuntimeException exception) {return CompletableFuture.failedFuture(exception);}
+        }
+        try {
+            return CompletableFuture.runAsync(task, forcers);
+        } catch (RejectedExecutionException exception) {return CompletableFuture.failedFuture(exception);}
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (Objects.isNull(path)) return;
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {}
+    }
+
+    /**
+     * Takes a snapshot of the statistics
+     *
+     * @return a {@link Stats} instance
+     */
+    public synchronized @NotNull Stats stats() {return new Stats(commits, batches, failures);}
+
+    /**
+     * Commits the writes that are still pending and waits for the thread to stop, the later writes fail
+     * right away
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        try {
+            thread.join();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } finally {
+            forcers.shutdown();
+        }
+    }
+
+    /**
+     * A write that waits for its batch
+     */
+    private static final class Pending {
+        private final Path temporary;
+        private final Path target;
+        private final CompletableFuture<Path> future = new CompletableFuture<>();
+
+        private Pending(Path temporary, Path target) {
+            this.temporary = temporary;
+            this.target = target;
+        }
+
+        private void fail(Throwable failure) {
+            deleteQuietly(temporary);
+            future.completeExceptionally(failure);
+        }
+    }
+
+    /**
+     * An immutable snapshot of the committer statistics
+     */
+    public static final class Stats {
+        private final long commits;
+        private final long batches;
+        private final long failures;
+
+        private Stats(long commits, long batches, long failures) {
+            this.commits = commits;
+            this.batches = batches;
+            this.failures = failures;
+        }
+
+        /**
+         * @return the amount of files that have been committed
+         */
+        public long commits() {return commits;}
+
+        /**
+         * @return the amount of batches, i.e., of rounds of disk flushes
+         */
+        public long batches() {return batches;}
+
+        /**
+         * @return the amount of writes that couldn't be committed
+         */
+        public long failures() {return failures;}
+
+        /**
+         * @return the average amount of files per batch, {@code 0} if there were none
+         */
+        public double averageBatch() {return batches == 0 ? 0 : (double) commits / batches;}
+
+        @Override
+        public String toString() {
+            return "Stats {COMMITS=" + commits + ", BATCHES=" + batches + ", FAILURES=" + failures + "}";
+        }
+    }
+}
@@ -0,0 +1,529 @@
+package utils;
+
+import annotations.Author;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import utils.http.HttpEngine;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import static utils.paths.RandomPaths.RAND_IMAGE_SAVE_PATH;
+
+/**
+ * This class is a size bounded cache of downloaded images on the disk, keyed by the {@code id} of the image
+ * and the size variant, e.g. {@link ImageDiskCache#ORIGINAL} for {@code links.download} or, one of
+ * {@link models.Image.ImageSizes}. The entries are kept in an in-memory index in least recently used order,
+ * once the files take more than the byte budget the least recently used ones are deleted. An image that
+ * comes back from a random call is served from the disk instead of being downloaded again, and concurrent
+ * requests for the same image share a single download.<br/>
+ * The index is rebuilt from the directory when the cache is opened, the last modified time of the files
+ * stands in for the last access, which is why a hit touches the file. The files are deleted outside of the
+ * monitor of the cache, so the lookups never wait for the disk, and a file that gets evicted between its
+ * lookup and its copy is simply downloaded again, straight into the target.<br/>
+ * <b>Example</b>:
+ * <pre>{@code
+ * var cache = ImageDiskCache.open(512L << 20);
+ * var fixed = new RandomFixed();
+ * fixed.setImageCache(cache);
+ * fixed.init();
+ * fixed.toJPG(); // downloads once, every later toJPG() of the same id is a local copy
+ * }</pre>
+ *
+ * @author ConfusedRobo
+ * @see HttpEngine#downloadAsync(URI, Path)
+ * @see Stats
+ */
+@Author(
+        author = "ConfusedRobo",
+        creation = "Monday, 19 October, 2026, 01:03:17 AM",
+        profile = "https://github.com/heretickeymaker"
+)
+public final class ImageDiskCache {
+    /**
+     * The default directory of the cache
+     */
+    public static final String DEFAULT_PATH = RAND_IMAGE_SAVE_PATH + "/cache";
+    /**
+     * The variant of the original image, i.e., the one behind {@code links.download}
+     */
+    public static final String ORIGINAL = "original";
+
+    private static final String EXTENSION = ".jpg";
+    private static final char SEPARATOR = '@';
+
+    private final Path directory;
+    private final long maxBytes;
+    /**
+     * The entries by their key in access order, i.e., the eldest entry is the least recently used one
+     */
+    private final LinkedHashMap<String, Entry> index = new LinkedHashMap<>(64, 0.75f, true);
+    /**
+     * The downloads that are currently running by their key
+     */
+    private final Map<String, CompletableFuture<Path>> downloads = new ConcurrentHashMap<>();
+    private long bytes;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    private ImageDiskCache(Path directory, long maxBytes) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Opens the cache in {@link ImageDiskCache#DEFAULT_PATH}
+     *
+     * @param maxBytes the byte budget of the cached files
+     * @return an {@link ImageDiskCache} instance
+     * @throws IOException if the directory can't be created or, read
+     * @see ImageDiskCache#open(Path, long)
+     */
+    public static @NotNull ImageDiskCache open(long maxBytes) throws IOException {
+        return open(Path.of(DEFAULT_PATH), maxBytes);
+    }
+
+    /**
+     * Opens the cache in the directory, the files that are already there are indexed in the order of their last
+     * modified time and the leftovers of interrupted downloads are deleted. If the files take more than the
+     * budget, the oldest ones are evicted right away.
+     *
+     * @param directory the directory of the cache, it is created if it doesn't exist
+     * @param maxBytes  the byte budget of the cached files
+     * @return an {@link ImageDiskCache} instance
+     * @throws IOException              if the directory can't be created or, read
+     * @throws IllegalArgumentException if the budget isn't positive
+     */
+    public static @NotNull ImageDiskCache open(@NotNull Path directory, long maxBytes) throws IOException {
+        if (maxBytes < 1) throw new IllegalArgumentException("maxBytes must be positive: " + maxBytes);
+        Files.createDirectories(directory);
+        var cache = new ImageDiskCache(directory, maxBytes);
+
+        var found = new ArrayList<Map.Entry<String, Entry>>();
+        try (var files = Files.newDirectoryStream(directory)) {
+            for (var file : files) {
+                var name = file.getFileName().toString();
+                if (AtomicFiles.isTemporary(file)) {
+                    Files.deleteIfExists(file);
+                    continue;
+                }
+                if (!name.endsWith(EXTENSION) || name.indexOf(SEPARATOR) < 0 || !Files.isRegularFile(file)) continue;
+                var key = name.substring(0, name.length() - EXTENSION.length());
+                var modified = Files.getLastModifiedTime(file).toMillis();
+                found.add(Map.entry(key, new Entry(file, Files.size(file), modified)));
+            }
+        }
+        found.sort(Comparator.comparingLong(entry -> entry.getValue().lastAccess));
+        List<Map.Entry<String, Path>> evicted;
+        synchronized (cache) {
+            for (var entry : found) {
+                cache.index.put(entry.getKey(), entry.getValue());
+                cache.bytes += entry.getValue().size;
+            }
+            evicted = cache.evict();
+        }
+        cache.deleteUnused(evicted);
+        return cache;
+    }
+
+    /**
+     * Builds the key of an image, the characters that aren't safe in a file name are replaced
+     */
+    private static String keyOf(String id, String variant) {return sanitize(id) + SEPARATOR + sanitize(variant);}
+
+    private static String sanitize(String part) {
+        var builder = new StringBuilder(part.length());
+        for (int index = 0; index < part.length(); index++) {
+            var character = part.charAt(index);
+            var safe = character >= 'a' && character <= 'z' || character >= 'A' && character <= 'Z'
+                       || character >= '0' && character <= '9' || character == '-' || character == '_';
+            builder.append(safe ? character : '_');
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Looks the image up, a hit makes the entry the most recently used one
+     *
+     * @param id      the {@code id} of the image
+     * @param variant the size variant, e.g. {@link ImageDiskCache#ORIGINAL}
+     * @return the cached file, {@code null} if the image isn't cached
+     */
+    public @Nullable Path lookup(@NotNull String id, @NotNull String variant) {
+        var key = keyOf(id, variant);
+        Entry entry;
+        synchronized (this) {
+            entry = index.get(key);
+            if (Objects.isNull(entry)) {
+                misses++;
+                return null;
+            }
+            hits++;
+            entry.lastAccess = System.currentTimeMillis();
+        }
+        if (!Files.isRegularFile(entry.file)) {
+            // the file has been deleted behind our back
+            synchronized (this) {
+                hits--;
+                misses++;
+                forget(key, entry);
+            }
+            return null;
+        }
+        try {
+            Files.setLastModifiedTime(entry.file, FileTime.fromMillis(entry.lastAccess));
+        } catch (IOException ignored) {}
+        return entry.file;
+    }
+
+    /**
+     * Hands out the cached file of the image, downloading it first on a miss. The download only replaces the
+     * cached file once it is complete, so a cached file is never partial.
+     *
+     * @param engine  the engine that'll download the image on a miss
+     * @param id      the {@code id} of the image
+     * @param variant the size variant, e.g. {@link ImageDiskCache#ORIGINAL}
+     * @param link    the link of the image, only used on a miss
+     * @return a {@link CompletableFuture} that completes with the cached file
+     */
+    public @NotNull CompletableFuture<Path> fetchAsync(@NotNull HttpEngine engine, @NotNull String id,
+                                                       @NotNull String variant, @NotNull String link) {
+        return fetchAsync(engine, id, variant, link, null);
+    }
+
+    /**
+     * Hands out the cached file of the image like {@link ImageDiskCache#fetchAsync(HttpEngine, String, String, String)}
+     * does but, a miss is downloaded via {@link HttpEngine#downloadResumableAsync(URI, Path, GroupCommitter)},
+     * i.e., an interrupted download keeps its {@code .part} file in the directory of the cache and, the next
+     * miss of the same image only fetches the rest of it. The finished file is handed over to the committer.
+     *
+     * @param engine    the engine that'll download the image on a miss
+     * @param id        the {@code id} of the image
+     * @param variant   the size variant, e.g. {@link ImageDiskCache#ORIGINAL}
+     * @param link      the link of the image, only used on a miss
+     * @param committer the committer, {@code null} for a plain atomic replace without a flush
+     * @return a {@link CompletableFuture} that completes with the cached file
+     */
+    public @NotNull CompletableFuture<Path> fetchAsync(@NotNull HttpEngine engine, @NotNull String id,
+                                                       @NotNull String variant, @NotNull String link,
+                                                       @Nullable GroupCommitter committer) {
+        var cached = lookup(id, variant);
+        if (Objects.nonNull(cached)) return CompletableFuture.completedFuture(cached);
+
+        var key = keyOf(id, variant);
+        var started = new CompletableFuture<Path>();
+        var running = downloads.putIfAbsent(key, started);
+        if (Objects.nonNull(running)) return running;
+
+        var file = directory.resolve(key + EXTENSION);
+        CompletableFuture<Path> download;
+        try {
+            download = engine.downloadResumableAsync(URI.create(link), file, committer);
+        } catch (IllegalArgumentException exception) {
+            download = CompletableFuture.failedFuture(exception);
+        }
+        download.thenApply(path -> {
+            try {
+                add(key, file, Files.size(file));
+                return file;
+            } catch (IOException exception) {
+                throw new CompletionException(exception);
+            }
+        }).whenComplete((path, failure) -> {
+            downloads.remove(key, started);
+            if (Objects.isNull(failure)) started.complete(path);
+            else started.completeExceptionally(failure);
+        });
+        return started;
+    }
+
+    /**
+     * Hands out the cached file of the image and then links or, copies it to the target, i.e., only a miss
+     * goes over the network. A hard link is tried first so that the target doesn't take any extra space. If the
+     * cached file is evicted before it could be linked or, copied then the image is downloaded straight
+     * into the target instead.
+     *
+     * @param engine  the engine that'll download the image on a miss
+     * @param id      the {@code id} of the image
+     * @param variant the size variant, e.g. {@link ImageDiskCache#ORIGINAL}
+     * @param link    the link of the image, only used on a miss
+     * @param target  the file the image should end up in, it is replaced if it exists
+     * @return a {@link CompletableFuture} that completes with the target
+     */
+    public @NotNull CompletableFuture<Path> copyAsync(@NotNull HttpEngine engine, @NotNull String id,
+                                                      @NotNull String variant, @NotNull String link,
+                                                      @NotNull Path target) {
+        return copyAsync(engine, id, variant, link, target, null);
+    }
+
+    /**
+     * Links or, copies the cached file of the image to the target like
+     * {@link ImageDiskCache#copyAsync(HttpEngine, String, String, String, Path)} does but, the miss is downloaded
+     * as in {@link ImageDiskCache#fetchAsync(HttpEngine, String, String, String, GroupCommitter)} and, the
+     * target is replaced via the committer, i.e., the returned future completes once the image is durably on
+     * the disk. The download that replaces an evicted file is resumable as well.
+     *
+     * @param engine    the engine that'll download the image on a miss
+     * @param id        the {@code id} of the image
+     * @param variant   the size variant, e.g. {@link ImageDiskCache#ORIGINAL}
+     * @param link      the link of the image, only used on a miss
+     * @param target    the file the image should end up in, it is replaced if it exists
+     * @param committer the committer, {@code null} for a plain atomic replace without a flush
+     * @return a {@link CompletableFuture} that completes with the target
+     */
+    public @NotNull CompletableFuture<Path> copyAsync(@NotNull HttpEngine engine, @NotNull String id,
+                                                      @NotNull String variant, @NotNull String link,
+                                                      @NotNull Path target, @Nullable GroupCommitter committer) {
+        return fetchAsync(engine, id, variant, link, committer).thenComposeAsync(file -> {
+            try {
+                return materialize(file, target, committer);
+            } catch (NoSuchFileException exception) {
+                // evicted in between, the image goes straight to the target instead of through the cache
+                var key = keyOf(id, variant);
+                synchronized (this) {
+                    var entry = index.get(key);
+                    if (Objects.nonNull(entry) && entry.file.equals(file)) forget(key, entry);
+                }
+                return engine.downloadResumableAsync(URI.create(link), target, committer);
+            } catch (IOException exception) {
+                throw new CompletionException(exception);
+            }
+        }, engine.executor());
+    }
+
+    /**
+     * The blocking counterpart of {@link ImageDiskCache#copyAsync(HttpEngine, String, String, String, Path)}
+     *
+     * @return {@code true} if the image has been written to the target, {@code false} otherwise
+     */
+    public boolean copy(@NotNull HttpEngine engine, @NotNull String id, @NotNull String variant,
+                        @NotNull String link, @NotNull Path target) {
+        return copy(engine, id, variant, link, target, null);
+    }
+
+    /**
+     * The blocking counterpart of {@link ImageDiskCache#copyAsync(HttpEngine, String, String, String, Path, GroupCommitter)}
+     *
+     * @return {@code true} if the image has been written to the target, {@code false} otherwise
+     */
+    public boolean copy(@NotNull HttpEngine engine, @NotNull String id, @NotNull String variant,
+                        @NotNull String link, @NotNull Path target, @Nullable GroupCommitter committer) {
+        try {
+            copyAsync(engine, id, variant, link, target, committer).get();
+            return true;
+        } catch (ExecutionException exception) {
+            return false;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Links or, copies the file into a temporary file next to the target, which then replaces the target either
+     * right away or, via the committer
+     */
+    private static CompletableFuture<Path> materialize(Path file, Path target, GroupCommitter committer)
+            throws IOException {
+        var parent = target.toAbsolutePath().getParent();
+        if (Objects.nonNull(parent)) Files.createDirectories(parent);
+        var temporary = AtomicFiles.temporary(target);
+        try {
+            try {
+                Files.delete(temporary);
+                Files.createLink(temporary, file);
+            } catch (UnsupportedOperationException | IOException exception) {
+                // e.g. the target is on another file store
+                Files.copy(file, temporary, StandardCopyOption.REPLACE_EXISTING);
+            }
+            if (Objects.nonNull(committer)) return committer.commit(temporary, target);
+            return CompletableFuture.completedFuture(AtomicFiles.commit(temporary, target, false));
+        } catch (IOException | RuntimeException exception) {
+            Files.deleteIfExists(temporary);
+            throw exception;
+        }
+    }
+
+    private void add(String key, Path file, long size) {
+        List<Map.Entry<String, Path>> evicted;
+        synchronized (this) {
+            var previous = index.put(key, new Entry(file, size, System.currentTimeMillis()));
+            if (Objects.nonNull(previous)) bytes -= previous.size;
+            bytes += size;
+            evicted = evict();
+        }
+        deleteUnused(evicted);
+    }
+
+    /**
+     * Drops the entry from the index if it is still the entry of the key, the caller must hold the monitor
+     */
+    private void forget(String key, Entry entry) {
+        if (index.remove(key, entry)) bytes -= entry.size;
+    }
+
+    /**
+     * Drops the least recently used entries until the budget is met, the most recently used entry is always
+     * kept even if it alone is over the budget. The caller must hold the monitor and, hand the returned
+     * files over to {@link ImageDiskCache#deleteUnused(List)} once it has released it.
+     *
+     * @return the files of the dropped entries by their key
+     */
+    private List<Map.Entry<String, Path>> evict() {
+        var evicted = new ArrayList<Map.Entry<String, Path>>();
+        var entries = index.entrySet().iterator();
+        while (bytes > maxBytes && index.size() > 1 && entries.hasNext()) {
+            var entry = entries.next();
+            entries.remove();
+            bytes -= entry.getValue().size;
+            evictions++;
+            evicted.add(Map.entry(entry.getKey(), entry.getValue().file));
+        }
+        return evicted;
+    }
+
+    /**
+     * Deletes the files of the dropped entries unless their key has been cached again in the meantime. The
+     * file of a key always has the same name, so a download of the same key that commits between the eviction
+     * and the deletion would otherwise lose its file. The check and the deletion run while the key is locked
+     * in {@link ImageDiskCache#downloads}, i.e., no download of the key can start in between and, the file of
+     * a download that is already running is left alone since the download replaces it anyway.
+     *
+     * @param files the dropped files by their key
+     */
+    private void deleteUnused(List<Map.Entry<String, Path>> files) {
+        for (var file : files) {
+            downloads.compute(file.getKey(), (key, running) -> {
+                if (Objects.isNull(running) && !isIndexed(key)) {
+                    try {
+                        Files.deleteIfExists(file.getValue());
+                    } catch (IOException ignored) {}
+                }
+                return running;
+            });
+        }
+    }
+
+    /**
+     * Checks whether the key is cached without touching the access order
+     */
+    private synchronized boolean isIndexed(String key) {return index.containsKey(key);}
+
+    /**
+     * Removes the image from the cache and deletes its file
+     *
+     * @param id      the {@code id} of the image
+     * @param variant the size variant
+     * @return {@code true} if the image was cached
+     */
+    public boolean remove(@NotNull String id, @NotNull String variant) {
+        var key = keyOf(id, variant);
+        Entry entry;
+        synchronized (this) {
+            entry = index.remove(key);
+            if (Objects.isNull(entry)) return false;
+            bytes -= entry.size;
+        }
+        deleteUnused(List.of(Map.entry(key, entry.file)));
+        return true;
+    }
+
+    /**
+     * @return the directory of the cache
+     */
+    public @NotNull Path directory() {return directory;}
+
+    /**
+     * @return the byte budget of the cached files
+     */
+    public long maxBytes() {return maxBytes;}
+
+    /**
+     * Takes a snapshot of the statistics
+     *
+     * @return a {@link Stats} instance
+     */
+    public synchronized @NotNull Stats stats() {return new Stats(hits, misses, evictions, index.size(), bytes);}
+
+    /**
+     * A cached file along with what the index needs to know about it
+     */
+    private static final class Entry {
+        private final Path file;
+        private final long size;
+        private long lastAccess;
+
+        private Entry(Path file, long size, long lastAccess) {
+            this.file = file;
+            this.size = size;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    /**
+     * An immutable snapshot of the cache statistics
+     */
+    public static final class Stats {
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final int entries;
+        private final long bytes;
+
+        private Stats(long hits, long misses, long evictions, int entries, long bytes) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.entries = entries;
+            this.bytes = bytes;
+        }
+
+        /**
+         * @return the amount of lookups that have been served from the disk
+         */
+        public long hits() {return hits;}
+
+        /**
+         * @return the amount of lookups that weren't cached
+         */
+        public long misses() {return misses;}
+
+        /**
+         * @return the amount of files that have been deleted to meet the budget
+         */
+        public long evictions() {return evictions;}
+
+        /**
+         * @return the amount of cached files
+         */
+        public int entries() {return entries;}
+
+        /**
+         * @return the size of the cached files in bytes
+         */
+        public long bytes() {return bytes;}
+
+        @Override
+        public String toString() {
+            return "Stats {HITS=" + hits + ", MISSES=" + misses + ", EVICTIONS=" + evictions
+                   + ", ENTRIES=" + entries + ", BYTES=" + bytes + "}";
+        }
+    }
+}
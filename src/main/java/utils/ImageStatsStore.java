@@ -0,0 +1,465 @@
+package utils;
+
+import annotations.Author;
+import models.Image;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * This class keeps the statistics of many fetched images in a column per statistic, i.e., the likes, views
+ * and downloads are stored in {@code long[]}s, the dimensions in {@code int[]}s, the {@code created_at}
+ * timestamps as epoch seconds in a {@code long[]} and the colors as codes into a dictionary of the distinct
+ * colors. Ranking thousands of images then only walks the primitive arrays of the columns that are involved
+ * rather than chasing the pointers of a {@code List<Image>}.<br/>
+ * The operations work on rows, i.e., the position of an image in the order it was added, and hand out the
+ * selected or, ordered rows as {@code int[]}s which can be passed on to the next operation:
+ * <pre>{@code
+ * var store = new ImageStatsStore();
+ * store.addAll(images);
+ * var landscape = store.filter(Column.WIDTH, 4000, Integer.MAX_VALUE);
+ * var popular = store.topK(landscape, Column.LIKES, 10);
+ * for (var row : popular) System.out.println(store.id(row) + " " + store.get(Column.LIKES, row));
+ * }</pre>
+ * The filters are branch free loops over a single array, so the JIT is free to unroll and vectorise them.
+ * This class isn't thread safe.
+ *
+ * @author ConfusedRobo
+ * @see Column
+ * @see Image
+ */
+@Author(
+        author = "ConfusedRobo",
+        creation = "Sunday, 18 October, 2026, 11:24:51 PM",
+        profile = "https://github.com/heretickeymaker"
+)
+public final class ImageStatsStore {
+    /**
+     * The value of {@link Column#CREATED_AT} for the images without a {@code created_at} timestamp
+     */
+    public static final long NO_TIMESTAMP = Long.MIN_VALUE;
+    /**
+     * The color code of the images without a color
+     */
+    public static final int NO_COLOR = -1;
+
+    /**
+     * The numeric columns of the store
+     */
+    public enum Column {
+        /**
+         * {@link Image#likes}
+         */
+        LIKES,
+        /**
+         * {@link Image#views}
+         */
+        VIEWS,
+        /**
+         * {@link Image#downloads}
+         */
+        DOWNLOADS,
+        /**
+         * The width of {@link models.ImageMetadata#dimension}
+         */
+        WIDTH,
+        /**
+         * The height of {@link models.ImageMetadata#dimension}
+         */
+        HEIGHT,
+        /**
+         * The epoch second of {@link models.ImageMetadata#createdAt}
+         */
+        CREATED_AT
+    }
+
+    private int size;
+    private String[] ids;
+    private long[] likes;
+    private long[] views;
+    private long[] downloads;
+    private int[] widths;
+    private int[] heights;
+    private long[] createdAt;
+    private int[] colors;
+
+    /**
+     * The distinct colors in the order they were first seen, the code of a color is its index
+     */
+    private final List<String> colorDictionary = new ArrayList<>();
+    private final HashMap<String, Integer> colorCodes = new HashMap<>();
+
+    /**
+     * Creates an empty store with room for {@code 256} images
+     */
+    public ImageStatsStore() {this(256);}
+
+    /**
+     * Creates an empty store
+     *
+     * @param initialCapacity the amount of images the columns have room for before they grow
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public ImageStatsStore(int initialCapacity) {
+        if (initialCapacity < 0) throw new IllegalArgumentException("negative capacity: " + initialCapacity);
+        ids = new String[initialCapacity];
+        likes = new long[initialCapacity];
+        views = new long[initialCapacity];
+        downloads = new long[initialCapacity];
+        widths = new int[initialCapacity];
+        heights = new int[initialCapacity];
+        createdAt = new long[initialCapacity];
+        colors = new int[initialCapacity];
+    }
+
+    /**
+     * Copies the statistics of the image into a new row, the image itself isn't retained
+     *
+     * @param image the image
+     * @return the row of the image
+     */
+    public int add(@NotNull Image image) {
+        if (size == ids.length) grow();
+        var row = size++;
+        ids[row] = image.id;
+        likes[row] = image.likes;
+        views[row] = image.views;
+        downloads[row] = image.downloads;
+
+        var metadata = image.metadata;
+        var dimension = Objects.isNull(metadata) ? null : metadata.dimension;
+        widths[row] = Objects.isNull(dimension) ? 0 : dimension.width;
+        heights[row] = Objects.isNull(dimension) ? 0 : dimension.height;
+        var created = Objects.isNull(metadata) ? null : metadata.createdAt;
+        createdAt[row] = Objects.isNull(created) ? NO_TIMESTAMP : created.epochSecond();
+        colors[row] = Objects.isNull(metadata) ? NO_COLOR : encodeColor(metadata.color);
+        return row;
+    }
+
+    /**
+     * Copies the statistics of all the images, {@code null} images are skipped
+     *
+     * @param images the images
+     */
+    public void addAll(@NotNull Iterable<Image> images) {
+        for (var image : images) if (Objects.nonNull(image)) add(image);
+    }
+
+    private void grow() {
+        var capacity = Math.max(16, ids.length + (ids.length >> 1));
+        ids = Arrays.copyOf(ids, capacity);
+        likes = Arrays.copyOf(likes, capacity);
+        views = Arrays.copyOf(views, capacity);
+        downloads = Arrays.copyOf(downloads, capacity);
+        widths = Arrays.copyOf(widths, capacity);
+        heights = Arrays.copyOf(heights, capacity);
+        createdAt = Arrays.copyOf(createdAt, capacity);
+        colors = Arrays.copyOf(colors, capacity);
+    }
+
+    private int encodeColor(String color) {
+        if (Objects.isNull(color)) return NO_COLOR;
+        var code = colorCodes.get(color);
+        if (Objects.nonNull(code)) return code;
+        colorDictionary.add(color);
+        colorCodes.put(color, colorDictionary.size() - 1);
+        return colorDictionary.size() - 1;
+    }
+
+    /**
+     * @return the amount of images in the store
+     */
+    public int size() {return size;}
+
+    /**
+     * @return the amount of distinct colors in the store
+     */
+    public int colorCount() {return colorDictionary.size();}
+
+    /**
+     * @param row the row
+     * @return the {@code id} of the image
+     */
+    public String id(int row) {return ids[checkRow(row)];}
+
+    /**
+     * @param row the row
+     * @return the color of the image, {@code null} if it has none
+     */
+    public @Nullable String color(int row) {
+        var code = colors[checkRow(row)];
+        return code == NO_COLOR ? null : colorDictionary.get(code);
+    }
+
+    /**
+     * @param column the column
+     * @param row    the row
+     * @return the value of the column for the image
+     */
+    public long get(@NotNull Column column, int row) {
+        checkRow(row);
+        switch (column) {
+            case WIDTH: return widths[row];
+            case HEIGHT: return heights[row];
+            default: return longs(column)[row];
+        }
+    }
+
+    private int checkRow(int row) {return Objects.checkIndex(row, size);}
+
+    private long[] longs(Column column) {
+        switch (column) {
+            case LIKES: return likes;
+            case VIEWS: return views;
+            case DOWNLOADS: return downloads;
+            case CREATED_AT: return createdAt;
+            default: throw new IllegalArgumentException("not a long column: " + column);
+        }
+    }
+
+    private int[] ints(Column column) {
+        switch (column) {
+            case WIDTH: return widths;
+            case HEIGHT: return heights;
+            default: throw new IllegalArgumentException("not an int column: " + column);
+        }
+    }
+
+    private static boolean isIntColumn(Column column) {return column == Column.WIDTH || column == Column.HEIGHT;}
+
+    /**
+     * @return all the rows in the order the images were added
+     */
+    public int @NotNull [] rows() {
+        var rows = new int[size];
+        for (int row = 0; row < size; row++) rows[row] = row;
+        return rows;
+    }
+
+    /**
+     * Selects the images whose value of the column is within the range
+     *
+     * @param column the column
+     * @param min    the lower bound, inclusive
+     * @param max    the upper bound, inclusive
+     * @return the matching rows in ascending order
+     */
+    public int @NotNull [] filter(@NotNull Column column, long min, long max) {
+        var selected = new int[size];
+        var count = 0;
+        if (isIntColumn(column)) {
+            var values = ints(column);
+            for (int row = 0; row < size; row++) {
+                selected[count] = row;
+                count += values[row] >= min & values[row] <= max ? 1 : 0;
+            }
+        } else {
+            var values = longs(column);
+            for (int row = 0; row < size; row++) {
+                selected[count] = row;
+                count += values[row] >= min & values[row] <= max ? 1 : 0;
+            }
+        }
+        return Arrays.copyOf(selected, count);
+    }
+
+    /**
+     * Narrows an earlier selection down to the images whose value of the column is within the range
+     *
+     * @param rows   the rows of an earlier selection
+     * @param column the column
+     * @param min    the lower bound, inclusive
+     * @param max    the upper bound, inclusive
+     * @return the matching rows in the order of the selection
+     */
+    public int @NotNull [] filter(int @NotNull [] rows, @NotNull Column column, long min, long max) {
+        var selected = new int[rows.length];
+        var count = 0;
+        if (isIntColumn(column)) {
+            var values = ints(column);
+            for (var row : rows) {
+                selected[count] = row;
+                count += values[checkRow(row)] >= min & values[row] <= max ? 1 : 0;
+            }
+        } else {
+            var values = longs(column);
+            for (var row : rows) {
+                selected[count] = row;
+                count += values[checkRow(row)] >= min & values[row] <= max ? 1 : 0;
+            }
+        }
+        return Arrays.copyOf(selected, count);
+    }
+
+    /**
+     * Selects the images of the color, the color is only looked up once and then the codes are compared
+     *
+     * @param color the color, e.g. {@code #595959}
+     * @return the matching rows in ascending order, empty if no image has the color
+     */
+    public int @NotNull [] filterColor(@NotNull String color) {
+        var code = colorCodes.get(color);
+        if (Objects.isNull(code)) return new int[0];
+        var selected = new int[size];
+        var count = 0;
+        for (int row = 0; row < size; row++) {
+            selected[count] = row;
+            count += colors[row] == code ? 1 : 0;
+        }
+        return Arrays.copyOf(selected, count);
+    }
+
+    /**
+     * Gathers the values of the column for the rows into one array
+     */
+    private long[] gather(int[] rows, Column column) {
+        var keys = new long[rows.length];
+        if (isIntColumn(column)) {
+            var values = ints(column);
+            for (int index = 0; index < rows.length; index++) keys[index] = values[checkRow(rows[index])];
+        } else {
+            var values = longs(column);
+            for (int index = 0; index < rows.length; index++) keys[index] = values[checkRow(rows[index])];
+        }
+        return keys;
+    }
+
+    /**
+     * Orders all the images by the column
+     *
+     * @param column     the column
+     * @param descending {@code true} for the greatest values first
+     * @return the rows in order
+     * @see ImageStatsStore#sort(int[], Column, boolean)
+     */
+    public int @NotNull [] sort(@NotNull Column column, boolean descending) {return sort(rows(), column, descending);}
+
+    /**
+     * Orders the rows by the column with a stable radix sort over the gathered values, i.e., the rows with
+     * equal values keep the order they had in the selection. The passes over the bytes that are the same for
+     * all the values, e.g. the high bytes of the likes, are skipped.
+     *
+     * @param rows       the rows of an earlier selection, left untouched
+     * @param column     the column
+     * @param descending {@code true} for the greatest values first
+     * @return the rows in order
+     */
+    public int @NotNull [] sort(int @NotNull [] rows, @NotNull Column column, boolean descending) {
+        var keys = gather(rows, column);
+        // flipping the sign bit makes the unsigned byte order match the signed order of the values
+        var flip = descending ? Long.MAX_VALUE : Long.MIN_VALUE;
+        for (int index = 0; index < keys.length; index++) keys[index] ^= flip;
+
+        var order = rows.clone();
+        var nextKeys = new long[keys.length];
+        var nextOrder = new int[keys.length];
+        var counts = new int[256];
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+            Arrays.fill(counts, 0);
+            for (var key : keys) counts[(int) (key >>> shift) & 0xFF]++;
+            if (keys.length == 0 || counts[(int) (keys[0] >>> shift) & 0xFF] == keys.length) continue;
+            for (int digit = 0, offset = 0; digit < counts.length; digit++) {
+                var count = counts[digit];
+                counts[digit] = offset;
+                offset += count;
+            }
+            for (int index = 0; index < keys.length; index++) {
+                var position = counts[(int) (keys[index] >>> shift) & 0xFF]++;
+                nextKeys[position] = keys[index];
+                nextOrder[position] = order[index];
+            }
+            var swapKeys = keys;
+            keys = nextKeys;
+            nextKeys = swapKeys;
+            var swapOrder = order;
+            order = nextOrder;
+            nextOrder = swapOrder;
+        }
+        return order;
+    }
+
+    /**
+     * Picks the images with the greatest values of the column
+     *
+     * @param column the column
+     * @param k      the amount of images
+     * @return up to {@code k} rows, the greatest value first
+     * @see ImageStatsStore#topK(int[], Column, int)
+     */
+    public int @NotNull [] topK(@NotNull Column column, int k) {return topK(rows(), column, k);}
+
+    /**
+     * Picks the rows with the greatest values of the column via a bounded min-heap, i.e., without sorting
+     * the whole selection. The ties are broken by the position in the selection, the earlier one wins.
+     *
+     * @param rows   the rows of an earlier selection
+     * @param column the column
+     * @param k      the amount of rows
+     * @return up to {@code k} rows, the greatest value first
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    public int @NotNull [] topK(int @NotNull [] rows, @NotNull Column column, int k) {
+        if (k < 0) throw new IllegalArgumentException("negative k: " + k);
+        var keys = gather(rows, column);
+        var capacity = Math.min(k, rows.length);
+        // the heap holds positions into the selection, the root is the worst one that has been kept so far
+        var heap = new int[capacity];
+        var heapSize = 0;
+        for (int index = 0; index < keys.length && capacity > 0; index++) {
+            if (heapSize < capacity) {
+                heap[heapSize] = index;
+                siftUp(heap, heapSize++, keys);
+            } else if (keys[index] > keys[heap[0]]) {
+                heap[0] = index;
+                siftDown(heap, heapSize, keys);
+            }
+        }
+
+        var top = new int[heapSize];
+        for (int position = heapSize - 1; position >= 0; position--) {
+            top[position] = rows[heap[0]];
+            heap[0] = heap[position];
+            siftDown(heap, position, keys);
+        }
+        return top;
+    }
+
+    /**
+     * @return {@code true} if the position {@code a} ranks below the position {@code b}
+     */
+    private static boolean isWorse(int a, int b, long[] keys) {return keys[a] < keys[b] || keys[a] == keys[b] && a > b;}
+
+    private static void siftUp(int[] heap, int position, long[] keys) {
+        var item = heap[position];
+        while (position > 0) {
+            var parent = (position - 1) >>> 1;
+            if (!isWorse(item, heap[parent], keys)) break;
+            heap[position] = heap[parent];
+            position = parent;
+        }
+        heap[position] = item;
+    }
+
+    private static void siftDown(int[] heap, int size, long[] keys) {
+        if (size == 0) return;
+        var item = heap[0];
+        var position = 0;
+        while (true) {
+            var child = 2 * position + 1;
+            if (child >= size) break;
+            if (child + 1 < size && isWorse(heap[child + 1], heap[child], keys)) child++;
+            if (!isWorse(heap[child], item, keys)) break;
+            heap[position] = heap[child];
+            position = child;
+        }
+        heap[position] = item;
+    }
+
+    @Override
+    public String toString() {return "ImageStatsStore {SIZE=" + size + ", COLORS=" + colorDictionary.size() + "}";}
+}
@@ -0,0 +1,420 @@
+package utils;
+
+import annotations.Author;
+import interfaces.UnsplashRandom;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.json.JSONObject;
+import utils.http.HttpEngine;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static utils.paths.RandomPaths.RAND_CATEGORISED_SAVE_PATH;
+
+/**
+ * This class keeps a bounded queue of already fetched (and optionally, already downloaded) random images
+ * per category, so that {@link PrefetchPool#next(String)} can hand one out without waiting for the
+ * unsplash.com servers at all. Whenever the queue of a category drops below the low watermark a refill
+ * is scheduled in the background which fetches batches via {@link RandomTagged#init(String, int)} until
+ * the high watermark is reached. Entries that are older than the time-to-live are dropped instead of
+ * being handed out, along with their downloaded file. A refill that fails or, gets an empty batch puts the
+ * category on hold for the refill backoff, which doubles with every further failure, so an exhausted or,
+ * failing API isn't hammered by every {@link PrefetchPool#next(String)} call.<br/>
+ * <b>Example</b>:
+ * <pre>{@code
+ * var pool = PrefetchPool.builder().watermarks(5, 30).ttl(Duration.ofMinutes(10)).build();
+ * pool.warmUp("cats");
+ * var image = pool.next("cats"); // null only if the queue is empty
+ * }</pre>
+ *
+ * @author ConfusedRobo
+ * @see RandomTagged
+ * @see PrefetchedImage
+ * @see Builder
+ */
+@Author(
+        author = "ConfusedRobo",
+        creation = "Sunday, 18 October, 2026, 02:20:37 PM",
+        profile = "https://github.com/heretickeymaker"
+)
+public final class PrefetchPool implements AutoCloseable {
+    /**
+     * The queues and the refill state of every category that has been requested so far
+     */
+    private final Map<String, CategoryQueue> queues = new ConcurrentHashMap<>();
+    /**
+     * The executor that runs the background refills
+     */
+    private final ExecutorService executor;
+    /**
+     * The transport that'll be injected into the {@link RandomTagged} instances
+     */
+    private final HttpEngine engine;
+    private final int lowWatermark;
+    private final int highWatermark;
+    private final long ttlNanos;
+    private final long backoffNanos;
+    private final boolean download;
+
+    /**
+     * The constructor is kept private, use {@link PrefetchPool#builder()}
+     *
+     * @param builder the builder holding the configuration
+     */
+    private PrefetchPool(Builder builder) {
+        this.lowWatermark = builder.lowWatermark;
+        this.highWatermark = builder.highWatermark;
+        this.ttlNanos = builder.ttl.toNanos();
+        this.backoffNanos = builder.refillBackoff.toNanos();
+        this.download = builder.download;
+        this.engine = builder.engine;
+        var counter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(builder.refillThreads, runnable -> {
+            var thread = new Thread(runnable, "prefetch-pool-refill-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Creates a new {@link Builder} with the default settings, i.e., a low watermark of {@code 5}, a high
+     * watermark of {@link UnsplashRandom#MAX_COUNT}, a time-to-live of {@code 30} minutes, a refill backoff
+     * of {@code 1} second and no downloads
+     *
+     * @return a {@link Builder} instance
+     */
+    public static @NotNull Builder builder() {return new Builder();}
+
+    /**
+     * Hands out the oldest fresh image of the category without blocking. Stale entries are dropped on
+     * the way and a background refill is scheduled if the queue falls below the low watermark, unless the
+     * category is still backing off from a failed refill.
+     *
+     * @param category the category, tag or topic of the image
+     * @return a {@link PrefetchedImage}, {@code null} if there's no fresh image available right now
+     */
+    public @Nullable PrefetchedImage next(@NotNull String category) {
+        var queue = queueOf(category);
+        var now = System.nanoTime();
+        var image = queue.poll();
+        while (image != null && isStale(image, now)) {
+            discard(image);
+            image = queue.poll();
+        }
+        if (queue.size() < lowWatermark && now - queue.retryAt >= 0) scheduleRefill(category, queue);
+        return image;
+    }
+
+    /**
+     * Schedules a refill of the category right away even if it is backing off, useful to fill the queues
+     * before the first request
+     *
+     * @param category the category, tag or topic of the images
+     */
+    public void warmUp(@NotNull String category) {scheduleRefill(category, queueOf(category));}
+
+    /**
+     * The amount of images that are currently queued for the category, stale ones included
+     *
+     * @param category the category, tag or topic of the images
+     * @return the size of the queue
+     */
+    public int available(@NotNull String category) {
+        var queue = queues.get(category);
+        return Objects.isNull(queue) ? 0 : queue.size();
+    }
+
+    private CategoryQueue queueOf(String category) {
+        return queues.computeIfAbsent(category, key -> new CategoryQueue());
+    }
+
+    private boolean isStale(PrefetchedImage image, long now) {return now - image.fetchedAt > ttlNanos;}
+
+    /**
+     * Deletes the downloaded file of an entry that won't be handed out anymore, no other entry shares it
+     *
+     * @param image the dropped entry
+     */
+    private static void discard(PrefetchedImage image) {
+        if (Objects.isNull(image.file)) return;
+        try {
+            Files.deleteIfExists(image.file);
+        } catch (IOException ignored) {}
+    }
+
+    /**
+     * Schedules a refill unless one is already running for the category
+     *
+     * @param category the category of the images
+     * @param queue    the queue of the category
+     */
+    private void scheduleRefill(String category, CategoryQueue queue) {
+        if (!queue.refilling.compareAndSet(false, true)) return;
+        try {
+            executor.execute(() -> {
+                try {
+                    refill(category, queue);
+                } finally {
+                    queue.refilling.set(false);
+                }
+            });
+        } catch (RuntimeException exception) {
+            queue.refilling.set(false);
+        }
+    }
+
+    /**
+     * Drops the stale entries from the head of the queue and then fetches batches until the high watermark
+     * is reached, or a fetch fails or, comes back empty in which case the category backs off. Only one refill
+     * runs per category at a time, so the {@link RandomTagged} instance of the queue is never used concurrently.
+     *
+     * @param category the category of the images
+     * @param queue    the queue of the category
+     */
+    private void refill(String category, CategoryQueue queue) {
+        var now = System.nanoTime();
+        PrefetchedImage head;
+        while ((head = queue.peek()) != null && isStale(head, now)) {
+            if (queue.remove(head)) discard(head);
+        }
+
+        if (Objects.isNull(queue.tagged)) queue.tagged = new RandomTagged(category, engine);
+        var tagged = queue.tagged;
+        while (queue.size() < highWatermark) {
+            var batchSize = Math.min(UnsplashRandom.MAX_COUNT, highWatermark - queue.size());
+            if (!tagged.init(category, batchSize) || tagged.size() == 0) {
+                // the budget is gone, the API is failing or, there's nothing left for the category
+                var shift = Math.min(queue.failures++, 6);
+                queue.retryAt = System.nanoTime() + (backoffNanos << shift);
+                return;
+            }
+            queue.failures = 0;
+            for (int index = 0; index < tagged.size(); index++) {
+                tagged.select(index);
+                Path file = null;
+                var fetchedAt = System.nanoTime();
+                if (download) {
+                    // the same image can come up in two batches, each entry owns its own file nonetheless
+                    var filename = category.strip().replace(' ', '-') + "-" + tagged.getImageID() + "-" + fetchedAt;
+                    if (tagged.toJPG(filename)) file = Path.of(RAND_CATEGORISED_SAVE_PATH + "/" + filename + ".jpg");
+                }
+                queue.offer(new PrefetchedImage(category, tagged.getImageID(), tagged.downloadLink(),
+                                                tagged.getStringJSON(), file, fetchedAt));
+            }
+        }
+    }
+
+    /**
+     * Stops the background refills, the images that are already queued can still be handed out
+     */
+    @Override
+    public void close() {executor.shutdownNow();}
+
+    /**
+     * The queue of a single category along with its refill state
+     */
+    private static final class CategoryQueue {
+        private final Queue<PrefetchedImage> images = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean refilling = new AtomicBoolean();
+        /**
+         * The {@link System#nanoTime()} before which no refill is scheduled by {@link PrefetchPool#next(String)}
+         */
+        private volatile long retryAt = System.nanoTime();
+        /**
+         * Only accessed by the refill that currently holds {@link CategoryQueue#refilling}
+         */
+        private RandomTagged tagged;
+        /**
+         * The amount of refills in a row that have failed, only accessed by the refill as well
+         */
+        private int failures;
+
+        private void offer(PrefetchedImage image) {
+            images.offer(image);
+            size.incrementAndGet();
+        }
+
+        private PrefetchedImage poll() {
+            var image = images.poll();
+            if (image != null) size.decrementAndGet();
+            return image;
+        }
+
+        private PrefetchedImage peek() {return images.peek();}
+
+        private boolean remove(PrefetchedImage image) {
+            if (!images.remove(image)) return false;
+            size.decrementAndGet();
+            return true;
+        }
+
+        private int size() {return size.get();}
+    }
+
+    /**
+     * An immutable snapshot of a random image that has been fetched ahead of time
+     */
+    public static final class PrefetchedImage {
+        private final String category;
+        private final String imageID;
+        private final String downloadLink;
+        private final String stringJSON;
+        private final Path file;
+        private final long fetchedAt;
+
+        private PrefetchedImage(String category, String imageID, String downloadLink, String stringJSON,
+                                Path file, long fetchedAt) {
+            this.category = category;
+            this.imageID = imageID;
+            this.downloadLink = downloadLink;
+            this.stringJSON = stringJSON;
+            this.file = file;
+            this.fetchedAt = fetchedAt;
+        }
+
+        /**
+         * @return the category the image was fetched for
+         */
+        public String category() {return category;}
+
+        /**
+         * @return the {@code id} of the image
+         */
+        public String imageID() {return imageID;}
+
+        /**
+         * @return the {@code links.download} url of the image
+         */
+        public String downloadLink() {return downloadLink;}
+
+        /**
+         * @return the raw JSON of the image
+         */
+        public String stringJSON() {return stringJSON;}
+
+        /**
+         * @return the raw JSON of the image parsed into a {@link JSONObject}
+         */
+        public JSONObject toJSON() {return new JSONObject(stringJSON);}
+
+        /**
+         * @return the file the image has been downloaded to, {@code null} if it hasn't been downloaded
+         */
+        public @Nullable Path file() {return file;}
+
+        @Override
+        public String toString() {
+            return "PrefetchedImage {CATEGORY=" + category + ", ID=" + imageID + ", FILE=" + file + "}";
+        }
+    }
+
+    /**
+     * A builder that configures the {@link PrefetchPool}
+     */
+    public static final class Builder {
+        private int lowWatermark = 5;
+        private int highWatermark = UnsplashRandom.MAX_COUNT;
+        private Duration ttl = Duration.ofMinutes(30);
+        private Duration refillBackoff = Duration.ofSeconds(1);
+        private boolean download;
+        private int refillThreads = 2;
+        private HttpEngine engine;
+
+        private Builder() {}
+
+        /**
+         * Sets the watermarks, a refill starts once a queue drops below the low watermark and stops
+         * once the queue reaches the high watermark
+         *
+         * @param lowWatermark  the low watermark, must not be negative
+         * @param highWatermark the high watermark, must be greater than the low watermark
+         * @return this builder
+         * @throws IllegalArgumentException if the watermarks are out of order
+         */
+        public Builder watermarks(int lowWatermark, int highWatermark) {
+            if (lowWatermark < 0 || highWatermark <= lowWatermark)
+                throw new IllegalArgumentException("invalid watermarks: " + lowWatermark + ", " + highWatermark);
+            this.lowWatermark = lowWatermark;
+            this.highWatermark = highWatermark;
+            return this;
+        }
+
+        /**
+         * Sets the time-to-live of the queued images, older images are dropped
+         *
+         * @param ttl the time-to-live
+         * @return this builder
+         */
+        public Builder ttl(@NotNull Duration ttl) {
+            this.ttl = Objects.requireNonNull(ttl);
+            return this;
+        }
+
+        /**
+         * Sets how long a category waits before the next refill once a refill has failed, the wait doubles
+         * with every further failure in a row up to {@code 64} times the backoff
+         *
+         * @param refillBackoff the backoff after the first failure
+         * @return this builder
+         * @throws IllegalArgumentException if the backoff is negative
+         */
+        public Builder refillBackoff(@NotNull Duration refillBackoff) {
+            if (refillBackoff.isNegative()) throw new IllegalArgumentException("negative refillBackoff: " + refillBackoff);
+            this.refillBackoff = refillBackoff;
+            return this;
+        }
+
+        /**
+         * Whether the images should be downloaded to {@link utils.paths.RandomPaths#RAND_CATEGORISED_SAVE_PATH}
+         * during the refill as well
+         *
+         * @param download {@code true} to download the images ahead of time
+         * @return this builder
+         */
+        public Builder download(boolean download) {
+            this.download = download;
+            return this;
+        }
+
+        /**
+         * Sets the amount of threads that run the background refills
+         *
+         * @param refillThreads the amount of threads, must be positive
+         * @return this builder
+         */
+        public Builder refillThreads(int refillThreads) {
+            if (refillThreads < 1) throw new IllegalArgumentException("refillThreads must be positive");
+            this.refillThreads = refillThreads;
+            return this;
+        }
+
+        /**
+         * Sets the transport that'll be used for the refills, the {@link HttpEngine#shared()} engine by default
+         *
+         * @param engine the engine
+         * @return this builder
+         */
+        public Builder engine(HttpEngine engine) {
+            this.engine = engine;
+            return this;
+        }
+
+        /**
+         * @return a new {@link PrefetchPool}
+         */
+        public PrefetchPool build() {return new PrefetchPool(this);}
+    }
+}
@@ -4,29 +4,35 @@ import annotations.Author;
 import interfaces.UnsplashRandom;
 import io.github.cdimascio.dotenv.Dotenv;
 import io.github.cdimascio.dotenv.DotenvBuilder;
+import models.Image;
+import models.model_utils.LazyEntries;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.json.JSONArray;
+import org.json.JSONException;
 import org.json.JSONObject;
+import utils.http.HttpEngine;
+import utils.json.ImageBinder;
+import utils.json.JsonRecordLog;
+import utils.json.Projection;
 
 import java.io.IOException;
 import java.io.Serial;
 import java.io.Serializable;
 import java.net.URI;
-import java.net.URL;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.OpenOption;
 import java.nio.file.Path;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Spliterator;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -55,9 +61,10 @@ import static utils.paths.TopPaths.ENV_FILEPATH;
  * @see TimeUnit
  * @see BodyHandlers
  * @see Consumer
- * @see Files
+ * @see AtomicFiles
  * @see Path
  * @see CompletableFuture
+ * @see HttpEngine
  */
 @Author(
         author = "ConfusedRobo",
@@ -93,17 +100,123 @@ public class RandomFixed implements Serializable, Iterable<Map.Entry<String, Obj
      * @see JSONObject
      */
     private JSONObject cachedImage;
+    /**
+     * The JSON array returned by a batch request i.e., {@link RandomFixed#init(int)}. The
+     * {@link RandomFixed#cachedImage} field will point to the currently selected element of this array,
+     * it stays {@code null} for single image requests.
+     *
+     * @see RandomFixed#select(int)
+     */
+    private JSONArray cachedBatch;
+    /**
+     * The transport that was injected via {@link RandomFixed#RandomFixed(HttpEngine)} or,
+     * {@link RandomFixed#setEngine(HttpEngine)}, if it is {@code null} then the
+     * {@link HttpEngine#shared()} engine will be used instead
+     */
+    private transient HttpEngine engine;
+    /**
+     * The on-disk cache that was injected via {@link RandomFixed#setImageCache(ImageDiskCache)}, if it is
+     * {@code null} then every {@code toJPG} call downloads the image
+     */
+    private transient ImageDiskCache imageCache;
+    /**
+     * The log that was injected via {@link RandomFixed#setRecordLog(JsonRecordLog)}, if it is {@code null} then
+     * the {@code toJSON} methods overwrite the JSON cache file
+     */
+    private transient JsonRecordLog recordLog;
+    /**
+     * The committer that was injected via {@link RandomFixed#setCommitter(GroupCommitter)}, if it is {@code null}
+     * then the files are still replaced atomically but, aren't forced to the disk
+     */
+    private transient GroupCommitter committer;
+
+    /**
+     * The default behavior; the {@link HttpEngine#shared()} engine will be used for the requests
+     */
+    public RandomFixed() {}
+
+    /**
+     * This constructor injects a custom transport that'll be used for the requests
+     *
+     * @param engine the engine that'll be used instead of the shared one
+     */
+    public RandomFixed(HttpEngine engine) {this.engine = engine;}
+
+    /**
+     * Getter for the transport, falls back to {@link HttpEngine#shared()} if no engine has been injected
+     *
+     * @return an {@link HttpEngine} instance
+     */
+    @Override
+    public HttpEngine engine() {return Objects.isNull(engine) ? HttpEngine.shared() : engine;}
+
+    /**
+     * Setter for the transport, pass {@code null} to go back to the {@link HttpEngine#shared()} engine
+     *
+     * @param engine the engine that'll be used for the requests
+     */
+    public void setEngine(HttpEngine engine) {this.engine = engine;}
+
+    /**
+     * Getter for the on-disk image cache
+     *
+     * @return the {@link ImageDiskCache} instance, {@code null} if no cache has been injected
+     */
+    public ImageDiskCache imageCache() {return imageCache;}
+
+    /**
+     * Setter for the on-disk image cache, once it is set the {@code toJPG} methods serve the images that
+     * have already been downloaded from the disk. Pass {@code null} to always download the images.
+     *
+     * @param imageCache the cache that'll be used by the {@code toJPG} methods
+     */
+    public void setImageCache(ImageDiskCache imageCache) {this.imageCache = imageCache;}
+
+    /**
+     * Getter for the JSON record log
+     *
+     * @return the {@link JsonRecordLog} instance, {@code null} if no log has been injected
+     */
+    public JsonRecordLog recordLog() {return recordLog;}
+
+    /**
+     * Setter for the JSON record log, once it is set the {@code toJSON} methods append the JSON of the image
+     * to the log instead of overwriting the JSON cache file. Pass {@code null} to go back to the file.
+     *
+     * @param recordLog the log that'll be used by the {@code toJSON} methods
+     */
+    public void setRecordLog(JsonRecordLog recordLog) {this.recordLog = recordLog;}
+
+    /**
+     * Getter for the group committer
+     *
+     * @return the {@link GroupCommitter} instance, {@code null} if no committer has been injected
+     */
+    public GroupCommitter committer() {return committer;}
+
+    /**
+     * Setter for the group committer, once it is set the JSON cache file and the downloaded images are forced
+     * to the disk before the {@code toJSON} and {@code toJPG} methods return, the flushes are shared with the
+     * other writes of the committer. Pass {@code null} in order to skip the flushes.
+     *
+     * @param committer the committer that'll be used by the {@code toJSON} and {@code toJPG} methods
+     */
+    public void setCommitter(GroupCommitter committer) {this.committer = committer;}
 
     /**
      * This method loads the environment variable into runtime temporarily and removes from the env
-     * after execution is completed
+     * after execution is completed. If there's no {@code .env} file then, the {@code API_KEY} environment
+     * variable or, the {@link UnsplashRandom#API_KEY_PROPERTY} system property is used instead
      *
      * @see Dotenv#configure()
      * @see DotenvBuilder#filename(String)
      * @see Dotenv#load()
-     * @see Dotenv#get(String)
+     * @see Dotenv#get(String, String)
      */
-    private void loadToken() {this.client_id = Dotenv.configure().filename(ENV_FILEPATH).load().get("API_KEY");}
+    private void loadToken() {
+        this.client_id = Dotenv.configure().filename(ENV_FILEPATH).ignoreIfMissing().load()
+                               .get("API_KEY", System.getProperty(API_KEY_PROPERTY));
+    }
 
     /**
      * Checks if the {@link RandomFixed#cachedImage} field and the {@link RandomFixed#stringJSON}
@@ -140,31 +253,261 @@ public class RandomFixed implements Serializable, Iterable<Map.Entry<String, Obj
      * @see HttpResponse#body()
      * @see BodyHandlers#ofString()
      * @see HttpRequest#newBuilder()
-     * @see HttpClient#newHttpClient()
-     * @see HttpClient#sendAsync(HttpRequest, HttpResponse.BodyHandler)
-     * @see TimeUnit#SECONDS
+     * @see HttpEngine#sendApiAsync(HttpRequest, HttpResponse.BodyHandler)
      * @see ExecutionException
      * @see InterruptedException
-     * @see TimeoutException
      */
     public boolean init() {
         loadToken();
         if (Objects.isNull(client_id)) throw new NullPointerException("client_ID is null");
 
-        var prepURLString = API_LINK.replace("API_KEY", client_id);
+        var prepURLString = engine().apiLink().replace("API_KEY", client_id);
+        return cacheImage(fetchJSON(prepURLString));
+    }
+
+    /**
+     * Fetches a batch of random images in one request by appending {@link UnsplashRandom#LINK_SUBPART_COUNT}
+     * to the API link. The returned JSON array is stored in {@link RandomFixed#cachedBatch} and the first
+     * element gets selected, so that {@link RandomFixed#downloadLink()}, {@link RandomFixed#toJPG()} and
+     * {@link RandomFixed#toJSON()} work on it right away. Use {@link RandomFixed#select(int)} in order to
+     * move onto the other images of the batch.
+     *
+     * @param count the amount of images that'll be fetched, from {@code 1} to {@link UnsplashRandom#MAX_COUNT}
+     * @return {@code true} if the batch has been fetched and parsed, {@code false} otherwise
+     * @throws IllegalArgumentException if the count is out of range
+     *
+     * @see RandomFixed#select(int)
+     * @see RandomFixed#size()
+     */
+    @SuppressWarnings("DuplicatedCode")
+    public boolean init(int count) {
+        if (count < 1 || count > MAX_COUNT)
+            throw new IllegalArgumentException("count must be between 1 and " + MAX_COUNT + ": " + count);
+        loadToken();
+        if (Objects.isNull(client_id)) throw new NullPointerException("client_ID is null");
+
+        var prepURLString = engine().apiLink().replace("API_KEY", client_id)
+                + LINK_SUBPART_COUNT.replace("COUNT", String.valueOf(count));
+        var rawJSON = fetchJSON(prepURLString);
+        if (Objects.isNull(rawJSON)) return false;
+        try {
+            var batch = new JSONArray(rawJSON);
+            if (batch.isEmpty()) return false;
+            this.cachedBatch = batch;
+            return select(0);
+        } catch (JSONException exception) {return false;}
+    }
+
+    /**
+     * Selects one of the images of the last batch fetched by {@link RandomFixed#init(int)}, after which
+     * {@link RandomFixed#downloadLink()}, {@link RandomFixed#toJPG()}, {@link RandomFixed#toJSON()} and the
+     * iterator will work on that image.
+     *
+     * @param index the index of the image in the batch
+     * @return {@code true} if the image has been selected, {@code false} if there's no batch or,
+     * the index is out of range
+     */
+    public boolean select(int index) {
+        if (Objects.isNull(cachedBatch) || index < 0 || index >= cachedBatch.length()) return false;
+        this.cachedImage = cachedBatch.getJSONObject(index);
+        this.stringJSON = cachedImage.toString();
+        return true;
+    }
+
+    /**
+     * The amount of images that are currently available for selection
+     *
+     * @return the length of the batch, {@code 1} if a single image has been fetched and {@code 0}
+     * if nothing has been fetched yet
+     */
+    public int size() {
+        if (Objects.nonNull(cachedBatch)) return cachedBatch.length();
+        return isInit() ? 1 : 0;
+    }
+
+    /**
+     * The non-blocking counterpart of {@link RandomFixed#init()}, the request is sent via
+     * {@link HttpEngine#sendApiAsync(HttpRequest, HttpResponse.BodyHandler)} and the body is parsed
+     * on whichever thread completes the response, so the calling thread returns right away.
+     *
+     * @return a {@link CompletableFuture} that completes with {@code true} if the image has been fetched
+     * and parsed, {@code false} otherwise
+     *
+     * @see RandomFixed#init()
+     * @see CompletableFuture#thenApply(Function)
+     */
+    @Override
+    public CompletableFuture<Boolean> initAsync() {
+        loadToken();
+        if (Objects.isNull(client_id)) throw new NullPointerException("client_ID is null");
+        var prepURLString = engine().apiLink().replace("API_KEY", client_id);
+        return fetchJSONAsync(prepURLString)
+                .thenApply(this::cacheImage)
+                .exceptionally(exception -> false);
+    }
+
+    /**
+     * Fetches a random image and binds the response body straight into the typed {@link Image} model via
+     * {@link ImageBinder}, i.e., the body is read once and neither {@link RandomFixed#stringJSON} nor,
+     * {@link RandomFixed#cachedImage} are built or, touched. Use this method over {@link RandomFixed#init()} when
+     * only the model is needed.
+     *
+     * @return a {@link CompletableFuture} that completes with the {@link Image}, or with {@code null} if the
+     * request fails or, the response isn't a photo
+     *
+     * @see ImageBinder#ofImage()
+     */
+    public CompletableFuture<Image> fetchImageAsync() {
+        loadToken();
+        if (Objects.isNull(client_id)) throw new NullPointerException("client_ID is null");
+        var prepURLString = engine().apiLink().replace("API_KEY", client_id);
         var request = HttpRequest.newBuilder(URI.create(prepURLString)).build();
-        var client = HttpClient.newHttpClient();
+        return engine().sendApiAsync(request, ImageBinder.ofImage())
+                .thenApply(HttpResponse::body)
+                .exceptionally(exception -> null);
+    }
 
+    /**
+     * The blocking counterpart of {@link RandomFixed#fetchImageAsync()}
+     *
+     * @return the fetched {@link Image}, {@code null} if the request fails or, the response isn't a photo
+     */
+    public @Nullable Image fetchImage() {
         try {
-            var rawJSONBuilder = new StringBuilder(500);
-            client.sendAsync(request, BodyHandlers.ofString())
-                  .thenApply(HttpResponse::body)
-                  .thenAccept(rawJSONBuilder::append)
-                  .get(2, TimeUnit.SECONDS);
-            this.stringJSON = rawJSONBuilder.toString();
-            this.cachedImage = new JSONObject(this.stringJSON);
+            return fetchImageAsync().get();
+        } catch (InterruptedException | ExecutionException exception) {return null;}
+    }
+
+    /**
+     * Binds the currently cached image into the typed {@link Image} model
+     *
+     * @return an {@link Image} instance, {@code null} if nothing has been fetched or, the JSON can't be bound
+     *
+     * @see ImageBinder#bind(String)
+     */
+    public @Nullable Image toImage() {
+        if (!isInit()) return null;
+        try {
+            return ImageBinder.bind(stringJSON);
+        } catch (IOException | RuntimeException exception) {return null;}
+    }
+
+    /**
+     * Fetches a random image and reads only the fields declared by the projection out of the response body,
+     * everything else, e.g. the {@code user}, {@code exif} and {@code location} objects, is skipped without
+     * being decoded. Just like {@link RandomFixed#fetchImageAsync()}, nothing is cached.
+     *
+     * @param projection the fields that are needed, e.g. {@link Projection#PREVIEW}
+     * @return a {@link CompletableFuture} that completes with the {@link Projection.Record}, or with {@code null}
+     * if the request fails or, the response isn't a photo
+     *
+     * @see Projection#ofRecord()
+     */
+    public CompletableFuture<Projection.Record> fetchProjectedAsync(@NotNull Projection projection) {
+        loadToken();
+        if (Objects.isNull(client_id)) throw new NullPointerException("client_ID is null");
+        var prepURLString = engine().apiLink().replace("API_KEY", client_id);
+        var request = HttpRequest.newBuilder(URI.create(prepURLString)).build();
+        return engine().sendApiAsync(request, projection.ofRecord())
+                .thenApply(HttpResponse::body)
+                .exceptionally(exception -> null);
+    }
+
+    /**
+     * The blocking counterpart of {@link RandomFixed#fetchProjectedAsync(Projection)}
+     *
+     * @param projection the fields that are needed, e.g. {@link Projection#PREVIEW}
+     * @return the {@link Projection.Record}, {@code null} if the request fails or, the response isn't a photo
+     */
+    public @Nullable Projection.Record fetchProjected(@NotNull Projection projection) {
+        try {
+            return fetchProjectedAsync(projection).get();
+        } catch (InterruptedException | ExecutionException exception) {return null;}
+    }
+
+    /**
+     * The batch counterpart of {@link RandomFixed#fetchProjectedAsync(Projection)}, i.e., the fields declared by
+     * the projection are read out of every photo of the returned JSON array
+     *
+     * @param projection the fields that are needed, e.g. {@link Projection#PREVIEW}
+     * @param count      the amount of images that'll be fetched, from {@code 1} to {@link UnsplashRandom#MAX_COUNT}
+     * @return a {@link CompletableFuture} that completes with the records in the order of the array, or with
+     * {@code null} if the request fails or, the response isn't an array of photos
+     * @throws IllegalArgumentException if the count is out of range
+     *
+     * @see Projection#ofRecords()
+     */
+    public CompletableFuture<List<Projection.Record>> fetchProjectedAsync(@NotNull Projection projection, int count) {
+        if (count < 1 || count > MAX_COUNT)
+            throw new IllegalArgumentException("count must be between 1 and " + MAX_COUNT + ": " + count);
+        loadToken();
+        if (Objects.isNull(client_id)) throw new NullPointerException("client_ID is null");
+        var prepURLString = engine().apiLink().replace("API_KEY", client_id)
+                + LINK_SUBPART_COUNT.replace("COUNT", String.valueOf(count));
+        var request = HttpRequest.newBuilder(URI.create(prepURLString)).build();
+        return engine().sendApiAsync(request, projection.ofRecords())
+                .thenApply(HttpResponse::body)
+                .exceptionally(exception -> null);
+    }
+
+    /**
+     * Reads the fields declared by the projection out of the currently cached image, without building a
+     * {@link JSONObject}
+     *
+     * @param projection the fields that are needed, e.g. {@link Projection#PREVIEW}
+     * @return the {@link Projection.Record}, {@code null} if nothing has been fetched or, the JSON can't be read
+     *
+     * @see Projection#bind(String)
+     */
+    public @Nullable Projection.Record project(@NotNull Projection projection) {
+        if (!isInit()) return null;
+        try {
+            return projection.bind(stringJSON);
+        } catch (IOException | RuntimeException exception) {return null;}
+    }
+
+    /**
+     * Parses the raw JSON of a single image and caches it in {@link RandomFixed#cachedImage} and
+     * {@link RandomFixed#stringJSON}
+     *
+     * @param rawJSON the raw JSON string that was fetched, may be {@code null}
+     * @return {@code true} if the JSON has been parsed and cached, {@code false} otherwise
+     */
+    private boolean cacheImage(@Nullable String rawJSON) {
+        if (Objects.isNull(rawJSON)) return false;
+        try {
+            var image = new JSONObject(rawJSON);
+            this.cachedImage = image;
+            this.stringJSON = rawJSON;
+            this.cachedBatch = null;
             return true;
-        } catch (InterruptedException | TimeoutException | ExecutionException exception) {return false;}
+        } catch (JSONException exception) {return false;}
+    }
+
+    /**
+     * Sends a {@code GET} request to the prepared link via the {@link RandomFixed#engine()} without
+     * blocking the calling thread
+     *
+     * @param prepURLString the prepared API link
+     * @return a {@link CompletableFuture} that completes with the raw JSON string
+     */
+    private CompletableFuture<String> fetchJSONAsync(String prepURLString) {
+        var request = HttpRequest.newBuilder(URI.create(prepURLString)).build();
+        return engine().sendApiAsync(request, BodyHandlers.ofString()).thenApply(HttpResponse::body);
+    }
+
+    /**
+     * Sends a {@code GET} request to the prepared link via the {@link RandomFixed#engine()} and
+     * returns the response body as a string
+     *
+     * @param prepURLString the prepared API link
+     * @return the raw JSON string, {@code null} if the request fails or, takes longer than the
+     * {@link HttpEngine#apiPolicy()} allows
+     */
+    private @Nullable String fetchJSON(String prepURLString) {
+        try {
+            return fetchJSONAsync(prepURLString).get();
+        } catch (InterruptedException | ExecutionException exception) {return null;}
     }
 
     /**
@@ -181,25 +524,77 @@ public class RandomFixed implements Serializable, Iterable<Map.Entry<String, Obj
     }
 
     /**
-     * Writes the {@link RandomFixed#stringJSON} to a file
+     * Writes the {@link RandomFixed#stringJSON} to a file or, appends it to the {@link RandomFixed#recordLog} if one
+     * has been injected
      *
      * @return {@code true} if no {@link IOException} occurs, {@code false} otherwise
      *
      * @see Path#of(String, String...)
-     * @see Files#deleteIfExists(Path)
-     * @see Files#writeString(Path, CharSequence, OpenOption...)
+     * @see AtomicFiles#writeString(Path, String, boolean)
+     * @see JsonRecordLog#append(String)
      */
     @Override
     public boolean toJSON() {
         if (!isInit()) return false;
+        return writeJSON(recordLog, committer, stringJSON);
+    }
+
+    /**
+     * The non-blocking counterpart of {@link RandomFixed#toJSON()}, the JSON that is cached at the time of
+     * the call is written on the {@link HttpEngine#executor()}
+     *
+     * @return a {@link CompletableFuture} that completes with {@code true} if the JSON has been written,
+     * {@code false} otherwise
+     */
+    @Override
+    public CompletableFuture<Boolean> toJSONAsync() {
+        if (!isInit()) return CompletableFuture.completedFuture(false);
+        var snapshot = stringJSON;
+        var log = recordLog;
+        var durable = committer;
+        return CompletableFuture.supplyAsync(() -> writeJSON(log, durable, snapshot), engine().executor());
+    }
+
+    /**
+     * Appends the raw JSON string to the log or, atomically replaces the JSON cache file if there's no log
+     *
+     * @param log       the log, may be {@code null}
+     * @param committer the committer that forces the file to the disk, may be {@code null}
+     * @param rawJSON   the raw JSON string
+     * @return {@code true} if no {@link IOException} occurs, {@code false} otherwise
+     */
+    private static boolean writeJSON(JsonRecordLog log, GroupCommitter committer, String rawJSON) {
         try {
+            if (Objects.nonNull(log)) {
+                log.append(rawJSON);
+                return true;
+            }
             var prepPath = Path.of(RAND_JSON_CACHE_SAVE_PATH + "/" + "sample-fixed.json");
-            Files.deleteIfExists(prepPath);
-            Files.writeString(prepPath, stringJSON);
+            if (Objects.isNull(committer)) AtomicFiles.writeString(prepPath, rawJSON, false);
+            else committer.writeString(prepPath, rawJSON).get();
             return true;
-        } catch (IOException exception) {return false;}
+        } catch (IOException | IllegalArgumentException | ExecutionException exception) {
+            return false;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
     }
 
+    /**
+     * Getter for the raw JSON string of the currently cached image
+     *
+     * @return the raw JSON string, {@code null} if nothing has been fetched
+     */
+    public String getStringJSON() {return stringJSON;}
+
+    /**
+     * This is a utility method, it just fetches the {@code id} of the currently cached image.
+     *
+     * @return a {@code String} that'll contain the image id, {@code null} if nothing has been fetched
+     */
+    public String getImageID() {return isInit() ? cachedImage.getString("id") : null;}
+
     /**
      * This is a utility method, it just fetches the download link from the JSON and returns it.
      *
@@ -214,11 +609,6 @@ public class RandomFixed implements Serializable, Iterable<Map.Entry<String, Obj
         return this.cachedImage.getJSONObject("links").getString("download");
     }
 
-    private byte @Nullable [] getImageBytes() {
-        try (var stream = new URL(downloadLink()).openStream()) {
-            return stream.readAllBytes();
-        } catch (IOException exception) {return null;}
-    }
 
     /**
      * Creates an image file and giving it a name based on its id
@@ -227,14 +617,39 @@ public class RandomFixed implements Serializable, Iterable<Map.Entry<String, Obj
      */
     @Override
     public boolean toJPG() {
+        if (!isInit()) return false;
+        return toJPG(defaultFilename());
+    }
+
+    /**
+     * The non-blocking counterpart of {@link RandomFixed#toJPG()}
+     *
+     * @return a {@link CompletableFuture} that completes with {@code true} if the image has been written,
+     * {@code false} otherwise
+     */
+    @Override
+    public CompletableFuture<Boolean> toJPGAsync() {
+        if (!isInit()) return CompletableFuture.completedFuture(false);
+        return toJPGAsync(defaultFilename());
+    }
+
+    /**
+     * Builds the name of the image file from the cached image's id
+     *
+     * @return the name of the file without the extension
+     */
+    private String defaultFilename() {
         var imageID = cachedImage.getString("id");
-        var filename = String.format("%s", imageID);
-        return toJPG(filename);
+        return String.format("%s", imageID);
     }
 
     /**
-     * This method fetches the {@link RandomFixed#getImageBytes()} and then writes
-     * those bytes into a JPG file
+     * This method streams the image from the {@link RandomFixed#downloadLink()} straight into a JPG
+     * file via {@link HttpEngine#downloadResumable(String, Path, GroupCommitter)}, so the image is never
+     * fully buffered in memory. If the download dies partway the bytes that have arrived are kept in a
+     * {@code .part} file next to the target and, the next call only fetches the rest of the image. If an
+     * {@link ImageDiskCache} has been set the image is copied out of it instead, a miss is downloaded into
+     * the cache in the same resumable way and, both files go through the {@link RandomFixed#committer()}.
      *
      * @param filename the name of the file
      * @return {@code true} if the image has been written successfully, {@code false}
@@ -242,21 +657,39 @@ public class RandomFixed implements Serializable, Iterable<Map.Entry<String, Obj
      * @see IOException
      * @see Objects#isNull(Object)
      * @see #isInit()
-     * @see Files#write(Path, byte[], OpenOption...)
+     * @see HttpEngine#downloadResumable(String, Path, GroupCommitter)
      * @see Path#of(String, String...)
      */
     @SuppressWarnings("DuplicatedCode")
     @Override
     public boolean toJPG(String filename) {
         if (!isInit()) return false;
-        var imageBytes = getImageBytes();
-        if (Objects.isNull(imageBytes)) return false;
+        var prepPath = Path.of(RAND_IMAGE_FIXED_SAVE_PATH + "/" + filename + ".jpg");
+        if (Objects.nonNull(imageCache))
+            return imageCache.copy(engine(), getImageID(), ImageDiskCache.ORIGINAL, downloadLink(), prepPath,
+                                   committer);
+        return engine().downloadResumable(downloadLink(), prepPath, committer);
+    }
 
-        try {
-            var prepPath = Path.of(RAND_IMAGE_FIXED_SAVE_PATH + "/" + filename + ".jpg");
-            Files.write(prepPath, imageBytes);
-            return true;
-        } catch (IOException exception) {return false;}
+    /**
+     * The non-blocking counterpart of {@link RandomFixed#toJPG(String)}, the image is streamed to the file
+     * via {@link HttpEngine#downloadResumableAsync(URI, Path, GroupCommitter)}
+     *
+     * @param filename the name of the file
+     * @return a {@link CompletableFuture} that completes with {@code true} if the image has been written,
+     * {@code false} otherwise
+     */
+    @Override
+    public CompletableFuture<Boolean> toJPGAsync(String filename) {
+        if (!isInit()) return CompletableFuture.completedFuture(false);
+        var prepPath = Path.of(RAND_IMAGE_FIXED_SAVE_PATH + "/" + filename + ".jpg");
+        var written = Objects.isNull(imageCache)
+                ? engine().downloadResumableAsync(URI.create(downloadLink()), prepPath, committer)
+                : imageCache.copyAsync(engine(), getImageID(), ImageDiskCache.ORIGINAL, downloadLink(), prepPath,
+                                       committer);
+        return written
+                .thenApply(path -> true)
+                .exceptionally(exception -> false);
     }
 
     /**
@@ -266,6 +699,7 @@ public class RandomFixed implements Serializable, Iterable<Map.Entry<String, Obj
     @Override
     public void reset() {
         cachedImage = null;
+        cachedBatch = null;
         stringJSON = null;
     }
 
@@ -294,16 +728,27 @@ public class RandomFixed implements Serializable, Iterable<Map.Entry<String, Obj
     public void forEach(Consumer<? super Map.Entry<String, Object>> action) {Iterable.super.forEach(action);}
 
     /**
-     * Returns an iterator over elements of type {@code T}.
+     * Returns a lazy iterator over the top level fields of the currently cached image. The iterator is a view
+     * of {@link RandomFixed#cachedImage}, i.e., nothing is copied and an entry is only created for the field
+     * that is visited, nested objects are handed out as {@link JSONObject}s.
      *
-     * @return an Iterator.
+     * @return an Iterator, empty if nothing has been fetched
      * @see Map.Entry
-     * @see JSONObject#toMap()
-     * @see Map#entrySet()
+     * @see LazyEntries#iterator(JSONObject)
      */
     @NotNull
     @Override
-    public Iterator<Map.Entry<String, Object>> iterator() {return cachedImage.toMap().entrySet().iterator();}
+    public Iterator<Map.Entry<String, Object>> iterator() {return LazyEntries.iterator(cachedImage);}
+
+    /**
+     * Returns a lazy spliterator over the top level fields of the currently cached image which splits
+     * just like {@link JSONObject#keySet()} does, so the fields can be walked by a parallel stream as well
+     *
+     * @return a Spliterator, empty if nothing has been fetched
+     * @see LazyEntries#spliterator(JSONObject)
+     */
+    @Override
+    public Spliterator<Map.Entry<String, Object>> spliterator() {return LazyEntries.spliterator(cachedImage);}
 
     /**
      * Returns a string representation of the object. In general, the
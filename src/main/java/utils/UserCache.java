@@ -0,0 +1,183 @@
+package utils;
+
+import annotations.Author;
+import models.Image;
+import models.ImageDateTime;
+import models.UserAccount;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * This class deduplicates the {@link UserAccount}s of the fetched images, i.e., the same photographers show up
+ * over and over in the random results and every response carries a fresh copy of the {@code user} object, this
+ * cache hands out one shared instance per user {@code id} instead. A cached user is only replaced by a copy
+ * whose {@code updated_at} is newer, the least recently used users are evicted once the cache is full.<br/>
+ * The cache is thread safe, so one instance may be shared by all the requests of a service.<br/>
+ * <b>Example</b>:
+ * <pre>{@code
+ * var cache = new UserCache(10_000);
+ * Image image = engine.sendApiAsync(request, ImageBinder.ofImage(cache)).join().body();
+ * System.out.println(cache.stats());
+ * }</pre>
+ *
+ * @author ConfusedRobo
+ * @see UserAccount
+ * @see Stats
+ * @see utils.json.ImageBinder#ofImage(UserCache)
+ */
+@Author(
+        author = "ConfusedRobo",
+        creation = "Sunday, 18 October, 2026, 10:58:26 PM",
+        profile = "https://github.com/heretickeymaker"
+)
+public final class UserCache {
+    /**
+     * The users by their {@code id} in access order, i.e., the eldest entry is the least recently used one
+     */
+    private final LinkedHashMap<String, UserAccount> users;
+    private final int capacity;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Creates an empty cache
+     *
+     * @param capacity the maximum amount of users that are kept
+     * @throws IllegalArgumentException if the capacity is less than {@code 1}
+     */
+    public UserCache(int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        this.capacity = capacity;
+        this.users = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, UserAccount> eldest) {
+                if (size() <= UserCache.this.capacity) return false;
+                evictions++;
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Resolves the user to the shared instance of its {@code id}. The cached instance is returned unless the
+     * given copy has a newer {@code updated_at}, in which case the copy replaces it and is returned as is.
+     * The users without an {@code id} are never cached.
+     *
+     * @param user the freshly fetched user
+     * @return the shared instance, {@code null} if the user is {@code null}
+     */
+    public synchronized @Nullable UserAccount intern(@Nullable UserAccount user) {
+        if (Objects.isNull(user) || Objects.isNull(user.id)) return user;
+        var cached = users.get(user.id);
+        if (Objects.nonNull(cached) && !isNewer(user.updatedAt, cached.updatedAt)) {
+            hits++;
+            return cached;
+        }
+        misses++;
+        users.put(user.id, user);
+        return user;
+    }
+
+    /**
+     * Resolves the {@link Image#userAccountInfo} of the image to the shared instance
+     *
+     * @param image the freshly fetched image, may be {@code null}
+     * @return the same image
+     * @see UserCache#intern(UserAccount)
+     */
+    public @Nullable Image intern(@Nullable Image image) {
+        if (Objects.nonNull(image)) image.userAccountInfo = intern(image.userAccountInfo);
+        return image;
+    }
+
+    private static boolean isNewer(ImageDateTime candidate, ImageDateTime cached) {
+        if (Objects.isNull(candidate)) return false;
+        return Objects.isNull(cached) || candidate.epochSecond() > cached.epochSecond();
+    }
+
+    /**
+     * Looks the user up without counting a hit or, a miss
+     *
+     * @param id the {@code id} of the user
+     * @return the shared instance, {@code null} if the user isn't cached
+     */
+    public synchronized @Nullable UserAccount get(@NotNull String id) {return users.get(id);}
+
+    /**
+     * @return the amount of users that are currently cached
+     */
+    public synchronized int size() {return users.size();}
+
+    /**
+     * @return the maximum amount of users that are kept
+     */
+    public int capacity() {return capacity;}
+
+    /**
+     * Drops all the users, the statistics are kept
+     */
+    public synchronized void clear() {users.clear();}
+
+    /**
+     * Takes a snapshot of the statistics
+     *
+     * @return a {@link Stats} instance
+     */
+    public synchronized @NotNull Stats stats() {return new Stats(hits, misses, evictions, users.size());}
+
+    /**
+     * An immutable snapshot of the cache statistics
+     */
+    public static final class Stats {
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final int size;
+
+        private Stats(long hits, long misses, long evictions, int size) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.size = size;
+        }
+
+        /**
+         * @return the amount of users that have been resolved to an already cached instance
+         */
+        public long hits() {return hits;}
+
+        /**
+         * @return the amount of users that weren't cached or, whose cached instance was outdated
+         */
+        public long misses() {return misses;}
+
+        /**
+         * @return the amount of users that have been evicted because the cache was full
+         */
+        public long evictions() {return evictions;}
+
+        /**
+         * @return the amount of users that were cached at the time of the snapshot
+         */
+        public int size() {return size;}
+
+        /**
+         * @return the share of the lookups that were hits, {@code 0} if there were none
+         */
+        public double hitRate() {
+            var lookups = hits + misses;
+            return lookups == 0 ? 0 : (double) hits / lookups;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats {HITS=" + hits + ", MISSES=" + misses + ", EVICTIONS=" + evictions + ", SIZE=" + size + "}";
+        }
+    }
+}
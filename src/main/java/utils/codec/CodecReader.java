@@ -0,0 +1,74 @@
+package utils.codec;
+
+import java.io.StreamCorruptedException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reads a single record that has been written by a {@link CodecWriter}, the string table is rebuilt
+ * while the record is being read
+ *
+ * @see CodecWriter
+ */
+final class CodecReader {
+    private final ByteBuffer buffer;
+    private final List<String> strings = new ArrayList<>();
+
+    CodecReader(ByteBuffer buffer) {this.buffer = buffer;}
+
+    int readByte() throws StreamCorruptedException {
+        if (!buffer.hasRemaining()) throw new StreamCorruptedException("truncated record");
+        return buffer.get() & 0xFF;
+    }
+
+    long readVarLong() throws StreamCorruptedException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            var b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new StreamCorruptedException("malformed varint");
+    }
+
+    long readSignedVarLong() throws StreamCorruptedException {
+        var value = readVarLong();
+        return value >>> 1 ^ -(value & 1);
+    }
+
+    int readVarInt() throws StreamCorruptedException {return (int) readVarLong();}
+
+    String readString() throws StreamCorruptedException {
+        var tag = readVarLong();
+        if (tag == 0) return null;
+        if ((tag & 1) == 1) {
+            var index = tag >>> 1;
+            if (index >= strings.size()) throw new StreamCorruptedException("invalid string reference " + index);
+            return strings.get((int) index);
+        }
+        var length = (tag >>> 1) - 1;
+        if (length > buffer.remaining()) throw new StreamCorruptedException("truncated string");
+        String value;
+        if (buffer.hasArray()) {
+            value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), (int) length,
+                               StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + (int) length);
+        } else {
+            var utf8 = new byte[(int) length];
+            buffer.get(utf8);
+            value = new String(utf8, StandardCharsets.UTF_8);
+        }
+        strings.add(value);
+        return value;
+    }
+
+    URL readURL() throws StreamCorruptedException, MalformedURLException {
+        var source = readString();
+        return Objects.isNull(source) ? null : new URL(source);
+    }
+}
@@ -0,0 +1,89 @@
+package utils.codec;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The growable output of a single record. Besides the varints it keeps the string table of the record,
+ * i.e., a string that has already been written is replaced by a back reference to its first occurrence.
+ *
+ * @see CodecReader
+ */
+final class CodecWriter {
+    private byte[] bytes = new byte[256];
+    private int size;
+    /**
+     * Maps every string written so far to its index in the string table
+     */
+    private final Map<String, Integer> strings = new HashMap<>();
+
+    void writeByte(int value) {
+        if (size == bytes.length) bytes = Arrays.copyOf(bytes, size * 2);
+        bytes[size++] = (byte) value;
+    }
+
+    void writeBytes(byte[] values) {
+        if (size + values.length > bytes.length) bytes = Arrays.copyOf(bytes, Math.max(size * 2, size + values.length));
+        System.arraycopy(values, 0, bytes, size, values.length);
+        size += values.length;
+    }
+
+    /**
+     * Writes an unsigned LEB128 varint, i.e., seven bits per byte with the high bit set on all but the last byte
+     *
+     * @param value the value, negative values take ten bytes
+     */
+    void writeVarLong(long value) {
+        while ((value & ~0x7FL) != 0) {
+            writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        writeByte((int) value);
+    }
+
+    /**
+     * Writes a zigzag encoded varint so that small negative values stay small as well
+     *
+     * @param value the value
+     */
+    void writeSignedVarLong(long value) {writeVarLong(value << 1 ^ value >> 63);}
+
+    /**
+     * Writes a string as a tagged varint: {@code 0} for {@code null}, {@code (index << 1) | 1} for a back
+     * reference into the string table and, {@code (length + 1) << 1} followed by the UTF-8 bytes for a new string
+     *
+     * @param value the string, may be {@code null}
+     */
+    void writeString(String value) {
+        if (Objects.isNull(value)) {
+            writeVarLong(0);
+            return;
+        }
+        var index = strings.get(value);
+        if (Objects.nonNull(index)) {
+            writeVarLong((long) index << 1 | 1);
+            return;
+        }
+        strings.put(value, strings.size());
+        var utf8 = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong((long) (utf8.length + 1) << 1);
+        writeBytes(utf8);
+    }
+
+    void writeURL(URL value) {writeString(Objects.isNull(value) ? null : value.toExternalForm());}
+
+    int size() {return size;}
+
+    byte[] toByteArray() {return Arrays.copyOf(bytes, size);}
+
+    void writeTo(ByteBuffer target) {target.put(bytes, 0, size);}
+
+    void writeTo(OutputStream out) throws IOException {out.write(bytes, 0, size);}
+}
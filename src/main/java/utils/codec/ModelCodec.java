@@ -0,0 +1,511 @@
+package utils.codec;
+
+import annotations.Author;
+import models.CameraInfo;
+import models.Image;
+import models.ImageDateTime;
+import models.ImageMetadata;
+import models.UserAccount;
+import models.model_utils.Dimension;
+import models.model_utils.LinkTable;
+import models.model_utils.Location;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * This class is a hand written, compact binary codec for the models, i.e., {@link Image}, {@link UserAccount},
+ * {@link ImageMetadata}, {@link CameraInfo}, {@link Location}, {@link ImageDateTime} and {@link Dimension}.
+ * Unlike the default Java serialization no class descriptors are written, the integers are varints, every
+ * string is written once per record and referenced afterwards via a string table, urls are written as their
+ * text and, every model starts with a bitmap of the fields that are present so that the absent ones take
+ * no space at all. The timestamps are stored as epoch seconds plus an offset whenever that reproduces the
+ * source string exactly.<br/>
+ * A record starts with the {@link ModelCodec#FORMAT_VERSION}, the fields of a model are only ever appended
+ * to the end of its bitmap so that a newer reader can still read the older records.<br/>
+ * <b>Example</b>:
+ * <pre>{@code
+ * byte[] bytes = ModelCodec.encode(image);
+ * Image copy = ModelCodec.decodeImage(bytes);
+ * }</pre>
+ *
+ * @author ConfusedRobo
+ * @see Image
+ * @see UserAccount
+ */
+@Author(
+        author = "ConfusedRobo",
+        creation = "Sunday, 18 October, 2026, 09:06:52 PM",
+        profile = "https://github.com/heretickeymaker"
+)
+public final class ModelCodec {
+    /**
+     * The version of the binary format that is written at the start of every record
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    private static final int DATE_TIME_COMPACT = 1;
+    private static final int DATE_TIME_SOURCE = 2;
+    private ModelCodec() {}
+
+    /**
+     * Encodes the image into a new byte array
+     *
+     * @param image the image
+     * @return the encoded record
+     */
+    public static byte @NotNull [] encode(@NotNull Image image) {return image(image).toByteArray();}
+
+    /**
+     * Encodes the user into a new byte array
+     *
+     * @param user the user
+     * @return the encoded record
+     */
+    public static byte @NotNull [] encode(@NotNull UserAccount user) {return user(user).toByteArray();}
+
+    /**
+     * Decodes an image that has been encoded by {@link ModelCodec#encode(Image)}
+     *
+     * @param bytes the encoded record
+     * @return the decoded image
+     * @throws IOException if the record is malformed
+     */
+    public static @NotNull Image decodeImage(byte @NotNull [] bytes) throws IOException {
+        return readImage(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Decodes a user that has been encoded by {@link ModelCodec#encode(UserAccount)}
+     *
+     * @param bytes the encoded record
+     * @return the decoded user
+     * @throws IOException if the record is malformed
+     */
+    public static @NotNull UserAccount decodeUser(byte @NotNull [] bytes) throws IOException {
+        return readUser(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Writes the image at the position of the buffer, the records are self delimiting so many of them can be
+     * written one after another
+     *
+     * @param image  the image
+     * @param target the buffer
+     * @throws java.nio.BufferOverflowException if the buffer doesn't have enough room left
+     */
+    public static void write(@NotNull Image image, @NotNull ByteBuffer target) {image(image).writeTo(target);}
+
+    /**
+     * Writes the user at the position of the buffer
+     *
+     * @param user   the user
+     * @param target the buffer
+     * @throws java.nio.BufferOverflowException if the buffer doesn't have enough room left
+     */
+    public static void write(@NotNull UserAccount user, @NotNull ByteBuffer target) {user(user).writeTo(target);}
+
+    /**
+     * Reads an image from the position of the buffer and moves the position past it
+     *
+     * @param source the buffer
+     * @return the decoded image
+     * @throws IOException if the record is malformed
+     */
+    public static @NotNull Image readImage(@NotNull ByteBuffer source) throws IOException {
+        var reader = new CodecReader(source);
+        readVersion(reader);
+        return readImage(reader);
+    }
+
+    /**
+     * Reads a user from the position of the buffer and moves the position past it
+     *
+     * @param source the buffer
+     * @return the decoded user
+     * @throws IOException if the record is malformed
+     */
+    public static @NotNull UserAccount readUser(@NotNull ByteBuffer source) throws IOException {
+        var reader = new CodecReader(source);
+        readVersion(reader);
+        return readUser(reader);
+    }
+
+    /**
+     * Writes the image to the stream, prefixed with the length of the record
+     *
+     * @param image the image
+     * @param out   the stream
+     * @throws IOException if the stream fails
+     */
+    public static void write(@NotNull Image image, @NotNull OutputStream out) throws IOException {
+        writeFramed(image(image), out);
+    }
+
+    /**
+     * Writes the user to the stream, prefixed with the length of the record
+     *
+     * @param user the user
+     * @param out  the stream
+     * @throws IOException if the stream fails
+     */
+    public static void write(@NotNull UserAccount user, @NotNull OutputStream out) throws IOException {
+        writeFramed(user(user), out);
+    }
+
+    /**
+     * Reads the next image that has been written by {@link ModelCodec#write(Image, OutputStream)}
+     *
+     * @param in the stream
+     * @return the decoded image, {@code null} if the end of the stream has been reached
+     * @throws IOException if the stream fails or, the record is malformed
+     */
+    public static @Nullable Image readImage(@NotNull InputStream in) throws IOException {
+        var record = readFramed(in);
+        return Objects.isNull(record) ? null : readImage(record);
+    }
+
+    /**
+     * Reads the next user that has been written by {@link ModelCodec#write(UserAccount, OutputStream)}
+     *
+     * @param in the stream
+     * @return the decoded user, {@code null} if the end of the stream has been reached
+     * @throws IOException if the stream fails or, the record is malformed
+     */
+    public static @Nullable UserAccount readUser(@NotNull InputStream in) throws IOException {
+        var record = readFramed(in);
+        return Objects.isNull(record) ? null : readUser(record);
+    }
+
+    private static CodecWriter image(Image image) {
+        var writer = new CodecWriter();
+        writer.writeByte(FORMAT_VERSION);
+        writeImage(writer, image);
+        return writer;
+    }
+
+    private static CodecWriter user(UserAccount user) {
+        var writer = new CodecWriter();
+        writer.writeByte(FORMAT_VERSION);
+        writeUser(writer, user);
+        return writer;
+    }
+
+    private static void readVersion(CodecReader reader) throws IOException {
+        var version = reader.readByte();
+        if (version < 1 || version > FORMAT_VERSION)
+            throw new StreamCorruptedException("unsupported format version " + version);
+    }
+
+    private static void writeFramed(CodecWriter record, OutputStream out) throws IOException {
+        var length = record.size();
+        while ((length & ~0x7F) != 0) {
+            out.write(length & 0x7F | 0x80);
+            length >>>= 7;
+        }
+        out.write(length);
+        record.writeTo(out);
+    }
+
+    private static @Nullable ByteBuffer readFramed(InputStream in) throws IOException {
+        var length = 0;
+        for (int shift = 0; ; shift += 7) {
+            var b = in.read();
+            if (b == -1) {
+                if (shift == 0) return null;
+                throw new EOFException("truncated record length");
+            }
+            if (shift > 28) throw new StreamCorruptedException("malformed record length");
+            length |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) break;
+        }
+        var record = in.readNBytes(length);
+        if (record.length != length) throw new EOFException("truncated record");
+        return ByteBuffer.wrap(record);
+    }
+
+    /**
+     * Builds the bitmap of the present fields, the first flag becomes the lowest bit
+     */
+    private static long bitmap(boolean... present) {
+        long bitmap = 0;
+        for (int index = 0; index < present.length; index++) if (present[index]) bitmap |= 1L << index;
+        return bitmap;
+    }
+
+    private static boolean has(long bitmap, int index) {return (bitmap & 1L << index) != 0;}
+
+    private static void writeImage(CodecWriter writer, Image image) {
+        var bitmap = bitmap(
+                Objects.nonNull(image.id), Objects.nonNull(image.sponsorship),
+                Objects.nonNull(image.currentUserCollections), Objects.nonNull(image.imageSizeLinks),
+                Objects.nonNull(image.imageInfoLinks), Objects.nonNull(image.description),
+                Objects.nonNull(image.altDescription), Objects.nonNull(image.metadata),
+                Objects.nonNull(image.promotedAt), Objects.nonNull(image.exif),
+                Objects.nonNull(image.userAccountInfo), Objects.nonNull(image.location),
+                image.downloads != 0, image.views != 0, image.likes != 0, image.selfLikes
+        );
+        writer.writeVarLong(bitmap);
+        if (has(bitmap, 0)) writer.writeString(image.id);
+        if (has(bitmap, 1)) writer.writeString(image.sponsorship);
+        if (has(bitmap, 2)) writer.writeString(image.currentUserCollections.toString());
+        if (has(bitmap, 3)) writeLinks(writer, image.imageSizeLinks);
+        if (has(bitmap, 4)) writeLinks(writer, image.imageInfoLinks);
+        if (has(bitmap, 5)) writer.writeString(image.description);
+        if (has(bitmap, 6)) writer.writeString(image.altDescription);
+        if (has(bitmap, 7)) writeMetadata(writer, image.metadata);
+        if (has(bitmap, 8)) writeDateTime(writer, image.promotedAt);
+        if (has(bitmap, 9)) writeExif(writer, image.exif);
+        if (has(bitmap, 10)) writeUser(writer, image.userAccountInfo);
+        if (has(bitmap, 11)) writeLocation(writer, image.location);
+        if (has(bitmap, 12)) writer.writeVarLong(image.downloads);
+        if (has(bitmap, 13)) writer.writeVarLong(image.views);
+        if (has(bitmap, 14)) writer.writeVarLong(image.likes);
+    }
+
+    private static Image readImage(CodecReader reader) throws IOException {
+        var image = new Image();
+        var bitmap = reader.readVarLong();
+        if (has(bitmap, 0)) image.id = reader.readString();
+        if (has(bitmap, 1)) image.sponsorship = reader.readString();
+        if (has(bitmap, 2)) image.currentUserCollections = new JSONArray(reader.readString());
+        if (has(bitmap, 3)) image.imageSizeLinks = readLinks(reader, new HashMap<>());
+        if (has(bitmap, 4)) image.imageInfoLinks = readLinks(reader, new HashMap<>());
+        if (has(bitmap, 5)) image.description = reader.readString();
+        if (has(bitmap, 6)) image.altDescription = reader.readString();
+        if (has(bitmap, 7)) image.metadata = readMetadata(reader);
+        if (has(bitmap, 8)) image.promotedAt = readDateTime(reader);
+        if (has(bitmap, 9)) image.exif = readExif(reader);
+        if (has(bitmap, 10)) image.userAccountInfo = readUser(reader);
+        if (has(bitmap, 11)) image.location = readLocation(reader);
+        if (has(bitmap, 12)) image.downloads = reader.readVarLong();
+        if (has(bitmap, 13)) image.views = reader.readVarLong();
+        if (has(bitmap, 14)) image.likes = reader.readVarLong();
+        image.selfLikes = has(bitmap, 15);
+        return image;
+    }
+
+    private static void writeUser(CodecWriter writer, UserAccount user) {
+        var bitmap = bitmap(
+                Objects.nonNull(user.id), Objects.nonNull(user.username), Objects.nonNull(user.name),
+                Objects.nonNull(user.firstName), Objects.nonNull(user.lastName), Objects.nonNull(user.bio),
+                Objects.nonNull(user.location), Objects.nonNull(user.updatedAt),
+                Objects.nonNull(user.instagramUsername), Objects.nonNull(user.twitterUsername),
+                Objects.nonNull(user.portfolioURL), user.totalLikes != 0, user.totalPhotosPosted != 0,
+                user.totalPhotoCollections != 0, user.hireable, user.acceptedUnsplashTOS,
+                Objects.nonNull(user.profileImageSizeLinks), Objects.nonNull(user.links)
+        );
+        writer.writeVarLong(bitmap);
+        if (has(bitmap, 0)) writer.writeString(user.id);
+        if (has(bitmap, 1)) writer.writeString(user.username);
+        if (has(bitmap, 2)) writer.writeString(user.name);
+        if (has(bitmap, 3)) writer.writeString(user.firstName);
+        if (has(bitmap, 4)) writer.writeString(user.lastName);
+        if (has(bitmap, 5)) writer.writeString(user.bio);
+        if (has(bitmap, 6)) writeLocation(writer, user.location);
+        if (has(bitmap, 7)) writeDateTime(writer, user.updatedAt);
+        if (has(bitmap, 8)) writer.writeString(user.instagramUsername);
+        if (has(bitmap, 9)) writer.writeString(user.twitterUsername);
+        if (has(bitmap, 10)) writer.writeURL(user.portfolioURL);
+        if (has(bitmap, 11)) writer.writeVarLong(user.totalLikes);
+        if (has(bitmap, 12)) writer.writeVarLong(user.totalPhotosPosted);
+        if (has(bitmap, 13)) writer.writeVarLong(user.totalPhotoCollections);
+        if (has(bitmap, 16)) writeLinks(writer, user.profileSizeTable());
+        if (has(bitmap, 17)) writeLinks(writer, user.linkTable());
+    }
+
+    private static UserAccount readUser(CodecReader reader) throws IOException {
+        var user = new UserAccount();
+        var bitmap = reader.readVarLong();
+        if (has(bitmap, 0)) user.id = reader.readString();
+        if (has(bitmap, 1)) user.username = reader.readString();
+        if (has(bitmap, 2)) user.name = reader.readString();
+        if (has(bitmap, 3)) user.firstName = reader.readString();
+        if (has(bitmap, 4)) user.lastName = reader.readString();
+        if (has(bitmap, 5)) user.bio = reader.readString();
+        if (has(bitmap, 6)) user.location = readLocation(reader);
+        if (has(bitmap, 7)) user.updatedAt = readDateTime(reader);
+        if (has(bitmap, 8)) user.instagramUsername = reader.readString();
+        if (has(bitmap, 9)) user.twitterUsername = reader.readString();
+        if (has(bitmap, 10)) user.portfolioURL = reader.readURL();
+        if (has(bitmap, 11)) user.totalLikes = reader.readVarLong();
+        if (has(bitmap, 12)) user.totalPhotosPosted = reader.readVarLong();
+        if (has(bitmap, 13)) user.totalPhotoCollections = reader.readVarLong();
+        user.hireable = has(bitmap, 14);
+        user.acceptedUnsplashTOS = has(bitmap, 15);
+        if (has(bitmap, 16)) readLinks(reader, user.profileSizeTable());
+        if (has(bitmap, 17)) readLinks(reader, user.linkTable());
+        return user;
+    }
+
+    private static void writeMetadata(CodecWriter writer, ImageMetadata metadata) {
+        var bitmap = bitmap(
+                Objects.nonNull(metadata.blurhash), Objects.nonNull(metadata.color),
+                Objects.nonNull(metadata.createdAt), Objects.nonNull(metadata.updatedAt),
+                Objects.nonNull(metadata.dimension)
+        );
+        writer.writeVarLong(bitmap);
+        if (has(bitmap, 0)) writer.writeString(metadata.blurhash);
+        if (has(bitmap, 1)) writer.writeString(metadata.color);
+        if (has(bitmap, 2)) writeDateTime(writer, metadata.createdAt);
+        if (has(bitmap, 3)) writeDateTime(writer, metadata.updatedAt);
+        if (has(bitmap, 4)) {
+            writer.writeVarLong(metadata.dimension.width);
+            writer.writeVarLong(metadata.dimension.height);
+        }
+    }
+
+    private static ImageMetadata readMetadata(CodecReader reader) throws IOException {
+        var metadata = new ImageMetadata();
+        var bitmap = reader.readVarLong();
+        if (has(bitmap, 0)) metadata.blurhash = reader.readString();
+        if (has(bitmap, 1)) metadata.color = reader.readString();
+        if (has(bitmap, 2)) metadata.createdAt = readDateTime(reader);
+        if (has(bitmap, 3)) metadata.updatedAt = readDateTime(reader);
+        if (has(bitmap, 4)) metadata.dimension = new Dimension(reader.readVarInt(), reader.readVarInt());
+        return metadata;
+    }
+
+    private static void writeExif(CodecWriter writer, CameraInfo exif) {
+        var bitmap = bitmap(
+                Objects.nonNull(exif.make), Objects.nonNull(exif.model), Objects.nonNull(exif.exposureTime),
+                Objects.nonNull(exif.aperture), Objects.nonNull(exif.focalLength), Objects.nonNull(exif.iso)
+        );
+        writer.writeVarLong(bitmap);
+        if (has(bitmap, 0)) writer.writeString(exif.make);
+        if (has(bitmap, 1)) writer.writeString(exif.model);
+        if (has(bitmap, 2)) writer.writeString(exif.exposureTime);
+        if (has(bitmap, 3)) writer.writeString(exif.aperture);
+        if (has(bitmap, 4)) writer.writeString(exif.focalLength);
+        if (has(bitmap, 5)) writer.writeSignedVarLong(exif.iso);
+    }
+
+    private static CameraInfo readExif(CodecReader reader) throws IOException {
+        var bitmap = reader.readVarLong();
+        return new CameraInfo(
+                has(bitmap, 0) ? reader.readString() : null,
+                has(bitmap, 1) ? reader.readString() : null,
+                has(bitmap, 2) ? reader.readString() : null,
+                has(bitmap, 3) ? reader.readString() : null,
+                has(bitmap, 4) ? reader.readString() : null,
+                has(bitmap, 5) ? (int) reader.readSignedVarLong() : null
+        );
+    }
+
+    private static void writeLocation(CodecWriter writer, Location location) {
+        var coordinates = location.getCoordinates();
+        var bitmap = bitmap(
+                Objects.nonNull(location.getTitle()), Objects.nonNull(location.getName()),
+                Objects.nonNull(location.getCity()), Objects.nonNull(location.getCountry()),
+                Objects.nonNull(coordinates)
+        );
+        writer.writeVarLong(bitmap);
+        if (has(bitmap, 0)) writer.writeString(location.getTitle());
+        if (has(bitmap, 1)) writer.writeString(location.getName());
+        if (has(bitmap, 2)) writer.writeString(location.getCity());
+        if (has(bitmap, 3)) writer.writeString(location.getCountry());
+        if (has(bitmap, 4)) {
+            writer.writeString(coordinate(coordinates, "latitude"));
+            writer.writeString(coordinate(coordinates, "longitude"));
+        }
+    }
+
+    private static String coordinate(JSONObject coordinates, String key) {
+        var value = coordinates.opt(key);
+        return Objects.isNull(value) || JSONObject.NULL.equals(value) ? null : value.toString();
+    }
+
+    private static Location readLocation(CodecReader reader) throws IOException {
+        var location = new Location();
+        var bitmap = reader.readVarLong();
+        var title = has(bitmap, 0) ? reader.readString() : null;
+        var name = has(bitmap, 1) ? reader.readString() : null;
+        var city = has(bitmap, 2) ? reader.readString() : null;
+        var country = has(bitmap, 3) ? reader.readString() : null;
+        if (has(bitmap, 4)) location.setAll(title, name, city, country, reader.readString(), reader.readString());
+        else {
+            location.setTitle(title);
+            location.setName(name);
+            location.setCity(city);
+            location.setCountry(country);
+        }
+        return location;
+    }
+
+    /**
+     * Writes the timestamp as epoch seconds plus the offset if the source string can be rebuilt from those
+     * exactly, i.e., {@link ImageDateTime#isCompact()}, otherwise the source string itself is written
+     */
+    private static void writeDateTime(CodecWriter writer, ImageDateTime dateTime) {
+        if (dateTime.isCompact()) {
+            writer.writeByte(DATE_TIME_COMPACT);
+            writer.writeSignedVarLong(dateTime.epochSecond());
+            writer.writeSignedVarLong(dateTime.offset().getTotalSeconds());
+            return;
+        }
+        writer.writeByte(DATE_TIME_SOURCE);
+        writer.writeString(dateTime.source());
+    }
+
+    private static ImageDateTime readDateTime(CodecReader reader) throws IOException {
+        var kind = reader.readByte();
+        if (kind == DATE_TIME_SOURCE) return new ImageDateTime(reader.readString());
+        if (kind != DATE_TIME_COMPACT) throw new StreamCorruptedException("invalid timestamp kind " + kind);
+        var epochSecond = reader.readSignedVarLong();
+        var offsetSeconds = reader.readSignedVarLong();
+        try {
+            return ImageDateTime.of(epochSecond, Math.toIntExact(offsetSeconds));
+        } catch (DateTimeException | ArithmeticException exception) {
+            throw new StreamCorruptedException("invalid timestamp " + epochSecond + ", " + offsetSeconds);
+        }
+    }
+
+    /**
+     * Writes the entries of the map that have a url, the entries without one aren't written at all
+     */
+    private static void writeLinks(CodecWriter writer, Map<String, URL> links) {
+        var count = 0;
+        for (var value : links.values()) if (Objects.nonNull(value)) count++;
+        writer.writeVarLong(count);
+        for (var entry : links.entrySet()) {
+            if (Objects.isNull(entry.getValue())) continue;
+            writer.writeString(entry.getKey());
+            writer.writeURL(entry.getValue());
+        }
+    }
+
+    /**
+     * Writes the links of the table that aren't {@code null} without building any {@link URL}
+     */
+    private static void writeLinks(CodecWriter writer, LinkTable<?> links) {
+        writer.writeVarLong(links.sourceCount());
+        links.forEachSource((key, source) -> {
+            writer.writeString(key);
+            writer.writeString(source);
+        });
+    }
+
+    private static void readLinks(CodecReader reader, LinkTable<?> links) throws IOException {
+        var count = reader.readVarInt();
+        for (int index = 0; index < count; index++) links.putSource(reader.readString(), reader.readString());
+    }
+
+    private static Map<String, URL> readLinks(CodecReader reader, Map<String, URL> links) throws IOException {
+        var count = reader.readVarInt();
+        for (int index = 0; index < count; index++) links.put(reader.readString(), reader.readURL());
+        return links;
+    }
+}
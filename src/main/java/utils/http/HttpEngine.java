@@ -0,0 +1,817 @@
+package utils.http;
+
+import annotations.Author;
+import interfaces.UnsplashRandom;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import utils.AtomicFiles;
+import utils.GroupCommitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodySubscriber;
+import java.net.http.HttpResponse.BodySubscribers;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * This class is the shared transport that every {@link UnsplashRandom} implementation should use
+ * in order to talk to the unsplash.com servers. It wraps a single {@link HttpClient} which, in turn,
+ * keeps its own connection pool, multiplexes requests over {@link HttpClient.Version#HTTP_2} when
+ * the server supports it and reuses the TLS sessions that have already been negotiated. So, creating
+ * a new {@link HttpClient} for every API call (i.e., a new selector thread, a new pool and a fresh
+ * handshake) is no longer needed.<br/>
+ * <b>
+ * Important: Use {@link HttpEngine#shared()} unless you really need a differently configured
+ * transport, in which case build one via {@link HttpEngine#builder()} or wrap your own client
+ * with {@link HttpEngine#of(HttpClient)} and hand it over to the implementation or, to
+ * {@link HttpEngine#setShared(HttpEngine)}.
+ * </b>
+ *
+ * @author ConfusedRobo
+ * @see HttpClient
+ * @see HttpRequest
+ * @see HttpResponse
+ * @see UnsplashRandom
+ */
+@Author(
+        author = "ConfusedRobo",
+        creation = "Sunday, 18 October, 2026, 10:12:41 AM",
+        profile = "https://github.com/heretickeymaker"
+)
+public final class HttpEngine {
+    /**
+     * The default amount of time that the client will wait for a connection to be established
+     */
+    public static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    /**
+     * The default policy of the API requests, a single attempt that must complete within two seconds
+     */
+    public static final RetryPolicy DEFAULT_API_POLICY = RetryPolicy.builder()
+                                                                    .attemptTimeout(Duration.ofSeconds(2))
+                                                                    .deadline(Duration.ofSeconds(2))
+                                                                    .build();
+    /**
+     * The extension of the partial files of the resumable downloads
+     */
+    public static final String PART_EXTENSION = ".part";
+
+    /**
+     * The system property that overrides the {@link UnsplashRandom#API_LINK} of the engines that haven't been
+     * given a link explicitly, e.g. {@code -Dunsplash.api.link=http://localhost:8080/photos/random/?client_id=API_KEY}
+     */
+    public static final String API_LINK_PROPERTY = "unsplash.api.link";
+
+    private static final String META_EXTENSION = ".meta";
+    private static final int PARTIAL_CONTENT = 206;
+    private static final int RANGE_NOT_SATISFIABLE = 416;
+
+    /**
+     * The lazily created engine that will be shared among all the {@link UnsplashRandom} implementations
+     */
+    private static volatile HttpEngine shared;
+    /**
+     * The resumable downloads that are currently running by their target, across all the engines as they
+     * share the file system
+     */
+    private static final Map<Path, CompletableFuture<Path>> RESUMABLE = new ConcurrentHashMap<>();
+
+    /**
+     * The pooled client that will be used for sending every request
+     */
+    private final HttpClient client;
+    /**
+     * The scheduler that every API request goes through, {@code null} if the API requests aren't limited
+     */
+    private final RateLimiter rateLimiter;
+    /**
+     * The retry, timeout and hedging policy of the API requests
+     */
+    private final RetryPolicy apiPolicy;
+    /**
+     * The retry and timeout policy of the image downloads
+     */
+    private final RetryPolicy downloadPolicy;
+    /**
+     * The prepared API link that the {@link UnsplashRandom} implementations should use instead of
+     * {@link UnsplashRandom#API_LINK}
+     */
+    private final String apiLink;
+
+    /**
+     * The constructor is kept private, use {@link HttpEngine#builder()} or, {@link HttpEngine#of(HttpClient)}
+     *
+     * @param client         the pooled client that will be used for sending requests
+     * @param rateLimiter    the scheduler of the API requests, may be {@code null}
+     * @param apiPolicy      the policy of the API requests
+     * @param downloadPolicy the policy of the image downloads
+     * @param apiLink        the prepared API link
+     */
+    private HttpEngine(@NotNull HttpClient client, RateLimiter rateLimiter, RetryPolicy apiPolicy,
+                       RetryPolicy downloadPolicy, String apiLink) {
+        this.client = client;
+        this.rateLimiter = rateLimiter;
+        this.apiPolicy = apiPolicy;
+        this.downloadPolicy = downloadPolicy;
+        this.apiLink = apiLink;
+    }
+
+    /**
+     * The API link that is used when none has been set explicitly, i.e., the value of the
+     * {@link HttpEngine#API_LINK_PROPERTY} system property or, {@link UnsplashRandom#API_LINK}
+     *
+     * @return the prepared API link
+     */
+    private static String defaultApiLink() {return System.getProperty(API_LINK_PROPERTY, UnsplashRandom.API_LINK);}
+
+    /**
+     * Wraps an already configured {@link HttpClient} so that it can be injected to the
+     * {@link UnsplashRandom} implementations, the API requests will be limited by a default
+     * {@link RateLimiter} and will follow the {@link HttpEngine#DEFAULT_API_POLICY}
+     *
+     * @param client the client instance that'll be reused for every request
+     * @return an {@link HttpEngine} instance
+     * @throws NullPointerException if the client is {@code null}
+     */
+    public static @NotNull HttpEngine of(@NotNull HttpClient client) {
+        Objects.requireNonNull(client, "client is null");
+        return new HttpEngine(client, RateLimiter.builder().build(), DEFAULT_API_POLICY, RetryPolicy.NONE,
+                              defaultApiLink());
+    }
+
+    /**
+     * Creates a new {@link Builder} with the default settings, i.e., {@link HttpClient.Version#HTTP_2},
+     * {@link HttpClient.Redirect#NORMAL}, {@link HttpEngine#DEFAULT_CONNECT_TIMEOUT} and a default
+     * {@link RateLimiter} that rejects the API requests once the budget is gone, the API requests follow the
+     * {@link HttpEngine#DEFAULT_API_POLICY} and the downloads follow {@link RetryPolicy#NONE}
+     *
+     * @return a {@link Builder} instance
+     */
+    public static @NotNull Builder builder() {return new Builder();}
+
+    /**
+     * Getter for the engine that is shared across the whole runtime. If no engine has been set via
+     * {@link HttpEngine#setShared(HttpEngine)} then, a default one is created on the first call.
+     *
+     * @return the shared {@link HttpEngine} instance
+     */
+    public static @NotNull HttpEngine shared() {
+        var engine = shared;
+        if (engine == null) {
+            synchronized (HttpEngine.class) {
+                engine = shared;
+                if (engine == null) shared = engine = builder().build();
+            }
+        }
+        return engine;
+    }
+
+    /**
+     * Replaces the shared engine. Note that, the implementations that have already been given an
+     * engine explicitly won't be affected by this.
+     *
+     * @param engine the new engine that'll be shared
+     * @throws NullPointerException if the engine is {@code null}
+     */
+    public static void setShared(@NotNull HttpEngine engine) {
+        Objects.requireNonNull(engine, "engine is null");
+        synchronized (HttpEngine.class) {shared = engine;}
+    }
+
+    /**
+     * Getter for the underlying {@link HttpClient}
+     *
+     * @return the pooled {@link HttpClient}
+     */
+    public @NotNull HttpClient client() {return client;}
+
+    /**
+     * Getter for the scheduler of the API requests, which also exposes the current rate limit budget
+     * via {@link RateLimiter#budget()}
+     *
+     * @return the {@link RateLimiter}, {@code null} if the API requests aren't limited
+     */
+    public RateLimiter rateLimiter() {return rateLimiter;}
+
+    /**
+     * Getter for the prepared API link, it has the same shape as {@link UnsplashRandom#API_LINK} i.e.,
+     * the {@code API_KEY} substring should be replaced and the {@link UnsplashRandom#LINK_SUBPART_QUERY}
+     * and {@link UnsplashRandom#LINK_SUBPART_COUNT} parts can be appended to it
+     *
+     * @return the prepared API link
+     */
+    public @NotNull String apiLink() {return apiLink;}
+
+    /**
+     * @return the retry, timeout and hedging policy of the API requests
+     */
+    public RetryPolicy apiPolicy() {return apiPolicy;}
+
+    /**
+     * @return the retry and timeout policy of the image downloads
+     */
+    public RetryPolicy downloadPolicy() {return downloadPolicy;}
+
+    /**
+     * Getter for the executor that should run the blocking parts of the asynchronous pipelines
+     * (like writing to the disk), it is the executor of the client if one has been configured,
+     * {@link ForkJoinPool#commonPool()} otherwise
+     *
+     * @return an {@link Executor} instance
+     */
+    public @NotNull Executor executor() {return client.executor().orElseGet(ForkJoinPool::commonPool);}
+
+    /**
+     * Sends the request asynchronously over the pooled client. Every request path of the
+     * {@link UnsplashRandom} implementations should go through this method rather than calling
+     * the {@link HttpClient} directly.
+     *
+     * @param request the request that'll be sent
+     * @param handler the body handler that'll consume the response body
+     * @param <T>     the type of the response body
+     * @return a {@link CompletableFuture} that completes with the response
+     * @see HttpClient#sendAsync(HttpRequest, BodyHandler)
+     */
+    public <T> @NotNull CompletableFuture<HttpResponse<T>> sendAsync(@NotNull HttpRequest request,
+                                                                     @NotNull BodyHandler<T> handler) {
+        return client.sendAsync(request, handler);
+    }
+
+    /**
+     * Sends a request to the unsplash.com API. It is the same as {@link HttpEngine#sendAsync(HttpRequest, BodyHandler)}
+     * except that the request first waits for its slot from the {@link HttpEngine#rateLimiter()}, the
+     * rate limit headers of every response are fed back to it and the attempts are retried, timed out and
+     * hedged according to the {@link HttpEngine#apiPolicy()}. A slot is taken for every attempt, i.e., the
+     * retries and hedges are limited just like the first attempt, a retry of a {@code 429} is rejected (or,
+     * queued) as long as the budget is gone. The time spent waiting in the queue or, for the pacing doesn't
+     * count against the timeouts of the policy. A caller that gives up (e.g. cancels or, times out the
+     * returned future) while the request is still queued hands the slot back and the request is never sent.
+     *
+     * @param request the API request that'll be sent
+     * @param handler the body handler that'll consume the response body
+     * @param <T>     the type of the response body
+     * @return a {@link CompletableFuture} that completes with the response or, completes exceptionally with
+     * a {@link RateLimiter.RateLimitExceededException} if the request has been rejected
+     * @see RateLimiter#acquire()
+     * @see RateLimiter#update(HttpResponse)
+     * @see RetryPolicy#execute(java.util.function.Supplier)
+     */
+    public <T> @NotNull CompletableFuture<HttpResponse<T>> sendApiAsync(@NotNull HttpRequest request,
+                                                                        @NotNull BodyHandler<T> handler) {
+        if (rateLimiter == null) return apiPolicy.execute(() -> sendAsync(request, handler));
+        return apiPolicy.execute(rateLimiter::acquire, () -> {
+            var sent = sendAsync(request, handler);
+            var updated = sent.thenApply(response -> {
+                rateLimiter.update(response);
+                return response;
+            });
+            // a cancelled attempt must abort the exchange itself, not just the stage after it
+            updated.whenComplete((response, error) -> {
+                if (updated.isCancelled()) sent.cancel(true);
+            });
+            return updated;
+        });
+    }
+
+    /**
+     * Downloads the resource into the target file. The response body is written to the disk chunk by chunk
+     * as it arrives, so only a handful of network buffers are held in memory per download no matter how large
+     * the image is. The body goes into a temporary file next to the target (one per attempt, so an attempt
+     * that has timed out can't scribble over the next one) which replaces the target once the whole body has
+     * arrived, i.e., a failed or, interrupted download never leaves a truncated target
+     * behind. If the server responds with a non {@code 2xx} status code then, the body is discarded and the
+     * returned future completes exceptionally with an {@link IOException}. The download is retried and timed
+     * out according to the {@link HttpEngine#downloadPolicy()}.
+     *
+     * @param link   the link of the resource that'll be downloaded
+     * @param target the file where the body will be written, it'll be created (along with its missing parent
+     *               directories) or, replaced
+     * @return a {@link CompletableFuture} that completes with the target path once the body has been written
+     * @see BodySubscribers#ofFile(Path)
+     * @see AtomicFiles#commit(Path, Path, boolean)
+     */
+    public @NotNull CompletableFuture<Path> downloadAsync(@NotNull URI link, @NotNull Path target) {
+        return downloadAsync(link, target, null);
+    }
+
+    /**
+     * Downloads the resource into the target file like {@link HttpEngine#downloadAsync(URI, Path)} does but,
+     * hands the finished temporary file over to the committer, i.e., the download completes once the image
+     * is durably on the disk and its flush is shared with the other writes of the batch
+     *
+     * @param link      the link of the resource that'll be downloaded
+     * @param target    the file where the body will be written
+     * @param committer the committer, {@code null} for a plain atomic replace without a flush
+     * @return a {@link CompletableFuture} that completes with the target path once the body has been committed
+     */
+    public @NotNull CompletableFuture<Path> downloadAsync(@NotNull URI link, @NotNull Path target,
+                                                          @Nullable GroupCommitter committer) {
+        var request = HttpRequest.newBuilder(link).build();
+        // every attempt writes into a file of its own, an attempt that has timed out may still be writing
+        var temporaries = new CopyOnWriteArrayList<Path>();
+        return downloadPolicy.execute(() -> {
+            Path temporary;
+            try {
+                temporary = AtomicFiles.temporary(target);
+            } catch (IOException exception) {return CompletableFuture.failedFuture(exception);}
+            temporaries.add(temporary);
+            BodyHandler<Path> handler = responseInfo -> isSuccess(responseInfo.statusCode())
+                    ? BodySubscribers.ofFile(temporary, WRITE, TRUNCATE_EXISTING)
+                    : BodySubscribers.replacing(null);
+            return sendAsync(request, handler);
+        }).thenCompose(response -> {
+            if (!isSuccess(response.statusCode()))
+                throw new CompletionException(new IOException("download failed with status " + response.statusCode()));
+            var temporary = response.body();
+            if (Objects.nonNull(committer)) return committer.commit(temporary, target);
+            try {
+                return CompletableFuture.completedFuture(AtomicFiles.commit(temporary, target, false));
+            } catch (IOException exception) {throw new CompletionException(exception);}
+        }).whenComplete((path, failure) -> {
+            // the committed file has been moved away by now, the others are leftovers of failed attempts
+            temporaries.forEach(HttpEngine::deleteQuietly);
+        });
+    }
+
+    /**
+     * Blocking counterpart of {@link HttpEngine#downloadAsync(URI, Path)}, if the download fails then,
+     * the target file is left as it was.
+     *
+     * @param link   the link of the resource that'll be downloaded
+     * @param target the file where the body will be written
+     * @return {@code true} if the whole body has been written to the target, {@code false} otherwise
+     */
+    public boolean download(@NotNull String link, @NotNull Path target) {return download(link, target, null);}
+
+    /**
+     * Blocking counterpart of {@link HttpEngine#downloadAsync(URI, Path, GroupCommitter)}, if the download
+     * fails then, the target file is left as it was.
+     *
+     * @param link      the link of the resource that'll be downloaded
+     * @param target    the file where the body will be written
+     * @param committer the committer, {@code null} for a plain atomic replace without a flush
+     * @return {@code true} if the whole body has been committed to the target, {@code false} otherwise
+     */
+    public boolean download(@NotNull String link, @NotNull Path target, @Nullable GroupCommitter committer) {
+        try {
+            downloadAsync(URI.create(link), target, committer).get();
+            return true;
+        } catch (ExecutionException | IllegalArgumentException exception) {
+            return false;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Downloads the resource into the target file and keeps what has arrived so far if the download dies
+     * partway, i.e., the body is written into {@code <target>.part} and the validator of the resource (its
+     * strong {@code ETag} or, else its {@code Last-Modified} date) along with its {@code Content-Length} is kept
+     * in {@code <target>.part.meta}. The next attempt, be it a retry of the {@link HttpEngine#downloadPolicy()}
+     * or, a later call, asks only for the missing bytes via a {@code Range} header. The {@code If-Range}
+     * header makes the server send the whole resource instead if it has changed in the meantime, in which case
+     * the partial file is started over. Servers that don't support ranges answer with the whole resource
+     * as well. Once the partial file has the announced length it replaces the target.<br/>
+     * Only one resumable download per target runs at a time, a call for a target that is already being
+     * downloaded joins the running download instead of starting another one. And, within a download, only the
+     * latest attempt may write to the partial file, i.e., an attempt that has timed out but, whose body is
+     * still arriving is locked out before the next attempt works its range out.
+     *
+     * @param link      the link of the resource that'll be downloaded
+     * @param target    the file where the body will end up
+     * @param committer the committer, {@code null} for a plain atomic replace without a flush
+     * @return a {@link CompletableFuture} that completes with the target path once the body has been committed,
+     * it fails with an {@link IOException} if the length doesn't match, the partial file is kept otherwise
+     * @see HttpEngine#downloadAsync(URI, Path, GroupCommitter)
+     */
+    public @NotNull CompletableFuture<Path> downloadResumableAsync(@NotNull URI link, @NotNull Path target,
+                                                                   @Nullable GroupCommitter committer) {
+        var key = target.toAbsolutePath().normalize();
+        var started = new CompletableFuture<Path>();
+        var running = RESUMABLE.putIfAbsent(key, started);
+        // a copy, so that a caller cancelling its future doesn't fail the others that wait for the download
+        if (Objects.nonNull(running)) return running.copy();
+
+        CompletableFuture<Path> download;
+        try {
+            download = downloadResumableAsync(link, target, committer, new Transfer(), false);
+        } catch (RuntimeException exception) {
+            download = CompletableFuture.failedFuture(exception);
+        }
+        download.whenComplete((path, failure) -> {
+            RESUMABLE.remove(key, started);
+            if (Objects.isNull(failure)) started.complete(path);
+            else started.completeExceptionally(unwrap(failure));
+        });
+        return started.copy();
+    }
+
+    private CompletableFuture<Path> downloadResumableAsync(URI link, Path target, GroupCommitter committer,
+                                                           Transfer transfer, boolean restarted) {
+        var part = target.resolveSibling(target.getFileName() + PART_EXTENSION);
+        var meta = target.resolveSibling(target.getFileName() + PART_EXTENSION + META_EXTENSION);
+        try {
+            var parent = target.toAbsolutePath().getParent();
+            if (Objects.nonNull(parent)) Files.createDirectories(parent);
+        } catch (IOException exception) {return CompletableFuture.failedFuture(exception);}
+
+        return downloadPolicy.execute(() -> resumeAttempt(link, part, meta, transfer)).thenCompose(response -> {
+            var status = response.statusCode();
+            if (status == RANGE_NOT_SATISFIABLE || status == PARTIAL_CONTENT && Objects.isNull(response.body())) {
+                // the partial file doesn't fit the resource, start over once
+                deleteQuietly(part);
+                deleteQuietly(meta);
+                if (restarted) throw new CompletionException(new IOException("the server keeps rejecting the range"));
+                return downloadResumableAsync(link, target, committer, transfer, true);
+            }
+            if (!isSuccess(status))
+                throw new CompletionException(new IOException("download failed with status " + status));
+            try {
+                var length = readMeta(meta).length;
+                var size = Files.size(part);
+                if (length >= 0 && size != length)
+                    throw new IOException("length mismatch, expected " + length + " bytes but got " + size);
+                var committed = Objects.isNull(committer)
+                        ? CompletableFuture.completedFuture(AtomicFiles.commit(part, target, false))
+                        : committer.commit(part, target);
+                return committed.thenApply(path -> {
+                    deleteQuietly(meta);
+                    return path;
+                });
+            } catch (IOException exception) {throw new CompletionException(exception);}
+        });
+    }
+
+    /**
+     * Sends one attempt of a resumable download, the range is worked out from the partial file that is on
+     * the disk at the time of the attempt. The attempt takes the partial file over from the earlier attempts of
+     * the download first, so whatever they still receive is dropped rather than appended behind its range.
+     */
+    private CompletableFuture<HttpResponse<Path>> resumeAttempt(URI link, Path part, Path meta, Transfer transfer) {
+        int generation;
+        Resume resume;
+        long offset = 0;
+        synchronized (transfer) {
+            generation = ++transfer.generation;
+            resume = readMeta(meta);
+            try {
+                if (!resume.validator.isEmpty() && Files.isRegularFile(part)) offset = Files.size(part);
+            } catch (IOException ignored) {}
+        }
+
+        var builder = HttpRequest.newBuilder(link);
+        if (offset > 0) builder.header("Range", "bytes=" + offset + "-").header("If-Range", resume.validator);
+        var from = offset;
+        BodyHandler<Path> handler = responseInfo -> {
+            var status = responseInfo.statusCode();
+            synchronized (transfer) {
+                // superseded by a later attempt, its outcome is never looked at
+                if (transfer.generation != generation) return BodySubscribers.replacing(null);
+                if (status == PARTIAL_CONTENT) {
+                    var range = responseInfo.headers().firstValue("Content-Range").orElse("");
+                    return from > 0 && range.startsWith("bytes " + from + "-")
+                            ? new PartWriter(transfer, generation, part, WRITE, APPEND)
+                            : BodySubscribers.replacing(null);
+                }
+                if (!isSuccess(status)) return BodySubscribers.replacing(null);
+                // a full body, either the first attempt, a server without ranges or, a changed resource
+                var headers = responseInfo.headers();
+                var etag = headers.firstValue("ETag").orElse("");
+                var validator = etag.isEmpty() || etag.startsWith("W/") ? headers.firstValue("Last-Modified").orElse("") : etag;
+                var length = headers.firstValueAsLong("Content-Length").orElse(-1);
+                try {
+                    Files.writeString(meta, validator + "\n" + length + "\n");
+                } catch (IOException exception) {throw new UncheckedIOException(exception);}
+                return new PartWriter(transfer, generation, part, CREATE, WRITE, TRUNCATE_EXISTING);
+            }
+        };
+        return sendAsync(builder.build(), handler);
+    }
+
+    /**
+     * Reads the validator and the length of a partial download
+     *
+     * @return the state, an empty validator and a length of {@code -1} if there's none or, it is unreadable
+     */
+    private static Resume readMeta(Path meta) {
+        try {
+            var lines = Files.readAllLines(meta);
+            return new Resume(lines.get(0), Long.parseLong(lines.get(1)));
+        } catch (IOException | RuntimeException exception) {
+            return new Resume("", -1);
+        }
+    }
+
+    /**
+     * Blocking counterpart of {@link HttpEngine#downloadResumableAsync(URI, Path, GroupCommitter)}
+     *
+     * @param link      the link of the resource that'll be downloaded
+     * @param target    the file where the body will end up
+     * @param committer the committer, {@code null} for a plain atomic replace without a flush
+     * @return {@code true} if the whole body has been committed to the target, {@code false} otherwise, in which
+     * case the partial file is kept for the next call
+     */
+    public boolean downloadResumable(@NotNull String link, @NotNull Path target, @Nullable GroupCommitter committer) {
+        try {
+            downloadResumableAsync(URI.create(link), target, committer).get();
+            return true;
+        } catch (ExecutionException | IllegalArgumentException exception) {
+            return false;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Checks whether the status code belongs to the {@code 2xx} class
+     *
+     * @param statusCode the status code of the response
+     * @return {@code true} if it's a successful status code, {@code false} otherwise
+     */
+    static boolean isSuccess(int statusCode) {return statusCode >= 200 && statusCode < 300;}
+
+    /**
+     * Strips the {@link CompletionException} and {@link ExecutionException} wrappers off the failure
+     *
+     * @param failure the failure of a future
+     * @return the actual cause
+     */
+    private static Throwable unwrap(Throwable failure) {
+        while ((failure instanceof CompletionException || failure instanceof ExecutionException)
+               && Objects.nonNull(failure.getCause())) failure = failure.getCause();
+        return failure;
+    }
+
+    /**
+     * Deletes the file if it exists and ignores any {@link IOException}
+     *
+     * @param path the file that'll be deleted
+     */
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {}
+    }
+
+    /**
+     * The state of a partial download as it is kept next to the partial file
+     */
+    private static final class Resume {
+        /**
+         * The {@code ETag} or, the {@code Last-Modified} date of the resource, empty if the resource has neither
+         */
+        private final String validator;
+        /**
+         * The {@code Content-Length} of the whole resource, {@code -1} if it is unknown
+         */
+        private final long length;
+
+        private Resume(String validator, long length) {
+            this.validator = validator;
+            this.length = length;
+        }
+    }
+
+    /**
+     * The state that the attempts of one resumable download share, the monitor guards the partial file
+     */
+    private static final class Transfer {
+        /**
+         * The number of the latest attempt, only that attempt may write to the partial file
+         */
+        private int generation;
+    }
+
+    /**
+     * Writes the body of one attempt into the partial file. Every write happens under the monitor of the
+     * {@link Transfer} and only while the attempt is still the latest one, so the writes of a superseded
+     * attempt can't interleave with the range of the next one.
+     */
+    private static final class PartWriter implements BodySubscriber<Path> {
+        private final Transfer transfer;
+        private final int generation;
+        private final Path part;
+        private final OpenOption[] options;
+        private final CompletableFuture<Path> body = new CompletableFuture<>();
+        private Flow.Subscription subscription;
+        private FileChannel channel;
+
+        private PartWriter(Transfer transfer, int generation, Path part, OpenOption... options) {
+            this.transfer = transfer;
+            this.generation = generation;
+            this.part = part;
+            this.options = options;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            synchronized (transfer) {
+                try {
+                    if (transfer.generation != generation) throw new IOException("superseded by a later attempt");
+                    channel = FileChannel.open(part, options);
+                } catch (IOException exception) {
+                    subscription.cancel();
+                    body.completeExceptionally(exception);
+                    return;
+                }
+            }
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> items) {
+            if (body.isDone()) return;
+            synchronized (transfer) {
+                try {
+                    if (transfer.generation != generation) throw new IOException("superseded by a later attempt");
+                    for (var item : items) while (item.hasRemaining()) channel.write(item);
+                } catch (IOException exception) {
+                    subscription.cancel();
+                    fail(exception);
+                    return;
+                }
+            }
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable failure) {fail(failure);}
+
+        @Override
+        public void onComplete() {
+            try {
+                if (Objects.nonNull(channel)) channel.close();
+                body.complete(part);
+            } catch (IOException exception) {
+                body.completeExceptionally(exception);
+            }
+        }
+
+        private void fail(Throwable failure) {
+            try {
+                if (Objects.nonNull(channel)) channel.close();
+            } catch (IOException ignored) {}
+            body.completeExceptionally(failure);
+        }
+
+        @Override
+        public CompletionStage<Path> getBody() {return body;}
+    }
+
+    /**
+     * A builder that configures the {@link HttpClient} that'll be wrapped by the {@link HttpEngine}
+     */
+    public static final class Builder {
+        private HttpClient.Version version = HttpClient.Version.HTTP_2;
+        private HttpClient.Redirect redirect = HttpClient.Redirect.NORMAL;
+        private Duration connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+        private Executor executor;
+        private RateLimiter rateLimiter = RateLimiter.builder().build();
+        private RetryPolicy apiPolicy = DEFAULT_API_POLICY;
+        private RetryPolicy downloadPolicy = RetryPolicy.NONE;
+        private String apiLink;
+
+        private Builder() {}
+
+        /**
+         * Overrides the prepared API link, e.g. to point the implementations at a local stand-in server.
+         * The link must contain the {@code API_KEY} substring, just like {@link UnsplashRandom#API_LINK}.
+         *
+         * @param apiLink the prepared API link, {@code null} for the default one
+         * @return this builder
+         * @throws IllegalArgumentException if the link doesn't contain the {@code API_KEY} substring
+         */
+        public Builder apiLink(String apiLink) {
+            if (apiLink != null && !apiLink.contains("API_KEY"))
+                throw new IllegalArgumentException("the API link must contain the API_KEY substring: " + apiLink);
+            this.apiLink = apiLink;
+            return this;
+        }
+
+        /**
+         * Sets the retry, timeout and hedging policy of the API requests
+         *
+         * @param apiPolicy the policy
+         * @return this builder
+         */
+        public Builder apiPolicy(@NotNull RetryPolicy apiPolicy) {
+            this.apiPolicy = Objects.requireNonNull(apiPolicy);
+            return this;
+        }
+
+        /**
+         * Sets the retry and timeout policy of the image downloads, note that the downloads can't be hedged
+         * as both requests would write to the same file
+         *
+         * @param downloadPolicy the policy
+         * @return this builder
+         * @throws IllegalArgumentException if the policy has hedging enabled
+         */
+        public Builder downloadPolicy(@NotNull RetryPolicy downloadPolicy) {
+            if (Objects.nonNull(downloadPolicy.hedgeDelay()))
+                throw new IllegalArgumentException("downloads can't be hedged");
+            this.downloadPolicy = downloadPolicy;
+            return this;
+        }
+
+        /**
+         * Sets the scheduler of the API requests, pass {@code null} to send the API requests without
+         * any rate limiting
+         *
+         * @param rateLimiter the scheduler
+         * @return this builder
+         */
+        public Builder rateLimiter(RateLimiter rateLimiter) {
+            this.rateLimiter = rateLimiter;
+            return this;
+        }
+
+        /**
+         * Sets the preferred protocol version, {@link HttpClient.Version#HTTP_2} by default which
+         * allows multiple requests to share one connection
+         *
+         * @param version the preferred version
+         * @return this builder
+         */
+        public Builder version(@NotNull HttpClient.Version version) {
+            this.version = Objects.requireNonNull(version);
+            return this;
+        }
+
+        /**
+         * Sets the redirect policy, note that the download links of unsplash.com redirect to the
+         * actual image resource so, {@link HttpClient.Redirect#NORMAL} is used by default
+         *
+         * @param redirect the redirect policy
+         * @return this builder
+         */
+        public Builder followRedirects(@NotNull HttpClient.Redirect redirect) {
+            this.redirect = Objects.requireNonNull(redirect);
+            return this;
+        }
+
+        /**
+         * Sets the amount of time to wait for a connection to be established
+         *
+         * @param connectTimeout the connect timeout
+         * @return this builder
+         */
+        public Builder connectTimeout(@NotNull Duration connectTimeout) {
+            this.connectTimeout = Objects.requireNonNull(connectTimeout);
+            return this;
+        }
+
+        /**
+         * Sets the executor that'll run the asynchronous tasks of the client, if it isn't set then
+         * the default executor of the {@link HttpClient} will be used
+         *
+         * @param executor the executor
+         * @return this builder
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Builds the {@link HttpClient} and wraps it into an {@link HttpEngine}
+         *
+         * @return a new {@link HttpEngine}
+         */
+        public HttpEngine build() {
+            var builder = HttpClient.newBuilder()
+                                    .version(version)
+                                    .followRedirects(redirect)
+                                    .connectTimeout(connectTimeout);
+            if (executor != null) builder.executor(executor);
+            var link = Objects.isNull(apiLink) ? defaultApiLink() : apiLink;
+            return new HttpEngine(builder.build(), rateLimiter, apiPolicy, downloadPolicy, link);
+        }
+    }
+}
@@ -0,0 +1,372 @@
+package utils.http;
+
+import annotations.Author;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class schedules the API requests according to the {@code X-Ratelimit-Limit} and
+ * {@code X-Ratelimit-Remaining} headers that unsplash.com sends back with every API response.
+ * The budget is tracked per window (an hour by default), optionally the requests are paced so that
+ * the remaining budget is spread evenly across the rest of the window. And, once the budget is gone
+ * the requests are either rejected right away with a {@link RateLimitExceededException} or, queued
+ * until the window is over, depending on the {@link Mode}.<br/>
+ * <b>
+ * Important: Every response of a limited request must be handed over to
+ * {@link RateLimiter#update(HttpResponse)}, {@link HttpEngine} already does that for the API calls.
+ * </b>
+ *
+ * @author ConfusedRobo
+ * @see HttpEngine
+ * @see Budget
+ * @see Mode
+ */
+@Author(
+        author = "ConfusedRobo",
+        creation = "Sunday, 18 October, 2026, 03:41:09 PM",
+        profile = "https://github.com/heretickeymaker"
+)
+public final class RateLimiter {
+    /**
+     * The header that holds the total amount of requests allowed per window
+     */
+    public static final String LIMIT_HEADER = "X-Ratelimit-Limit";
+    /**
+     * The header that holds the amount of requests that are left in the current window
+     */
+    public static final String REMAINING_HEADER = "X-Ratelimit-Remaining";
+    /**
+     * The status code that is sent when the budget has been exhausted
+     */
+    public static final int TOO_MANY_REQUESTS = 429;
+
+    /**
+     * What should happen to a request once the budget is gone
+     */
+    public enum Mode {
+        /**
+         * The request fails right away with a {@link RateLimitExceededException}
+         */
+        REJECT,
+        /**
+         * The request is delayed until the current window is over
+         */
+        QUEUE
+    }
+
+    private final Mode mode;
+    private final boolean pacing;
+    private final long windowNanos;
+
+    /**
+     * {@code -1} as long as no response has been seen
+     */
+    private long limit = -1;
+    /**
+     * The local view of the remaining budget, it is decremented for every request that is let through
+     * and corrected by every response, {@code -1} as long as no response has been seen
+     */
+    private long remaining = -1;
+    /**
+     * The amount of requests that have been queued into the upcoming windows, they are charged to the
+     * budget of their window as soon as it starts
+     */
+    private long queued;
+    private long windowStart;
+    /**
+     * The point in time the next paced request may be sent at
+     */
+    private long nextSlot;
+
+    private RateLimiter(Builder builder) {
+        this.mode = builder.mode;
+        this.pacing = builder.pacing;
+        this.windowNanos = builder.window.toNanos();
+        this.windowStart = System.nanoTime();
+        this.nextSlot = windowStart;
+    }
+
+    /**
+     * Creates a new {@link Builder} with the default settings, i.e., an hourly window,
+     * {@link Mode#REJECT} and no pacing
+     *
+     * @return a {@link Builder} instance
+     */
+    public static @NotNull Builder builder() {return new Builder();}
+
+    /**
+     * Reserves a slot for one request. The returned future completes once the request may be sent, it
+     * completes right away unless pacing is enabled or, the budget is gone in {@link Mode#QUEUE} mode, in
+     * which case the request is charged to the budget of the upcoming window it is queued into.
+     * Cancelling a future that is still waiting hands its slot back, i.e., a caller that gives up on a
+     * queued request doesn't waste any budget.
+     *
+     * @return a {@link CompletableFuture} that completes when the request may be sent or, completes
+     * exceptionally with a {@link RateLimitExceededException}
+     */
+    public @NotNull CompletableFuture<Void> acquire() {
+        long delay;
+        long slot;
+        long reservedNext;
+        long reservedWindow;
+        boolean counted;
+        synchronized (this) {
+            var now = System.nanoTime();
+            rollWindow(now);
+            var windowEnd = windowStart + windowNanos;
+            if (remaining == 0) {
+                if (mode == Mode.REJECT)
+                    return CompletableFuture.failedFuture(new RateLimitExceededException(budget(now)));
+                // the request is queued into the first upcoming window that still has room for it
+                var windowsAhead = limit > 0 ? queued / limit : 0;
+                reservedWindow = windowEnd + windowsAhead * windowNanos;
+                slot = Math.max(nextSlot, reservedWindow);
+                nextSlot = slot + (pacing && limit > 0 ? windowNanos / limit : 0);
+                counted = true;
+                queued++;
+            } else {
+                slot = Math.max(nextSlot, now);
+                if (pacing && remaining > 0) nextSlot = slot + Math.max(0, windowEnd - slot) / remaining;
+                counted = remaining > 0;
+                if (counted) remaining--;
+                reservedWindow = windowStart;
+            }
+            delay = slot - now;
+            reservedNext = nextSlot;
+        }
+        if (delay <= 0) return CompletableFuture.completedFuture(null);
+        var permit = new CompletableFuture<Void>();
+        CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS).execute(() -> permit.complete(null));
+        permit.whenComplete((ignored, failure) -> {
+            if (permit.isCancelled()) release(slot, reservedNext, reservedWindow, counted);
+        });
+        return permit;
+    }
+
+    /**
+     * Hands the slot of a cancelled request back, the budget is only given back if the window the slot
+     * has been charged to is still the current or, an upcoming one and, the pacing is only rewound if no
+     * other request has been paced after it
+     *
+     * @param slot           the point in time the request would have been sent at
+     * @param reservedNext   the next slot right after the reservation
+     * @param reservedWindow the start of the window the slot has been charged to
+     * @param counted        whether the reservation has been charged to the budget of a window
+     */
+    private synchronized void release(long slot, long reservedNext, long reservedWindow, boolean counted) {
+        rollWindow(System.nanoTime());
+        if (nextSlot == reservedNext) nextSlot = slot;
+        if (!counted) return;
+        if (reservedWindow > windowStart) {
+            if (queued > 0) queued--;
+        } else if (windowStart == reservedWindow && remaining >= 0 && (limit < 0 || remaining < limit)) {
+            remaining++;
+        }
+    }
+
+    /**
+     * Corrects the budget with the rate limit headers of the response, a {@code 429} status code
+     * exhausts the budget even if the headers are missing
+     *
+     * @param response the response of a limited request
+     */
+    public void update(@NotNull HttpResponse<?> response) {
+        update(response.headers(), response.statusCode());
+    }
+
+    /**
+     * Corrects the budget with the rate limit headers. The reported remaining budget only ever lowers the
+     * local view, i.e., a late response that has been counted before the requests that are still in flight
+     * doesn't hand their budget back. It is taken as it is only once the server has started a new window.
+     *
+     * @param headers    the headers of the response
+     * @param statusCode the status code of the response
+     */
+    public synchronized void update(@NotNull HttpHeaders headers, int statusCode) {
+        var now = System.nanoTime();
+        rollWindow(now);
+        OptionalLong reportedLimit = headers.firstValueAsLong(LIMIT_HEADER);
+        OptionalLong reportedRemaining = headers.firstValueAsLong(REMAINING_HEADER);
+
+        if (reportedLimit.isPresent()) limit = reportedLimit.getAsLong();
+        if (reportedRemaining.isPresent()) {
+            var value = reportedRemaining.getAsLong();
+            // the server has started a new window before we did
+            if (remaining >= 0 && value > remaining + 1 && value == limit - 1) {
+                windowStart = now;
+                nextSlot = now;
+                remaining = charge(value);
+            } else {
+                remaining = remaining < 0 ? value : Math.min(remaining, value);
+            }
+        }
+        if (statusCode == TOO_MANY_REQUESTS) remaining = 0;
+    }
+
+    /**
+     * Starts a new window if the current one is over, the budget is refilled up to the limit minus,
+     * the requests that have been queued into the new window. If the limit isn't known yet, the budget
+     * stays unknown until the next response comes in.
+     *
+     * @param now the current {@link System#nanoTime()}
+     */
+    private void rollWindow(long now) {
+        if (now - windowStart < windowNanos) return;
+        var elapsedWindows = (now - windowStart) / windowNanos;
+        windowStart += elapsedWindows * windowNanos;
+        // the windows that have passed unnoticed have already sent their share of the queued requests
+        if (limit > 0) queued = Math.max(0, queued - (elapsedWindows - 1) * limit);
+        remaining = charge(limit);
+        nextSlot = Math.max(nextSlot, windowStart);
+    }
+
+    /**
+     * Charges the requests that have been queued into the window that has just started to its budget
+     *
+     * @param budget the budget of the new window, {@code -1} if it isn't known
+     * @return the budget that is left for the requests that haven't been queued
+     */
+    private long charge(long budget) {
+        if (budget < 0) {
+            queued = 0;
+            return budget;
+        }
+        var charged = Math.min(queued, budget);
+        queued -= charged;
+        return budget - charged;
+    }
+
+    /**
+     * Takes a snapshot of the current budget
+     *
+     * @return a {@link Budget} instance
+     */
+    public synchronized @NotNull Budget budget() {
+        var now = System.nanoTime();
+        rollWindow(now);
+        return budget(now);
+    }
+
+    private Budget budget(long now) {
+        return new Budget(limit, remaining, Duration.ofNanos(Math.max(0, windowStart + windowNanos - now)));
+    }
+
+    /**
+     * An immutable snapshot of the rate limit budget
+     */
+    public static final class Budget {
+        private final long limit;
+        private final long remaining;
+        private final Duration resetIn;
+
+        private Budget(long limit, long remaining, Duration resetIn) {
+            this.limit = limit;
+            this.remaining = remaining;
+            this.resetIn = resetIn;
+        }
+
+        /**
+         * @return the total amount of requests per window, {@code -1} if it isn't known yet
+         */
+        public long limit() {return limit;}
+
+        /**
+         * @return the amount of requests that are left in the current window, {@code -1} if it isn't known yet
+         */
+        public long remaining() {return remaining;}
+
+        /**
+         * @return the time left until the current window is over
+         */
+        public Duration resetIn() {return resetIn;}
+
+        /**
+         * @return {@code true} if there are no requests left in the current window
+         */
+        public boolean isExhausted() {return remaining == 0;}
+
+        @Override
+        public String toString() {
+            return "Budget {LIMIT=" + limit + ", REMAINING=" + remaining + ", RESET_IN=" + resetIn + "}";
+        }
+    }
+
+    /**
+     * The exception that is thrown when a request is rejected because the budget is gone
+     */
+    public static final class RateLimitExceededException extends IOException {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final transient Budget budget;
+
+        private RateLimitExceededException(Budget budget) {
+            super("rate limit exceeded, the budget resets in " + budget.resetIn());
+            this.budget = budget;
+        }
+
+        /**
+         * @return the budget at the time the request was rejected
+         */
+        public Budget budget() {return budget;}
+    }
+
+    /**
+     * A builder that configures the {@link RateLimiter}
+     */
+    public static final class Builder {
+        private Mode mode = Mode.REJECT;
+        private boolean pacing;
+        private Duration window = Duration.ofHours(1);
+
+        private Builder() {}
+
+        /**
+         * Sets what should happen to the requests once the budget is gone
+         *
+         * @param mode the mode
+         * @return this builder
+         */
+        public Builder mode(@NotNull Mode mode) {
+            this.mode = Objects.requireNonNull(mode);
+            return this;
+        }
+
+        /**
+         * Whether the requests should be spread evenly across the rest of the window
+         *
+         * @param pacing {@code true} to pace the requests
+         * @return this builder
+         */
+        public Builder pacing(boolean pacing) {
+            this.pacing = pacing;
+            return this;
+        }
+
+        /**
+         * Sets the length of the rate limit window, unsplash.com uses an hourly window
+         *
+         * @param window the length of the window
+         * @return this builder
+         */
+        public Builder window(@NotNull Duration window) {
+            if (window.isZero() || window.isNegative()) throw new IllegalArgumentException("window must be positive");
+            this.window = window;
+            return this;
+        }
+
+        /**
+         * @return a new {@link RateLimiter}
+         */
+        public RateLimiter build() {return new RateLimiter(this);}
+    }
+}
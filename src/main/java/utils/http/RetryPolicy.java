@@ -0,0 +1,408 @@
+package utils.http;
+
+import annotations.Author;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * This class describes how a request should be retried, timed out and hedged. Every attempt has its own
+ * timeout, all the attempts together must finish before the overall deadline, the attempts that fail with an
+ * I/O error, a timeout, a {@code 5xx} or, a {@code 429} status code are retried after an exponential backoff
+ * with full jitter. And, optionally, a second (hedged) request is sent if the first one hasn't completed after
+ * the hedge delay (e.g. the p95 latency), whichever completes successfully first wins. The attempts that
+ * have timed out, lost the hedge race or, outlived the call are cancelled via
+ * {@link CompletableFuture#cancel(boolean)}, which aborts the exchange of a future that comes straight from
+ * {@link java.net.http.HttpClient#sendAsync(java.net.http.HttpRequest, HttpResponse.BodyHandler)}, so at most
+ * one attempt of a call is in flight once another one has started.<br/>
+ * <b>
+ * Important: Only idempotent requests should be hedged, the hedged request consumes rate limit budget as well.
+ * </b>
+ *
+ * @author ConfusedRobo
+ * @see HttpEngine
+ * @see Builder
+ */
+@Author(
+        author = "ConfusedRobo",
+        creation = "Sunday, 18 October, 2026, 05:02:54 PM",
+        profile = "https://github.com/heretickeymaker"
+)
+public final class RetryPolicy {
+    /**
+     * A policy that sends the request once and never times out, which is how the images have always been
+     * downloaded
+     */
+    public static final RetryPolicy NONE = builder().build();
+
+    private final int maxAttempts;
+    private final Duration attemptTimeout;
+    private final Duration deadline;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+    private final Duration hedgeDelay;
+
+    private RetryPolicy(Builder builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.attemptTimeout = builder.attemptTimeout;
+        this.deadline = builder.deadline;
+        this.baseBackoff = builder.baseBackoff;
+        this.maxBackoff = builder.maxBackoff;
+        this.hedgeDelay = builder.hedgeDelay;
+    }
+
+    /**
+     * Creates a new {@link Builder} with the default settings, i.e., a single attempt without any timeouts,
+     * a backoff starting at {@code 100ms} capped at {@code 5s} and no hedging
+     *
+     * @return a {@link Builder} instance
+     */
+    public static @NotNull Builder builder() {return new Builder();}
+
+    /**
+     * Checks whether the response should be retried because of its status code
+     *
+     * @param statusCode the status code of the response
+     * @return {@code true} for {@code 429} and the {@code 5xx} status codes
+     */
+    public static boolean isRetryable(int statusCode) {
+        return statusCode == RateLimiter.TOO_MANY_REQUESTS || statusCode >= 500 && statusCode < 600;
+    }
+
+    /**
+     * Checks whether the failure should be retried, the requests that have been rejected by the
+     * {@link RateLimiter} are never retried
+     *
+     * @param error the cause of the failure
+     * @return {@code true} if the request may succeed if it is sent again
+     */
+    private static boolean isRetryable(Throwable error) {
+        return !(error instanceof RateLimiter.RateLimitExceededException);
+    }
+
+    /**
+     * Runs the attempts according to this policy
+     *
+     * @param attempt sends one attempt of the request, it is called once per attempt and once more per hedge,
+     *                the futures it returns should abort the request when they are cancelled
+     * @param <T>     the type of the response body
+     * @return a {@link CompletableFuture} that completes with the first response that shouldn't be retried or,
+     * with the last outcome once the attempts or the deadline are exhausted, cancelling it cancels the
+     * running attempt as well
+     */
+    public <T> @NotNull CompletableFuture<HttpResponse<T>> execute(@NotNull Supplier<CompletableFuture<HttpResponse<T>>> attempt) {
+        return execute(() -> CompletableFuture.completedFuture(null), attempt);
+    }
+
+    /**
+     * Runs the attempts according to this policy, every attempt and every hedge waits for the gate before
+     * it is sent (e.g. for its slot from the {@link RateLimiter}). The time spent waiting for the gate doesn't
+     * count against the timeout of the attempt and, the deadline only starts once the first attempt may be
+     * sent. A gate that fails ends the attempt with its failure, which isn't retried if it is a
+     * {@link RateLimiter.RateLimitExceededException}.
+     *
+     * @param gate    returns a future that completes once the next attempt may be sent, it is called right
+     *                before every attempt and hedge, the futures it returns are cancelled if the attempt is
+     *                given up on while it is still waiting
+     * @param attempt sends one attempt of the request, it is called once per attempt and once more per hedge,
+     *                the futures it returns should abort the request when they are cancelled
+     * @param <T>     the type of the response body
+     * @return a {@link CompletableFuture} that completes with the first response that shouldn't be retried or,
+     * with the last outcome once the attempts or the deadline are exhausted, cancelling it cancels the
+     * running attempt as well
+     */
+    public <T> @NotNull CompletableFuture<HttpResponse<T>> execute(@NotNull Supplier<CompletableFuture<Void>> gate,
+                                                                  @NotNull Supplier<CompletableFuture<HttpResponse<T>>> attempt) {
+        var result = new CompletableFuture<HttpResponse<T>>();
+        var first = gate.get();
+        first.whenComplete((ignored, failure) -> {
+            if (Objects.nonNull(failure)) {
+                result.completeExceptionally(unwrap(failure));
+                return;
+            }
+            var deadlineAt = Objects.isNull(deadline) ? Long.MAX_VALUE : System.nanoTime() + deadline.toNanos();
+            if (Objects.nonNull(deadline)) result.orTimeout(deadline.toNanos(), TimeUnit.NANOSECONDS);
+            run(gate, attempt, 1, deadlineAt, result);
+        });
+        // a caller that gives up while the first attempt is still waiting hands its gate back
+        result.whenComplete((response, failure) -> first.cancel(true));
+        return result;
+    }
+
+    private <T> void run(Supplier<CompletableFuture<Void>> gate, Supplier<CompletableFuture<HttpResponse<T>>> attempt,
+                         int number, long deadlineAt, CompletableFuture<HttpResponse<T>> result) {
+        if (result.isDone()) return;
+        // the first attempt has already passed the gate in execute
+        var future = hedged(number == 1 ? null : gate, gate, attempt, deadlineAt);
+        // the deadline, or the caller giving up, ends the running attempt as well
+        result.whenComplete((response, failure) -> future.cancel(true));
+
+        future.whenComplete((response, failure) -> {
+            var error = unwrap(failure);
+            var retry = Objects.isNull(error) ? isRetryable(response.statusCode()) : isRetryable(error);
+            if (retry && number < maxAttempts) {
+                var delay = backoffNanos(number);
+                if (System.nanoTime() + delay < deadlineAt) {
+                    var executor = CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS);
+                    executor.execute(() -> run(gate, attempt, number + 1, deadlineAt, result));
+                    return;
+                }
+            }
+            if (Objects.isNull(error)) result.complete(response);
+            else result.completeExceptionally(error);
+        });
+    }
+
+    /**
+     * Sends the attempt and, if hedging is enabled, a second one after the hedge delay in case the
+     * first one is still running. The first successful response wins, if both fail the last failure is kept.
+     * The returned future is never one of the attempts themselves, once it completes in any way (a winner,
+     * or, a cancellation) the attempts that are still running are cancelled.
+     *
+     * @param primaryGate the gate of the first attempt, {@code null} if it may be sent right away
+     * @param hedgeGate   the gate of the hedged attempt
+     * @param attempt     sends one attempt of the request
+     * @param deadlineAt  the {@link System#nanoTime()} of the overall deadline
+     * @param <T>         the type of the response body
+     * @return a {@link CompletableFuture} of the winning response
+     */
+    private <T> CompletableFuture<HttpResponse<T>> hedged(@Nullable Supplier<CompletableFuture<Void>> primaryGate,
+                                                          Supplier<CompletableFuture<Void>> hedgeGate,
+                                                          Supplier<CompletableFuture<HttpResponse<T>>> attempt,
+                                                          long deadlineAt) {
+        var winner = new CompletableFuture<HttpResponse<T>>();
+        var attempts = new CopyOnWriteArrayList<CompletableFuture<HttpResponse<T>>>();
+        var pending = new AtomicInteger(1);
+        var primary = Objects.isNull(primaryGate) ? timed(attempt, deadlineAt) : gated(primaryGate, attempt, deadlineAt);
+        attempts.add(primary);
+        primary.whenComplete((response, failure) -> settle(winner, pending, response, failure));
+        if (Objects.nonNull(hedgeDelay)) {
+            var executor = CompletableFuture.delayedExecutor(hedgeDelay.toNanos(), TimeUnit.NANOSECONDS);
+            executor.execute(() -> {
+                if (winner.isDone()) return;
+                pending.incrementAndGet();
+                var hedge = gated(hedgeGate, attempt, deadlineAt);
+                attempts.add(hedge);
+                hedge.whenComplete((response, failure) -> settle(winner, pending, response, failure));
+                // the winner may have settled before the hedge was added
+                if (winner.isDone()) hedge.cancel(true);
+            });
+        }
+        winner.whenComplete((response, failure) -> attempts.forEach(future -> future.cancel(true)));
+        return winner;
+    }
+
+    /**
+     * Waits for the gate then, sends the attempt with its own timeout. Cancelling the returned future
+     * while the gate is still pending hands the gate back, afterwards it cancels the attempt.
+     *
+     * @param gate       the gate of the attempt
+     * @param attempt    sends one attempt of the request
+     * @param deadlineAt the {@link System#nanoTime()} of the overall deadline
+     * @param <T>        the type of the response body
+     * @return a {@link CompletableFuture} of the response
+     */
+    private <T> CompletableFuture<HttpResponse<T>> gated(Supplier<CompletableFuture<Void>> gate,
+                                                         Supplier<CompletableFuture<HttpResponse<T>>> attempt,
+                                                         long deadlineAt) {
+        var result = new CompletableFuture<HttpResponse<T>>();
+        var permit = gate.get();
+        permit.whenComplete((ignored, failure) -> {
+            if (Objects.nonNull(failure)) {
+                result.completeExceptionally(unwrap(failure));
+                return;
+            }
+            if (result.isDone()) return;
+            var sent = timed(attempt, deadlineAt);
+            sent.whenComplete((response, error) -> {
+                if (Objects.isNull(error)) result.complete(response);
+                else result.completeExceptionally(unwrap(error));
+            });
+            result.whenComplete((response, error) -> sent.cancel(true));
+        });
+        result.whenComplete((response, failure) -> permit.cancel(true));
+        return result;
+    }
+
+    /**
+     * Sends the attempt and times it out after the attempt timeout or, at the deadline, whichever comes first
+     *
+     * @param attempt    sends one attempt of the request
+     * @param deadlineAt the {@link System#nanoTime()} of the overall deadline
+     * @param <T>        the type of the response body
+     * @return the future of the attempt, cancelling it aborts the request
+     */
+    private <T> CompletableFuture<HttpResponse<T>> timed(Supplier<CompletableFuture<HttpResponse<T>>> attempt,
+                                                         long deadlineAt) {
+        var timeout = attemptTimeoutNanos(deadlineAt);
+        var sent = attempt.get();
+        if (timeout == Long.MAX_VALUE) return sent;
+        var result = new CompletableFuture<HttpResponse<T>>();
+        sent.whenComplete((response, error) -> {
+            if (Objects.isNull(error)) result.complete(response);
+            else result.completeExceptionally(unwrap(error));
+        });
+        result.orTimeout(timeout, TimeUnit.NANOSECONDS);
+        // a timed-out attempt must not keep its exchange open
+        result.whenComplete((response, error) -> sent.cancel(true));
+        return result;
+    }
+
+    private static <T> void settle(CompletableFuture<HttpResponse<T>> winner,
+                                   AtomicInteger pending,
+                                   @Nullable HttpResponse<T> response, @Nullable Throwable failure) {
+        var last = pending.decrementAndGet() == 0;
+        if (Objects.isNull(failure) && (!isRetryable(response.statusCode()) || last)) winner.complete(response);
+        else if (last) {
+            if (Objects.isNull(failure)) winner.complete(response);
+            else winner.completeExceptionally(unwrap(failure));
+        }
+    }
+
+    private long attemptTimeoutNanos(long deadlineAt) {
+        var timeout = Objects.isNull(attemptTimeout) ? Long.MAX_VALUE : attemptTimeout.toNanos();
+        if (deadlineAt == Long.MAX_VALUE) return timeout;
+        return Math.max(1, Math.min(timeout, deadlineAt - System.nanoTime()));
+    }
+
+    /**
+     * Computes the backoff before the next attempt, i.e., a random amount between zero and
+     * {@code min(maxBackoff, baseBackoff * 2^(attempt - 1))}
+     *
+     * @param attempt the number of the attempt that has just failed, starting from {@code 1}
+     * @return the backoff in nanoseconds
+     */
+    private long backoffNanos(int attempt) {
+        var ceiling = baseBackoff.toNanos() << Math.min(attempt - 1, 30);
+        if (ceiling <= 0 || ceiling > maxBackoff.toNanos()) ceiling = maxBackoff.toNanos();
+        return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        while ((failure instanceof CompletionException || failure instanceof ExecutionException)
+               && Objects.nonNull(failure.getCause())) failure = failure.getCause();
+        return failure;
+    }
+
+    /**
+     * @return the maximum amount of attempts
+     */
+    public int maxAttempts() {return maxAttempts;}
+
+    /**
+     * @return the timeout of each attempt, {@code null} if the attempts never time out
+     */
+    public @Nullable Duration attemptTimeout() {return attemptTimeout;}
+
+    /**
+     * @return the deadline of all the attempts together, {@code null} if there's none
+     */
+    public @Nullable Duration deadline() {return deadline;}
+
+    /**
+     * @return the delay after which a hedged request is sent, {@code null} if hedging is disabled
+     */
+    public @Nullable Duration hedgeDelay() {return hedgeDelay;}
+
+    @Override
+    public String toString() {
+        return "RetryPolicy {ATTEMPTS=" + maxAttempts + ", ATTEMPT_TIMEOUT=" + attemptTimeout
+               + ", DEADLINE=" + deadline + ", HEDGE_DELAY=" + hedgeDelay + "}";
+    }
+
+    /**
+     * A builder that configures the {@link RetryPolicy}
+     */
+    public static final class Builder {
+        private int maxAttempts = 1;
+        private Duration attemptTimeout;
+        private Duration deadline;
+        private Duration baseBackoff = Duration.ofMillis(100);
+        private Duration maxBackoff = Duration.ofSeconds(5);
+        private Duration hedgeDelay;
+
+        private Builder() {}
+
+        /**
+         * Sets the maximum amount of attempts, including the first one
+         *
+         * @param maxAttempts the amount of attempts, must be positive
+         * @return this builder
+         */
+        public Builder maxAttempts(int maxAttempts) {
+            if (maxAttempts < 1) throw new IllegalArgumentException("maxAttempts must be positive: " + maxAttempts);
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Sets the timeout of each attempt
+         *
+         * @param attemptTimeout the timeout, {@code null} to never time out
+         * @return this builder
+         */
+        public Builder attemptTimeout(@Nullable Duration attemptTimeout) {
+            this.attemptTimeout = positive(attemptTimeout);
+            return this;
+        }
+
+        /**
+         * Sets the deadline of all the attempts together, including the backoffs
+         *
+         * @param deadline the deadline, {@code null} for no deadline
+         * @return this builder
+         */
+        public Builder deadline(@Nullable Duration deadline) {
+            this.deadline = positive(deadline);
+            return this;
+        }
+
+        /**
+         * Sets the backoff bounds, the backoff starts at the base and doubles every attempt up to the maximum
+         *
+         * @param baseBackoff the backoff after the first attempt
+         * @param maxBackoff  the upper bound of the backoff
+         * @return this builder
+         */
+        public Builder backoff(@NotNull Duration baseBackoff, @NotNull Duration maxBackoff) {
+            if (baseBackoff.isNegative() || maxBackoff.compareTo(baseBackoff) < 0)
+                throw new IllegalArgumentException("invalid backoff: " + baseBackoff + ", " + maxBackoff);
+            this.baseBackoff = baseBackoff;
+            this.maxBackoff = maxBackoff;
+            return this;
+        }
+
+        /**
+         * Enables hedging, a second request is sent if the first one is still running after the delay
+         *
+         * @param hedgeDelay the delay, usually the p95 latency, {@code null} to disable hedging
+         * @return this builder
+         */
+        public Builder hedgeAfter(@Nullable Duration hedgeDelay) {
+            this.hedgeDelay = positive(hedgeDelay);
+            return this;
+        }
+
+        private static Duration positive(Duration duration) {
+            if (Objects.nonNull(duration) && (duration.isZero() || duration.isNegative()))
+                throw new IllegalArgumentException("duration must be positive: " + duration);
+            return duration;
+        }
+
+        /**
+         * @return a new {@link RetryPolicy}
+         */
+        public RetryPolicy build() {return new RetryPolicy(this);}
+    }
+}
@@ -0,0 +1,507 @@
+package utils.json;
+
+import annotations.Author;
+import models.CameraInfo;
+import models.Image;
+import models.ImageDateTime;
+import models.ImageMetadata;
+import models.UserAccount;
+import models.model_utils.Dimension;
+import models.model_utils.LinkTable;
+import models.model_utils.Location;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import utils.UserCache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodySubscribers;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static models.CameraInfo.EXIFKeys.*;
+
+/**
+ * This class binds the JSON of a random photo straight into the typed {@link Image} model, i.e., the
+ * {@link Image}, its {@link ImageMetadata}, {@link UserAccount}, {@link CameraInfo} and {@link Location}
+ * are populated in a single pass over the bytes by a {@link JsonReader}. No {@link org.json.JSONObject} tree
+ * and no intermediate {@link String} of the whole document are created, the fields that the models don't
+ * have are skipped without being decoded.<br/>
+ * <b>Example</b>:
+ * <pre>{@code
+ * var request = HttpRequest.newBuilder(URI.create(link)).build();
+ * Image image = engine.sendApiAsync(request, ImageBinder.ofImage()).join().body();
+ * }</pre>
+ *
+ * @author ConfusedRobo
+ * @see JsonReader
+ * @see Image
+ */
+@Author(
+        author = "ConfusedRobo",
+        creation = "Sunday, 18 October, 2026, 07:48:03 PM",
+        profile = "https://github.com/heretickeymaker"
+)
+public final class ImageBinder {
+    private ImageBinder() {}
+
+    /**
+     * Binds a single photo, the stream is closed afterwards
+     *
+     * @param in the UTF-8 encoded JSON of the photo
+     * @return the populated {@link Image}
+     * @throws IOException if the stream fails or, the JSON isn't a photo object
+     */
+    public static @NotNull Image bind(@NotNull InputStream in) throws IOException {
+        try (var reader = new JsonReader(in)) {return readImage(reader);}
+    }
+
+    /**
+     * Binds a single photo from the remaining bytes of the buffer
+     *
+     * @param source the UTF-8 encoded JSON of the photo
+     * @return the populated {@link Image}
+     * @throws IOException if the JSON isn't a photo object
+     */
+    public static @NotNull Image bind(@NotNull ByteBuffer source) throws IOException {
+        return readImage(new JsonReader(source));
+    }
+
+    /**
+     * Binds a single photo from an already fetched JSON string, e.g. {@code RandomFixed#getStringJSON()}
+     *
+     * @param source the JSON of the photo
+     * @return the populated {@link Image}
+     * @throws IOException if the JSON isn't a photo object
+     */
+    public static @NotNull Image bind(@NotNull String source) throws IOException {
+        return readImage(new JsonReader(source));
+    }
+
+    /**
+     * Binds the JSON array of photos that is returned by the batch requests, the stream is closed afterwards
+     *
+     * @param in the UTF-8 encoded JSON array
+     * @return the populated images in the order of the array
+     * @throws IOException if the stream fails or, the JSON isn't an array of photos
+     */
+    public static @NotNull List<Image> bindAll(@NotNull InputStream in) throws IOException {
+        try (var reader = new JsonReader(in)) {return readImages(reader);}
+    }
+
+    /**
+     * Binds the JSON array of photos that is returned by the batch requests
+     *
+     * @param source the UTF-8 encoded JSON array
+     * @return the populated images in the order of the array
+     * @throws IOException if the JSON isn't an array of photos
+     */
+    public static @NotNull List<Image> bindAll(@NotNull ByteBuffer source) throws IOException {
+        return readImages(new JsonReader(source));
+    }
+
+    /**
+     * A {@link BodyHandler} that binds the body of a successful response into an {@link Image} as soon as it
+     * has been received, the body of any other response is discarded and, the body becomes {@code null}
+     *
+     * @return a {@link BodyHandler} instance
+     */
+    public static @NotNull BodyHandler<Image> ofImage() {return ofImage(null);}
+
+    /**
+     * Just like {@link ImageBinder#ofImage()}, but the {@code user} of the image is resolved to the shared
+     * instance of the cache
+     *
+     * @param cache the cache of the users, {@code null} to keep every copy
+     * @return a {@link BodyHandler} instance
+     * @see UserCache#intern(Image)
+     */
+    public static @NotNull BodyHandler<Image> ofImage(@Nullable UserCache cache) {
+        return info -> info.statusCode() / 100 != 2
+                ? BodySubscribers.replacing(null)
+                : BodySubscribers.mapping(BodySubscribers.ofByteArray(), bytes -> {
+                    try {
+                        var image = bind(ByteBuffer.wrap(bytes));
+                        return Objects.isNull(cache) ? image : cache.intern(image);
+                    } catch (IOException exception) {throw new UncheckedIOException(exception);}
+                });
+    }
+
+    /**
+     * The batch counterpart of {@link ImageBinder#ofImage()}
+     *
+     * @return a {@link BodyHandler} instance
+     */
+    public static @NotNull BodyHandler<List<Image>> ofImages() {return ofImages(null);}
+
+    /**
+     * The batch counterpart of {@link ImageBinder#ofImage(UserCache)}
+     *
+     * @param cache the cache of the users, {@code null} to keep every copy
+     * @return a {@link BodyHandler} instance
+     */
+    public static @NotNull BodyHandler<List<Image>> ofImages(@Nullable UserCache cache) {
+        return info -> info.statusCode() / 100 != 2
+                ? BodySubscribers.replacing(null)
+                : BodySubscribers.mapping(BodySubscribers.ofByteArray(), bytes -> {
+                    try {
+                        var images = bindAll(ByteBuffer.wrap(bytes));
+                        if (Objects.nonNull(cache)) images.forEach(cache::intern);
+                        return images;
+                    } catch (IOException exception) {throw new UncheckedIOException(exception);}
+                });
+    }
+
+    private static List<Image> readImages(JsonReader reader) throws IOException {
+        var images = new ArrayList<Image>();
+        reader.beginArray();
+        while (reader.hasNext()) images.add(readImage(reader));
+        reader.endArray();
+        return images;
+    }
+
+    /**
+     * Reads one photo object, the reader must be positioned right before its opening brace
+     *
+     * @param reader the reader
+     * @return the populated {@link Image}
+     * @throws IOException if the JSON isn't a photo object
+     */
+    public static @NotNull Image readImage(@NotNull JsonReader reader) throws IOException {
+        var image = new Image();
+        var metadata = new ImageMetadata();
+        metadata.dimension = new Dimension();
+        image.metadata = metadata;
+        image.imageSizeLinks = new HashMap<>(8);
+        image.imageInfoLinks = new HashMap<>(8);
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "id":
+                    image.id = reader.nextString();
+                    break;
+                case "created_at":
+                    metadata.createdAt = readDateTime(reader);
+                    break;
+                case "updated_at":
+                    metadata.updatedAt = readDateTime(reader);
+                    break;
+                case "promoted_at":
+                    image.promotedAt = readDateTime(reader);
+                    break;
+                case "width":
+                    metadata.dimension.width = reader.nextInt();
+                    break;
+                case "height":
+                    metadata.dimension.height = reader.nextInt();
+                    break;
+                case "color":
+                    metadata.color = reader.nextNullableString();
+                    break;
+                case "blur_hash":
+                    metadata.blurhash = reader.nextNullableString();
+                    break;
+                case "description":
+                    image.description = reader.nextNullableString();
+                    break;
+                case "alt_description":
+                    image.altDescription = reader.nextNullableString();
+                    break;
+                case "urls":
+                    readLinks(reader, image.imageSizeLinks);
+                    break;
+                case "links":
+                    readLinks(reader, image.imageInfoLinks);
+                    break;
+                case "likes":
+                    image.likes = readLong(reader);
+                    break;
+                case "views":
+                    image.views = readLong(reader);
+                    break;
+                case "downloads":
+                    image.downloads = readLong(reader);
+                    break;
+                case "liked_by_user":
+                    image.selfLikes = readBoolean(reader);
+                    break;
+                case "sponsorship":
+                    if (reader.peek() == JsonReader.Token.STRING) image.sponsorship = reader.nextString();
+                    else reader.skipValue();
+                    break;
+                case Image.ImageJSONKeys.USER:
+                    image.userAccountInfo = readUser(reader);
+                    break;
+                case "exif":
+                    image.exif = readExif(reader);
+                    break;
+                case "location":
+                    image.location = readLocation(reader);
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return image;
+    }
+
+    /**
+     * Reads the {@code user} object of a photo
+     *
+     * @param reader the reader
+     * @return the populated {@link UserAccount}, {@code null} if the value is a {@code null} literal
+     * @throws IOException if the JSON isn't a user object
+     */
+    public static @Nullable UserAccount readUser(@NotNull JsonReader reader) throws IOException {
+        if (skipNull(reader)) return null;
+        var account = new UserAccount();
+        account.location = new Location();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "id":
+                    account.id = reader.nextString();
+                    break;
+                case "updated_at":
+                    account.updatedAt = readDateTime(reader);
+                    break;
+                case "username":
+                    account.username = reader.nextNullableString();
+                    break;
+                case "name":
+                    account.name = reader.nextNullableString();
+                    break;
+                case "first_name":
+                    account.firstName = reader.nextNullableString();
+                    break;
+                case "last_name":
+                    account.lastName = reader.nextNullableString();
+                    break;
+                case "bio":
+                    account.bio = reader.nextNullableString();
+                    break;
+                case "location":
+                    account.location.setCity(reader.nextNullableString());
+                    break;
+                case "twitter_username":
+                    account.twitterUsername = reader.nextNullableString();
+                    break;
+                case "instagram_username":
+                    account.instagramUsername = reader.nextNullableString();
+                    break;
+                case "portfolio_url":
+                    account.portfolioURL = readURL(reader);
+                    break;
+                case "links":
+                    readLinks(reader, account.linkTable());
+                    break;
+                case "profile_image":
+                    readLinks(reader, account.profileSizeTable());
+                    break;
+                case "total_likes":
+                    account.totalLikes = readLong(reader);
+                    break;
+                case "total_photos":
+                    account.totalPhotosPosted = readLong(reader);
+                    break;
+                case "total_collections":
+                    account.totalPhotoCollections = readLong(reader);
+                    break;
+                case "for_hire":
+                    account.hireable = readBoolean(reader);
+                    break;
+                case "accepted_tos":
+                    account.acceptedUnsplashTOS = readBoolean(reader);
+                    break;
+                case "social":
+                    readSocial(reader, account);
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return account;
+    }
+
+    /**
+     * The {@code social} object repeats a few of the top level user fields, they are only taken from
+     * here if the top level ones are missing
+     */
+    private static void readSocial(JsonReader reader, UserAccount account) throws IOException {
+        if (skipNull(reader)) return;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "instagram_username": {
+                    var value = reader.nextNullableString();
+                    if (Objects.isNull(account.instagramUsername)) account.instagramUsername = value;
+                    break;
+                }
+                case "twitter_username": {
+                    var value = reader.nextNullableString();
+                    if (Objects.isNull(account.twitterUsername)) account.twitterUsername = value;
+                    break;
+                }
+                case "portfolio_url": {
+                    var value = readURL(reader);
+                    if (Objects.isNull(account.portfolioURL)) account.portfolioURL = value;
+                    break;
+                }
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
+    /**
+     * Reads the {@code exif} object of a photo
+     *
+     * @param reader the reader
+     * @return the populated {@link CameraInfo}, {@code null} if the value is a {@code null} literal
+     * @throws IOException if the JSON isn't an exif object
+     */
+    public static @Nullable CameraInfo readExif(@NotNull JsonReader reader) throws IOException {
+        if (skipNull(reader)) return null;
+        String make = null, model = null, exposureTime = null, aperture = null, focalLength = null;
+        Integer iso = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case MAKE:
+                    make = reader.nextNullableString();
+                    break;
+                case MODEL:
+                    model = reader.nextNullableString();
+                    break;
+                case EXPOSURE_TIME:
+                    exposureTime = reader.nextNullableString();
+                    break;
+                case APERTURE:
+                    aperture = reader.nextNullableString();
+                    break;
+                case FOCAL_LENGTH:
+                    focalLength = reader.nextNullableString();
+                    break;
+                case ISO:
+                    iso = skipNull(reader) ? null : reader.nextInt();
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return new CameraInfo(make, model, exposureTime, aperture, focalLength, iso);
+    }
+
+    /**
+     * Reads the {@code location} object of a photo
+     *
+     * @param reader the reader
+     * @return the populated {@link Location}, {@code null} if the value is a {@code null} literal
+     * @throws IOException if the JSON isn't a location object
+     */
+    public static @Nullable Location readLocation(@NotNull JsonReader reader) throws IOException {
+        if (skipNull(reader)) return null;
+        String title = null, name = null, city = null, country = null, latitude = null, longitude = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "title":
+                    title = reader.nextNullableString();
+                    break;
+                case "name":
+                    name = reader.nextNullableString();
+                    break;
+                case "city":
+                    city = reader.nextNullableString();
+                    break;
+                case "country":
+                    country = reader.nextNullableString();
+                    break;
+                case "position":
+                    if (skipNull(reader)) break;
+                    reader.beginObject();
+                    while (reader.hasNext()) {
+                        var key = reader.nextName();
+                        if (key.equals("latitude")) latitude = reader.nextNullableString();
+                        else if (key.equals("longitude")) longitude = reader.nextNullableString();
+                        else reader.skipValue();
+                    }
+                    reader.endObject();
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        var location = new Location();
+        location.setAll(title, name, city, country, latitude, longitude);
+        return location;
+    }
+
+    /**
+     * Reads an object of urls into the map, e.g. the {@code urls} and {@code links} objects
+     */
+    private static void readLinks(JsonReader reader, Map<String, URL> links) throws IOException {
+        if (skipNull(reader)) return;
+        reader.beginObject();
+        while (reader.hasNext()) links.put(reader.nextName(), readURL(reader));
+        reader.endObject();
+    }
+
+    /**
+     * Reads the links into the table, the links are still validated as {@link URL}s but only their
+     * {@code String} form is kept
+     */
+    private static void readLinks(JsonReader reader, LinkTable<?> links) throws IOException {
+        if (skipNull(reader)) return;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            var key = reader.nextName();
+            var url = readURL(reader);
+            links.putSource(key, Objects.isNull(url) ? null : url.toExternalForm());
+        }
+        reader.endObject();
+    }
+
+    private static @Nullable URL readURL(JsonReader reader) throws IOException {
+        var source = reader.nextNullableString();
+        return Objects.isNull(source) || source.isEmpty() ? null : new URL(source);
+    }
+
+    private static @Nullable ImageDateTime readDateTime(JsonReader reader) throws IOException {
+        var source = reader.nextNullableString();
+        return Objects.isNull(source) ? null : new ImageDateTime(source);
+    }
+
+    private static long readLong(JsonReader reader) throws IOException {return skipNull(reader) ? 0 : reader.nextLong();}
+
+    private static boolean readBoolean(JsonReader reader) throws IOException {
+        return !skipNull(reader) && reader.nextBoolean();
+    }
+
+    /**
+     * Consumes the next value if it is a {@code null} literal
+     *
+     * @return {@code true} if a {@code null} literal has been consumed
+     */
+    private static boolean skipNull(JsonReader reader) throws IOException {
+        if (reader.peek() != JsonReader.Token.NULL) return false;
+        reader.nextNull();
+        return true;
+    }
+}
@@ -0,0 +1,630 @@
+package utils.json;
+
+import annotations.Author;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serial;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * This class is a forward-only, pull based JSON reader that works straight on the UTF-8 bytes of a document,
+ * i.e., the bytes are read from an {@link InputStream} through a small fixed buffer or, from a {@link ByteBuffer}
+ * without copying. Unlike {@link org.json.JSONObject} no tree is ever built, the caller asks for the next
+ * {@link Token} and consumes it, the values that aren't needed are skipped via {@link JsonReader#skipValue()}
+ * without decoding them.<br/>
+ * <b>Example</b>:
+ * <pre>{@code
+ * try (var reader = new JsonReader(inputStream)) {
+ *     reader.beginObject();
+ *     while (reader.hasNext()) {
+ *         if (reader.nextName().equals("id")) id = reader.nextString();
+ *         else reader.skipValue();
+ *     }
+ *     reader.endObject();
+ * }
+ * }</pre>
+ *
+ * @author ConfusedRobo
+ * @see ImageBinder
+ * @see Token
+ */
+@Author(
+        author = "ConfusedRobo",
+        creation = "Sunday, 18 October, 2026, 07:12:40 PM",
+        profile = "https://github.com/heretickeymaker"
+)
+public final class JsonReader implements Closeable {
+    /**
+     * The kinds of tokens a JSON document is made of
+     */
+    public enum Token {
+        BEGIN_OBJECT, END_OBJECT, BEGIN_ARRAY, END_ARRAY, NAME, STRING, NUMBER, BOOLEAN, NULL, END_DOCUMENT
+    }
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_OBJECT = 2;
+    private static final int NONEMPTY_OBJECT = 3;
+    private static final int DANGLING_NAME = 4;
+    private static final int EMPTY_ARRAY = 5;
+    private static final int NONEMPTY_ARRAY = 6;
+
+    /**
+     * The source of the bytes, {@code null} if the whole document is already in {@link JsonReader#buffer}
+     */
+    private final InputStream in;
+    private final byte[] buffer;
+    private int position;
+    private int limit;
+    /**
+     * The amount of bytes that have been dropped from the buffer by the refills, only used for the error messages
+     */
+    private long discarded;
+
+    /**
+     * The scopes of the nested objects and arrays, the innermost one is on top
+     */
+    private int[] stack = new int[32];
+    private int depth;
+    /**
+     * The token that has been peeked but not consumed yet, {@code null} if there's none
+     */
+    private Token peeked;
+    /**
+     * The scratch space for the strings that need to be decoded, reused across the strings
+     */
+    private char[] chars = new char[64];
+
+    /**
+     * Creates a reader that pulls the bytes from the stream through an internal buffer
+     *
+     * @param in the stream of the UTF-8 encoded document, it is closed by {@link JsonReader#close()}
+     */
+    public JsonReader(@NotNull InputStream in) {
+        this.in = Objects.requireNonNull(in);
+        this.buffer = new byte[BUFFER_SIZE];
+        this.stack[depth++] = EMPTY_DOCUMENT;
+    }
+
+    /**
+     * Creates a reader over the remaining bytes of the buffer, a heap buffer is read in place and
+     * the position of the given buffer is left untouched
+     *
+     * @param source the UTF-8 encoded document
+     */
+    public JsonReader(@NotNull ByteBuffer source) {
+        this.in = null;
+        if (source.hasArray()) {
+            this.buffer = source.array();
+            this.position = source.arrayOffset() + source.position();
+            this.limit = source.arrayOffset() + source.limit();
+        } else {
+            this.buffer = new byte[source.remaining()];
+            source.duplicate().get(buffer);
+            this.limit = buffer.length;
+        }
+        this.stack[depth++] = EMPTY_DOCUMENT;
+    }
+
+    /**
+     * Creates a reader over a document that is already held as a string
+     *
+     * @param source the JSON document
+     */
+    public JsonReader(@NotNull String source) {this(ByteBuffer.wrap(source.getBytes(StandardCharsets.UTF_8)));}
+
+    /**
+     * Looks at the next token without consuming it
+     *
+     * @return the kind of the next token
+     * @throws IOException if the document is malformed or, the stream fails
+     */
+    public @NotNull Token peek() throws IOException {
+        if (Objects.nonNull(peeked)) return peeked;
+        var scope = stack[depth - 1];
+        switch (scope) {
+            case EMPTY_ARRAY:
+                stack[depth - 1] = NONEMPTY_ARRAY;
+                break;
+            case NONEMPTY_ARRAY: {
+                var c = nextNonWhitespace();
+                if (c == ']') return peeked = Token.END_ARRAY;
+                if (c != ',') throw syntaxError("expected ',' or ']'");
+                break;
+            }
+            case EMPTY_OBJECT:
+            case NONEMPTY_OBJECT: {
+                stack[depth - 1] = DANGLING_NAME;
+                var c = nextNonWhitespace();
+                if (c == '}') return peeked = Token.END_OBJECT;
+                if (scope == NONEMPTY_OBJECT) {
+                    if (c != ',') throw syntaxError("expected ',' or '}'");
+                    c = nextNonWhitespace();
+                }
+                if (c != '"') throw syntaxError("expected a name");
+                return peeked = Token.NAME;
+            }
+            case DANGLING_NAME:
+                stack[depth - 1] = NONEMPTY_OBJECT;
+                if (nextNonWhitespace() != ':') throw syntaxError("expected ':'");
+                break;
+            case EMPTY_DOCUMENT:
+                stack[depth - 1] = NONEMPTY_DOCUMENT;
+                break;
+            default: {
+                if (skipWhitespace() == -1) return peeked = Token.END_DOCUMENT;
+                throw syntaxError("unexpected data after the document");
+            }
+        }
+
+        var c = nextNonWhitespace();
+        switch (c) {
+            case '{':
+                return peeked = Token.BEGIN_OBJECT;
+            case '[':
+                return peeked = Token.BEGIN_ARRAY;
+            case ']':
+                if (scope == EMPTY_ARRAY) return peeked = Token.END_ARRAY;
+                throw syntaxError("unexpected ']'");
+            case '"':
+                return peeked = Token.STRING;
+            case 't':
+            case 'f':
+                position--;
+                return peeked = Token.BOOLEAN;
+            case 'n':
+                position--;
+                return peeked = Token.NULL;
+            default:
+                if (c == '-' || c >= '0' && c <= '9') {
+                    position--;
+                    return peeked = Token.NUMBER;
+                }
+                throw syntaxError("unexpected character '" + (char) c + "'");
+        }
+    }
+
+    /**
+     * Consumes the opening brace of an object
+     *
+     * @throws IOException if the next token isn't {@link Token#BEGIN_OBJECT}
+     */
+    public void beginObject() throws IOException {
+        expect(Token.BEGIN_OBJECT);
+        push(EMPTY_OBJECT);
+    }
+
+    /**
+     * Consumes the closing brace of an object
+     *
+     * @throws IOException if the next token isn't {@link Token#END_OBJECT}
+     */
+    public void endObject() throws IOException {
+        expect(Token.END_OBJECT);
+        depth--;
+    }
+
+    /**
+     * Consumes the opening bracket of an array
+     *
+     * @throws IOException if the next token isn't {@link Token#BEGIN_ARRAY}
+     */
+    public void beginArray() throws IOException {
+        expect(Token.BEGIN_ARRAY);
+        push(EMPTY_ARRAY);
+    }
+
+    /**
+     * Consumes the closing bracket of an array
+     *
+     * @throws IOException if the next token isn't {@link Token#END_ARRAY}
+     */
+    public void endArray() throws IOException {
+        expect(Token.END_ARRAY);
+        depth--;
+    }
+
+    /**
+     * @return {@code true} if the current object or, array has another element
+     * @throws IOException if the document is malformed or, the stream fails
+     */
+    public boolean hasNext() throws IOException {
+        var token = peek();
+        return token != Token.END_OBJECT && token != Token.END_ARRAY && token != Token.END_DOCUMENT;
+    }
+
+    /**
+     * Consumes the name of the next property
+     *
+     * @return the name
+     * @throws IOException if the next token isn't {@link Token#NAME}
+     */
+    public @NotNull String nextName() throws IOException {
+        expect(Token.NAME);
+        return readString();
+    }
+
+    /**
+     * Consumes a string value, numbers are returned as they appear in the document
+     *
+     * @return the value
+     * @throws IOException if the next token is neither a {@link Token#STRING} nor, a {@link Token#NUMBER}
+     */
+    public @NotNull String nextString() throws IOException {
+        var token = peek();
+        if (token == Token.STRING) {
+            peeked = null;
+            return readString();
+        }
+        if (token == Token.NUMBER) {
+            peeked = null;
+            return new String(chars, 0, readNumber());
+        }
+        throw syntaxError("expected a string but was " + token);
+    }
+
+    /**
+     * Same as {@link JsonReader#nextString()} but a {@code null} literal is consumed and returned as {@code null}
+     *
+     * @return the value, may be {@code null}
+     * @throws IOException if the next token isn't a string, a number or, a {@code null} literal
+     */
+    public @Nullable String nextNullableString() throws IOException {
+        if (peek() == Token.NULL) {
+            nextNull();
+            return null;
+        }
+        return nextString();
+    }
+
+    /**
+     * Consumes a number, or a string holding a number, as a {@code long}. Plain integers are parsed
+     * straight from the bytes without creating a string.
+     *
+     * @return the value
+     * @throws IOException           if the next token isn't a number
+     * @throws NumberFormatException if the number can't be represented as a {@code long}
+     */
+    public long nextLong() throws IOException {
+        var token = peek();
+        if (token == Token.STRING) return Long.parseLong(nextString());
+        if (token != Token.NUMBER) throw syntaxError("expected a number but was " + token);
+        peeked = null;
+        var length = readNumber();
+        var negative = chars[0] == '-';
+        var start = negative ? 1 : 0;
+        if (length - start > 0 && length - start <= 18) {
+            long value = 0;
+            var index = start;
+            for (; index < length; index++) {
+                var c = chars[index];
+                if (c < '0' || c > '9') break;
+                value = value * 10 + (c - '0');
+            }
+            if (index == length) return negative ? -value : value;
+        }
+        var literal = new String(chars, 0, length);
+        try {
+            return Long.parseLong(literal);
+        } catch (NumberFormatException exception) {
+            var value = Double.parseDouble(literal);
+            if (value != (long) value) throw new NumberFormatException("not a long: " + literal);
+            return (long) value;
+        }
+    }
+
+    /**
+     * Consumes a number as an {@code int}
+     *
+     * @return the value
+     * @throws IOException           if the next token isn't a number
+     * @throws NumberFormatException if the number can't be represented as an {@code int}
+     */
+    public int nextInt() throws IOException {
+        var value = nextLong();
+        if (value != (int) value) throw new NumberFormatException("not an int: " + value);
+        return (int) value;
+    }
+
+    /**
+     * Consumes a number as a {@code double}
+     *
+     * @return the value
+     * @throws IOException if the next token isn't a number
+     */
+    public double nextDouble() throws IOException {
+        return Double.parseDouble(nextString());
+    }
+
+    /**
+     * Consumes a {@code true} or, {@code false} literal
+     *
+     * @return the value
+     * @throws IOException if the next token isn't a {@link Token#BOOLEAN}
+     */
+    public boolean nextBoolean() throws IOException {
+        expect(Token.BOOLEAN);
+        if (buffer(0) == 't') {
+            literal("true");
+            return true;
+        }
+        literal("false");
+        return false;
+    }
+
+    /**
+     * Consumes a {@code null} literal
+     *
+     * @throws IOException if the next token isn't a {@link Token#NULL}
+     */
+    public void nextNull() throws IOException {
+        expect(Token.NULL);
+        literal("null");
+    }
+
+    /**
+     * Skips the next value, objects and arrays are skipped as a whole without decoding any of their
+     * strings or, numbers
+     *
+     * @throws IOException if the document is malformed or, the stream fails
+     */
+    public void skipValue() throws IOException {
+        var count = 0;
+        do {
+            var token = peek();
+            switch (token) {
+                case BEGIN_OBJECT:
+                    beginObject();
+                    count++;
+                    break;
+                case BEGIN_ARRAY:
+                    beginArray();
+                    count++;
+                    break;
+                case END_OBJECT:
+                    endObject();
+                    count--;
+                    break;
+                case END_ARRAY:
+                    endArray();
+                    count--;
+                    break;
+                case NAME:
+                case STRING:
+                    peeked = null;
+                    skipString();
+                    break;
+                case NUMBER:
+                case BOOLEAN:
+                case NULL:
+                    peeked = null;
+                    skipLiteral();
+                    break;
+                default:
+                    throw syntaxError("unexpected end of the document");
+            }
+        } while (count > 0);
+    }
+
+    /**
+     * Closes the underlying stream, if there's one
+     *
+     * @throws IOException if the stream can't be closed
+     */
+    @Override
+    public void close() throws IOException {
+        peeked = null;
+        depth = 0;
+        if (Objects.nonNull(in)) in.close();
+    }
+
+    private void expect(Token expected) throws IOException {
+        var token = peek();
+        if (token != expected) throw syntaxError("expected " + expected + " but was " + token);
+        peeked = null;
+    }
+
+    private void push(int scope) {
+        if (depth == stack.length) stack = Arrays.copyOf(stack, depth * 2);
+        stack[depth++] = scope;
+    }
+
+    /**
+     * Refills the buffer once all of its bytes have been consumed
+     *
+     * @return {@code false} if the end of the document has been reached
+     * @throws IOException if the stream fails
+     */
+    private boolean fill() throws IOException {
+        if (position < limit) return true;
+        if (Objects.isNull(in)) return false;
+        discarded += limit;
+        position = 0;
+        limit = 0;
+        var read = in.read(buffer, 0, buffer.length);
+        if (read <= 0) return false;
+        limit = read;
+        return true;
+    }
+
+    /**
+     * Peeks at the byte at the given distance from the current position, only used for distances
+     * within the current token that has already been buffered
+     */
+    private int buffer(int distance) {return buffer[position + distance] & 0xFF;}
+
+    private int readByte() throws IOException {
+        if (!fill()) throw syntaxError("unexpected end of the document");
+        return buffer[position++] & 0xFF;
+    }
+
+    /**
+     * @return the next byte without consuming it, {@code -1} at the end of the document
+     */
+    private int peekByte() throws IOException {
+        return fill() ? buffer[position] & 0xFF : -1;
+    }
+
+    /**
+     * Skips the whitespace
+     *
+     * @return the next byte without consuming it, {@code -1} at the end of the document
+     */
+    private int skipWhitespace() throws IOException {
+        while (fill()) {
+            var c = buffer[position];
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') return c & 0xFF;
+            position++;
+        }
+        return -1;
+    }
+
+    private int nextNonWhitespace() throws IOException {
+        if (skipWhitespace() == -1) throw syntaxError("unexpected end of the document");
+        return buffer[position++] & 0xFF;
+    }
+
+    private void literal(String expected) throws IOException {
+        for (int index = 0; index < expected.length(); index++)
+            if (readByte() != expected.charAt(index)) throw syntaxError("expected '" + expected + "'");
+    }
+
+    /**
+     * Reads the rest of a string whose opening quote has been consumed already. Strings that are pure ASCII,
+     * without escapes and, entirely buffered are turned into a {@link String} straight from the bytes.
+     *
+     * @return the decoded string
+     */
+    private String readString() throws IOException {
+        for (int index = position; index < limit; index++) {
+            var b = buffer[index];
+            if (b == '"') {
+                var value = new String(buffer, position, index - position, StandardCharsets.ISO_8859_1);
+                position = index + 1;
+                return value;
+            }
+            if (b == '\\' || b < 0) break;
+        }
+
+        var length = 0;
+        while (true) {
+            var b = readByte();
+            if (b == '"') return new String(chars, 0, length);
+            if (length + 2 > chars.length) chars = Arrays.copyOf(chars, chars.length * 2);
+            if (b == '\\') chars[length++] = readEscape();
+            else if (b < 0x80) chars[length++] = (char) b;
+            else {
+                int codePoint;
+                int continuation;
+                if ((b & 0xE0) == 0xC0) {
+                    codePoint = b & 0x1F;
+                    continuation = 1;
+                } else if ((b & 0xF0) == 0xE0) {
+                    codePoint = b & 0x0F;
+                    continuation = 2;
+                } else if ((b & 0xF8) == 0xF0) {
+                    codePoint = b & 0x07;
+                    continuation = 3;
+                } else throw syntaxError("malformed UTF-8");
+                while (continuation-- > 0) {
+                    var next = readByte();
+                    if ((next & 0xC0) != 0x80) throw syntaxError("malformed UTF-8");
+                    codePoint = codePoint << 6 | next & 0x3F;
+                }
+                if (Character.isBmpCodePoint(codePoint)) chars[length++] = (char) codePoint;
+                else {
+                    chars[length++] = Character.highSurrogate(codePoint);
+                    chars[length++] = Character.lowSurrogate(codePoint);
+                }
+            }
+        }
+    }
+
+    private char readEscape() throws IOException {
+        var c = readByte();
+        switch (c) {
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u': {
+                var value = 0;
+                for (int index = 0; index < 4; index++) {
+                    var digit = Character.digit(readByte(), 16);
+                    if (digit < 0) throw syntaxError("malformed unicode escape");
+                    value = value << 4 | digit;
+                }
+                return (char) value;
+            }
+            case '"':
+            case '\\':
+            case '/':
+                return (char) c;
+            default:
+                throw syntaxError("invalid escape '\\" + (char) c + "'");
+        }
+    }
+
+    private void skipString() throws IOException {
+        int b;
+        while ((b = readByte()) != '"') if (b == '\\') readByte();
+    }
+
+    /**
+     * Reads the characters of a number into {@link JsonReader#chars}
+     *
+     * @return the amount of characters
+     */
+    private int readNumber() throws IOException {
+        var length = 0;
+        int c;
+        while ((c = peekByte()) != -1 && isNumberPart(c)) {
+            if (length == chars.length) chars = Arrays.copyOf(chars, chars.length * 2);
+            chars[length++] = (char) c;
+            position++;
+        }
+        return length;
+    }
+
+    private static boolean isNumberPart(int c) {
+        return c >= '0' && c <= '9' || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E';
+    }
+
+    private void skipLiteral() throws IOException {
+        int c;
+        while ((c = peekByte()) != -1) {
+            if (c == ',' || c == '}' || c == ']' || c == ':' || c == ' ' || c == '\n' || c == '\r' || c == '\t')
+                return;
+            position++;
+        }
+    }
+
+    private MalformedJsonException syntaxError(String message) {
+        return new MalformedJsonException(message + " at byte " + (discarded + position));
+    }
+
+    /**
+     * The exception that is thrown when the document isn't valid JSON or, doesn't have the expected shape
+     */
+    public static final class MalformedJsonException extends IOException {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private MalformedJsonException(String message) {super(message);}
+    }
+}
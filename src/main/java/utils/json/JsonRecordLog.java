@@ -0,0 +1,487 @@
+package utils.json;
+
+import annotations.Author;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.BiConsumer;
+import java.util.zip.CRC32;
+
+import static utils.paths.RandomPaths.RAND_JSON_CACHE_SAVE_PATH;
+
+/**
+ * This class is an append-only log of the fetched JSON, i.e., every photo that has ever been fetched is kept
+ * instead of being overwritten by the next one. The log is a directory of segment files, a segment is named
+ * after the offset of its first record and, once it grows past the segment size the next record starts a new
+ * segment. The records are only ever appended so the writes are sequential, and every record is laid out as
+ * <pre>
+ * int length | int crc32 | short idLength | id bytes | JSON bytes
+ * </pre>
+ * where the length and the checksum cover everything after the checksum. The offset of a record is the offset
+ * of its segment plus its position in the segment, and the latest offset of every photo {@code id} is kept in
+ * a {@link MappedIdIndex} next to the segments. The index remembers how much of the log it covers, so opening
+ * the log only replays the records that have been appended after that, e.g. the ones that were lost by a
+ * crash, and a torn record at the end of a segment is cut off while doing so. The watermark only ever covers
+ * records that have been forced to the disk, i.e., it moves on {@link JsonRecordLog#sync()}, when a segment is
+ * rolled over and, on {@link JsonRecordLog#close()}, so the records that a power loss may have cut short are
+ * always verified again.<br/>
+ * Appends are serialized, reads may run concurrently with them and with each other.<br/>
+ * <b>Example</b>:
+ * <pre>{@code
+ * try (var log = JsonRecordLog.open()) {
+ *     var fixed = new RandomFixed();
+ *     fixed.setRecordLog(log);
+ *     fixed.init();
+ *     fixed.toJSON(); // appended, the previous photos are kept
+ *     System.out.println(log.get(fixed.getImageID()));
+ * }
+ * }</pre>
+ *
+ * @author ConfusedRobo
+ * @see utils.RandomFixed#setRecordLog(JsonRecordLog)
+ * @see utils.RandomTagged#setRecordLog(JsonRecordLog)
+ * @see MappedIdIndex
+ */
+@Author(
+        author = "ConfusedRobo",
+        creation = "Monday, 19 October, 2026, 01:47:52 AM",
+        profile = "https://github.com/heretickeymaker"
+)
+public final class JsonRecordLog implements Closeable {
+    /**
+     * The default directory of the log
+     */
+    public static final String DEFAULT_PATH = RAND_JSON_CACHE_SAVE_PATH + "/log";
+    /**
+     * The default size after which a new segment is started
+     */
+    public static final long DEFAULT_SEGMENT_BYTES = 16L << 20;
+
+    private static final String EXTENSION = ".log";
+    private static final String INDEX_FILE = "ids.idx";
+    private static final int INDEX_CAPACITY = 1024;
+    private static final int HEADER_BYTES = 8;
+    private static final Projection ID = Projection.of("id");
+
+    private final Path directory;
+    private final long segmentBytes;
+    /**
+     * The segments by the offset of their first record
+     */
+    private final ConcurrentSkipListMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    /**
+     * The offset of the latest record of every {@code id}
+     */
+    private final MappedIdIndex index;
+    private Segment active;
+    private long records;
+    private boolean closed;
+
+    private JsonRecordLog(Path directory, long segmentBytes, MappedIdIndex index) {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.index = index;
+    }
+
+    /**
+     * Opens the log in {@link JsonRecordLog#DEFAULT_PATH} with segments of {@link JsonRecordLog#DEFAULT_SEGMENT_BYTES}
+     *
+     * @return a {@link JsonRecordLog} instance
+     * @throws IOException if the directory can't be created or, a segment can't be read
+     * @see JsonRecordLog#open(Path, long)
+     */
+    public static @NotNull JsonRecordLog open() throws IOException {
+        return open(Path.of(DEFAULT_PATH), DEFAULT_SEGMENT_BYTES);
+    }
+
+    /**
+     * Opens the log in the directory, the records that come after the watermark of the index are walked and
+     * indexed, their checksums are verified but, the JSON itself isn't parsed. A segment is cut off at its first
+     * torn or, corrupt record. If the index doesn't match the segments, e.g. because it is missing or, the
+     * segments have been deleted, it is rebuilt from the start of the log.
+     *
+     * @param directory    the directory of the log, it is created if it doesn't exist
+     * @param segmentBytes the size after which a new segment is started
+     * @return a {@link JsonRecordLog} instance
+     * @throws IOException              if the directory can't be created or, a segment can't be read
+     * @throws IllegalArgumentException if the segment size isn't positive
+     */
+    public static @NotNull JsonRecordLog open(@NotNull Path directory, long segmentBytes) throws IOException {
+        if (segmentBytes < 1) throw new IllegalArgumentException("segmentBytes must be positive: " + segmentBytes);
+        Files.createDirectories(directory);
+        var log = new JsonRecordLog(directory, segmentBytes,
+                                    MappedIdIndex.open(directory.resolve(INDEX_FILE), INDEX_CAPACITY));
+        var bases = new ArrayList<Long>();
+        try (var files = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+            for (var file : files) {
+                var name = file.getFileName().toString();
+                try {
+                    bases.add(Long.parseLong(name.substring(0, name.length() - EXTENSION.length())));
+                } catch (NumberFormatException ignored) {}
+            }
+        }
+        Collections.sort(bases);
+        try {
+            for (var base : bases) log.segments.put(base, Segment.open(log.segmentPath(base), base));
+            if (log.segments.isEmpty()) log.segments.put(0L, Segment.open(log.segmentPath(0), 0));
+            log.active = log.segments.lastEntry().getValue();
+
+            var watermark = log.index.watermark();
+            if (watermark > log.active.base + log.active.size) {
+                log.index.clear();
+                watermark = 0;
+            }
+            log.records = log.index.records();
+            for (var segment : log.segments.values()) {
+                if (segment.base + segment.size <= watermark) continue;
+                log.recover(segment, Math.max(0, watermark - segment.base));
+                segment.channel.force(false);
+            }
+            log.checkpoint();
+        } catch (IOException | RuntimeException exception) {
+            log.closeSegments();
+            throw exception;
+        }
+        return log;
+    }
+
+    private Path segmentPath(long base) {return directory.resolve(String.format("%020d", base) + EXTENSION);}
+
+    /**
+     * Walks the records of the segment from the position onwards and indexes them, everything from the first
+     * invalid record onwards is truncated
+     */
+    private void recover(Segment segment, long position) throws IOException {
+        var size = segment.size;
+        var header = ByteBuffer.allocate(HEADER_BYTES + 2);
+        while (position + HEADER_BYTES + 2 <= size) {
+            header.clear();
+            readFully(segment.channel, header, position);
+            header.flip();
+            var length = header.getInt();
+            var checksum = header.getInt();
+            var idLength = header.getShort() & 0xFFFF;
+            if (length < 2 + idLength || idLength > MappedIdIndex.MAX_ID_BYTES
+                || position + HEADER_BYTES + length > size) break;
+            var body = ByteBuffer.allocate(length);
+            readFully(segment.channel, body, position + HEADER_BYTES);
+            body.flip();
+            if (checksum(body) != checksum) break;
+            var id = new String(body.array(), 2, idLength, StandardCharsets.UTF_8);
+            index.put(id, segment.base + position);
+            records++;
+            position += HEADER_BYTES + length;
+        }
+        if (position < size) segment.channel.truncate(position);
+        segment.size = position;
+    }
+
+    private static int checksum(ByteBuffer body) {
+        var crc = new CRC32();
+        crc.update(body.duplicate());
+        return (int) crc.getValue();
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            var read = channel.read(buffer, position + buffer.position());
+            if (read < 0) throw new EOFException("truncated record at " + position);
+        }
+    }
+
+    /**
+     * Appends the JSON of a photo, its {@code id} is read out of the JSON
+     *
+     * @param rawJSON the raw JSON of the photo
+     * @return the offset of the record
+     * @throws IOException              if the record can't be written
+     * @throws IllegalArgumentException if the JSON doesn't have an {@code id}
+     */
+    public long append(@NotNull String rawJSON) throws IOException {
+        var id = ID.bind(rawJSON).get("id");
+        if (Objects.isNull(id)) throw new IllegalArgumentException("the JSON doesn't have an id");
+        return append(id, rawJSON);
+    }
+
+    /**
+     * Appends the JSON of a photo under the {@code id}, a newer record of the same {@code id} shadows the older
+     * ones in the index but, the older ones are kept in the log
+     *
+     * @param id      the {@code id} of the photo
+     * @param rawJSON the raw JSON of the photo
+     * @return the offset of the record
+     * @throws IOException              if the record can't be written or, the log has been closed
+     * @throws IllegalArgumentException if the {@code id} is longer than {@link MappedIdIndex#MAX_ID_BYTES}
+     */
+    public synchronized long append(@NotNull String id, @NotNull String rawJSON) throws IOException {
+        if (closed) throw new IOException("the log has been closed");
+        var idBytes = id.getBytes(StandardCharsets.UTF_8);
+        if (idBytes.length > MappedIdIndex.MAX_ID_BYTES)
+            throw new IllegalArgumentException("id too long: " + idBytes.length);
+        var jsonBytes = rawJSON.getBytes(StandardCharsets.UTF_8);
+        var length = 2 + idBytes.length + jsonBytes.length;
+
+        var record = ByteBuffer.allocate(HEADER_BYTES + length);
+        record.position(HEADER_BYTES);
+        record.putShort((short) idBytes.length).put(idBytes).put(jsonBytes);
+        record.flip().position(HEADER_BYTES);
+        var checksum = checksum(record);
+        record.position(0);
+        record.putInt(length).putInt(checksum).position(0);
+
+        if (active.size > 0 && active.size + record.remaining() > segmentBytes) roll();
+        var offset = active.base + active.size;
+        while (record.hasRemaining()) active.channel.write(record, active.size + record.position());
+        active.size += HEADER_BYTES + length;
+        index.put(id, offset);
+        // the watermark waits for the record to be forced, see sync()
+        records++;
+        return offset;
+    }
+
+    /**
+     * Starts a new segment at the end of the active one, the active one is forced to the disk first
+     */
+    private void roll() throws IOException {
+        checkpoint();
+        var base = active.base + active.size;
+        var segment = Segment.open(segmentPath(base), base);
+        segments.put(base, segment);
+        active = segment;
+    }
+
+    /**
+     * Reads the JSON of the latest record of the {@code id}. The {@code id} that is stored in the record is
+     * compared with the one that has been asked for, so a stale index entry, e.g. one that points at a torn
+     * record whose space has been reused by a later append, never hands out the JSON of another photo.
+     *
+     * @param id the {@code id} of the photo
+     * @return the raw JSON, {@code null} if the photo has never been appended or, its record has been lost
+     * @throws IOException if the record can't be read or, its checksum doesn't match
+     */
+    public @Nullable String get(@NotNull String id) throws IOException {
+        var offset = offsetOf(id);
+        if (offset < 0) return null;
+        var entry = segments.floorEntry(offset);
+        // past the end of a segment that has been cut off after a crash
+        if (Objects.isNull(entry) || offset - entry.getKey() >= entry.getValue().size) return null;
+        var body = readBody(entry.getValue(), offset - entry.getKey());
+        var idLength = body.getShort(0) & 0xFFFF;
+        var idBytes = id.getBytes(StandardCharsets.UTF_8);
+        if (!Arrays.equals(body.array(), 2, 2 + idLength, idBytes, 0, idBytes.length)) return null;
+        return new String(body.array(), 2 + idLength, body.capacity() - 2 - idLength, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Looks the offset of the latest record of the {@code id} up
+     *
+     * @param id the {@code id} of the photo
+     * @return the offset, {@code -1} if the photo has never been appended
+     */
+    public long offsetOf(@NotNull String id) {
+        try {
+            return index.get(id);
+        } catch (IllegalArgumentException exception) {
+            // longer than any id that could have been appended
+            return -1;
+        }
+    }
+
+    /**
+     * Reads the JSON of the record at the offset
+     *
+     * @param offset the offset that has been returned by {@link JsonRecordLog#append(String, String)}
+     * @return the raw JSON
+     * @throws IOException if there's no record at the offset or, its checksum doesn't match
+     */
+    public @NotNull String read(long offset) throws IOException {
+        var body = readBody(offset);
+        var idLength = body.getShort(0) & 0xFFFF;
+        return new String(body.array(), 2 + idLength, body.capacity() - 2 - idLength, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads the body of the record at the offset of the log
+     */
+    private ByteBuffer readBody(long offset) throws IOException {
+        var entry = segments.floorEntry(offset);
+        if (Objects.isNull(entry)) throw new IOException("no record at " + offset);
+        return readBody(entry.getValue(), offset - entry.getKey());
+    }
+
+    /**
+     * Reads the part of the record that is covered by the checksum and verifies it
+     *
+     * @return the body of the record, its capacity is the length of the record
+     */
+    private static ByteBuffer readBody(Segment segment, long position) throws IOException {
+        var offset = segment.base + position;
+        var header = ByteBuffer.allocate(HEADER_BYTES);
+        readFully(segment.channel, header, position);
+        header.flip();
+        var length = header.getInt();
+        var checksum = header.getInt();
+        if (length < 2 || length > segment.size - position - HEADER_BYTES)
+            throw new StreamCorruptedException("invalid record length " + length + " at " + offset);
+        var body = ByteBuffer.allocate(length);
+        readFully(segment.channel, body, position + HEADER_BYTES);
+        body.flip();
+        if (checksum(body) != checksum) throw new StreamCorruptedException("checksum mismatch at " + offset);
+        if ((body.getShort(0) & 0xFFFF) > length - 2) throw new StreamCorruptedException("invalid id length at " + offset);
+        return body;
+    }
+
+    /**
+     * Walks every record of the log in the order of the appends, the older records of an {@code id} included.
+     * The records that are appended during the walk may or, may not be visited.
+     *
+     * @param action receives the {@code id} and the raw JSON of every record
+     * @throws IOException if a record can't be read or, its checksum doesn't match
+     */
+    public void forEach(@NotNull BiConsumer<String, String> action) throws IOException {
+        for (var segment : segments.values()) {
+            var end = segment.size;
+            long position = 0;
+            while (position < end) {
+                var body = readBody(segment, position);
+                var idLength = body.getShort(0) & 0xFFFF;
+                action.accept(new String(body.array(), 2, idLength, StandardCharsets.UTF_8),
+                              new String(body.array(), 2 + idLength, body.capacity() - 2 - idLength,
+                                         StandardCharsets.UTF_8));
+                position += HEADER_BYTES + body.capacity();
+            }
+        }
+    }
+
+    /**
+     * @param id the {@code id} of the photo
+     * @return {@code true} if the photo has ever been appended
+     */
+    public boolean contains(@NotNull String id) {return offsetOf(id) >= 0;}
+
+    /**
+     * Collects the {@code id}s out of the index, unlike the other methods this one allocates a set of them
+     *
+     * @return the {@code id}s of every photo that has ever been appended
+     */
+    public @NotNull Set<String> ids() {
+        var ids = new HashSet<String>(index.size() * 2);
+        index.forEach((id, offset) -> ids.add(id));
+        return ids;
+    }
+
+    /**
+     * @return the amount of records in the log, the older records of an {@code id} included
+     */
+    public synchronized long records() {return records;}
+
+    /**
+     * @return the amount of segment files
+     */
+    public int segmentCount() {return segments.size();}
+
+    /**
+     * @return the directory of the log
+     */
+    public @NotNull Path directory() {return directory;}
+
+    /**
+     * Forces the appended records to the disk, then moves the watermark of the index over them and forces the
+     * index as well
+     *
+     * @throws IOException if the segment can't be forced
+     */
+    public synchronized void sync() throws IOException {
+        if (closed) return;
+        checkpoint();
+    }
+
+    /**
+     * Moves the watermark over the appended records. The records and the index entries that point at them must
+     * be on the disk before the watermark is, otherwise a crash could leave a watermark behind that claims
+     * entries the index has never persisted, which the recovery would then skip. So the segment and the slots
+     * of the index are forced first, then the watermark is written and forced on its own.
+     *
+     * @throws IOException if the segment can't be forced
+     */
+    private void checkpoint() throws IOException {
+        active.channel.force(false);
+        index.sync();
+        index.setWatermark(active.base + active.size, records);
+        index.sync();
+    }
+
+    /**
+     * Forces the appended records to the disk and closes the segments and the index
+     *
+     * @throws IOException if the active segment can't be forced
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        try {
+            checkpoint();
+        } finally {
+            closeSegments();
+        }
+    }
+
+    private void closeSegments() {
+        for (var segment : segments.values()) {
+            try {
+                segment.channel.close();
+            } catch (IOException ignored) {}
+        }
+        try {
+            index.close();
+        } catch (IOException ignored) {}
+    }
+
+    @Override
+    public String toString() {
+        return "JsonRecordLog {DIRECTORY=" + directory + ", SEGMENTS=" + segments.size() + ", IDS=" + index.size() + "}";
+    }
+
+    /**
+     * A segment file along with the offset of its first record
+     */
+    private static final class Segment {
+        private final long base;
+        private final FileChannel channel;
+        /**
+         * The size of the valid records, only the active segment ever grows
+         */
+        private volatile long size;
+
+        private Segment(long base, FileChannel channel) {
+            this.base = base;
+            this.channel = channel;
+        }
+
+        private static Segment open(Path path, long base) throws IOException {
+            var channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                           StandardOpenOption.WRITE);
+            var segment = new Segment(base, channel);
+            segment.size = channel.size();
+            return segment;
+        }
+    }
+}
@@ -0,0 +1,337 @@
+package utils.json;
+
+import annotations.Author;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * This class is a persistent hash index from photo {@code id}s to the offsets of their records, e.g. the
+ * offsets of the {@link JsonRecordLog}. The whole table lives in a memory mapped file of fixed size slots
+ * that are probed linearly, so nothing but the mapping itself is resident and, opening the index doesn't
+ * read anything up front. Every slot is laid out as
+ * <pre>
+ * long offset + 1 | int hash | byte idLength | id bytes, padded to {@link MappedIdIndex#MAX_ID_BYTES}
+ * </pre>
+ * where a zero offset marks an empty slot. The header of the file keeps the amount of entries along with a
+ * watermark, i.e., the end of the part of the log that has already been indexed, so that the owner of the
+ * index only needs to replay the records that come after it. The table is doubled into a new file, which
+ * replaces the old one atomically, once it is more than {@code 70%} full.<br/>
+ * The index is thread safe. The mapped pages are written back by the operating system, call
+ * {@link MappedIdIndex#sync()} in order to force them.
+ *
+ * @author ConfusedRobo
+ * @see JsonRecordLog
+ * @see FileChannel#map(FileChannel.MapMode, long, long)
+ */
+@Author(
+        author = "ConfusedRobo",
+        creation = "Monday, 19 October, 2026, 02:31:09 AM",
+        profile = "https://github.com/heretickeymaker"
+)
+public final class MappedIdIndex implements Closeable {
+    /**
+     * The longest {@code id} in UTF-8 bytes that fits in a slot, the Unsplash ids are 11 characters long
+     */
+    public static final int MAX_ID_BYTES = 51;
+
+    private static final int MAGIC = 0x49445831;
+    private static final int HEADER_BYTES = 64;
+    private static final int SLOT_BYTES = 64;
+    private static final int MIN_CAPACITY = 64;
+    private static final int MAX_CAPACITY = 1 << 24;
+
+    private static final int MAGIC_AT = 0;
+    private static final int CAPACITY_AT = 4;
+    private static final int SIZE_AT = 8;
+    private static final int WATERMARK_AT = 16;
+    private static final int RECORDS_AT = 24;
+
+    private static final int OFFSET_AT = 0;
+    private static final int HASH_AT = 8;
+    private static final int LENGTH_AT = 12;
+    private static final int ID_AT = 13;
+
+    private final Path file;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int capacity;
+    private int size;
+    private boolean closed;
+
+    private MappedIdIndex(Path file) {this.file = file;}
+
+    /**
+     * Opens the index, a missing or, unreadable file is replaced by an empty index whose watermark is {@code 0}
+     *
+     * @param file            the file of the index
+     * @param initialCapacity the amount of slots of a new index, it is rounded up to a power of two
+     * @return a {@link MappedIdIndex} instance
+     * @throws IOException if the file can't be created or, mapped
+     */
+    public static @NotNull MappedIdIndex open(@NotNull Path file, int initialCapacity) throws IOException {
+        var index = new MappedIdIndex(file);
+        if (Files.isRegularFile(file) && index.map()) return index;
+        create(file, capacityFor(initialCapacity));
+        index.map();
+        return index;
+    }
+
+    private static int capacityFor(int slots) {
+        var capacity = MIN_CAPACITY;
+        while (capacity < slots && capacity < MAX_CAPACITY) capacity <<= 1;
+        return capacity;
+    }
+
+    /**
+     * Writes an empty index with the capacity into the file, replacing whatever is there
+     */
+    private static void create(Path file, int capacity) throws IOException {
+        try (var channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            var mapping = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + (long) capacity * SLOT_BYTES);
+            mapping.putInt(MAGIC_AT, MAGIC).putInt(CAPACITY_AT, capacity);
+            mapping.force();
+        }
+    }
+
+    /**
+     * Maps the file and validates its header
+     *
+     * @return {@code false} if the file isn't an index
+     */
+    private boolean map() throws IOException {
+        var opened = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            var length = opened.size();
+            if (length < HEADER_BYTES) {
+                opened.close();
+                return false;
+            }
+            var mapping = opened.map(FileChannel.MapMode.READ_WRITE, 0, length);
+            var slots = mapping.getInt(CAPACITY_AT);
+            if (mapping.getInt(MAGIC_AT) != MAGIC || Integer.bitCount(slots) != 1 || slots < MIN_CAPACITY
+                || length != HEADER_BYTES + (long) slots * SLOT_BYTES) {
+                opened.close();
+                return false;
+            }
+            if (Objects.nonNull(channel)) channel.close();
+            this.channel = opened;
+            this.buffer = mapping;
+            this.capacity = slots;
+            this.size = mapping.getInt(SIZE_AT);
+            return true;
+        } catch (IOException | RuntimeException exception) {
+            opened.close();
+            throw exception;
+        }
+    }
+
+    private static int hash(byte[] id) {
+        var hash = Arrays.hashCode(id) * 0x9E3779B9;
+        return hash ^ hash >>> 16;
+    }
+
+    private static byte[] encode(String id) {
+        var bytes = id.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_ID_BYTES) throw new IllegalArgumentException("id too long: " + bytes.length);
+        return bytes;
+    }
+
+    /**
+     * Probes the slots of the {@code id}
+     *
+     * @return the position of the slot that holds the {@code id} or, of the empty slot it would go to
+     */
+    private int find(byte[] id, int hash) {
+        var mask = capacity - 1;
+        for (int slot = hash & mask; ; slot = slot + 1 & mask) {
+            var position = HEADER_BYTES + slot * SLOT_BYTES;
+            if (buffer.getLong(position + OFFSET_AT) == 0) return position;
+            if (buffer.getInt(position + HASH_AT) == hash && matches(position, id)) return position;
+        }
+    }
+
+    private boolean matches(int position, byte[] id) {
+        if (buffer.get(position + LENGTH_AT) != id.length) return false;
+        for (int index = 0; index < id.length; index++)
+            if (buffer.get(position + ID_AT + index) != id[index]) return false;
+        return true;
+    }
+
+    /**
+     * Looks the {@code id} up
+     *
+     * @param id the {@code id} of the photo
+     * @return the offset, {@code -1} if the {@code id} isn't indexed
+     * @throws IllegalArgumentException if the {@code id} is longer than {@link MappedIdIndex#MAX_ID_BYTES}
+     */
+    public synchronized long get(@NotNull String id) {
+        ensureOpen();
+        var bytes = encode(id);
+        return buffer.getLong(find(bytes, hash(bytes)) + OFFSET_AT) - 1;
+    }
+
+    /**
+     * Points the {@code id} at the offset, replacing the previous offset if there's one
+     *
+     * @param id     the {@code id} of the photo
+     * @param offset the offset, it must not be negative
+     * @throws IOException              if the table needs to grow and the new file can't be written
+     * @throws IllegalArgumentException if the {@code id} is longer than {@link MappedIdIndex#MAX_ID_BYTES} or,
+     *                                  the offset is negative
+     */
+    public synchronized void put(@NotNull String id, long offset) throws IOException {
+        ensureOpen();
+        if (offset < 0) throw new IllegalArgumentException("negative offset: " + offset);
+        var bytes = encode(id);
+        var hash = hash(bytes);
+        var position = find(bytes, hash);
+        if (buffer.getLong(position + OFFSET_AT) == 0) {
+            if ((size + 1) * 10L > capacity * 7L) {
+                grow();
+                position = find(bytes, hash);
+            }
+            buffer.putInt(position + HASH_AT, hash).put(position + LENGTH_AT, (byte) bytes.length);
+            for (int index = 0; index < bytes.length; index++) buffer.put(position + ID_AT + index, bytes[index]);
+            buffer.putInt(SIZE_AT, ++size);
+        }
+        buffer.putLong(position + OFFSET_AT, offset + 1);
+    }
+
+    /**
+     * Rehashes the entries into a table of twice the capacity, the new table is written next to the file
+     * and moved over it once it is complete
+     */
+    private void grow() throws IOException {
+        if (capacity >= MAX_CAPACITY) throw new IOException("the index is full: " + size);
+        var next = capacity << 1;
+        var temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        create(temporary, next);
+        try (var target = FileChannel.open(temporary, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            var mapping = target.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + (long) next * SLOT_BYTES);
+            var mask = next - 1;
+            var entry = new byte[SLOT_BYTES];
+            for (int slot = 0; slot < capacity; slot++) {
+                var from = HEADER_BYTES + slot * SLOT_BYTES;
+                if (buffer.getLong(from + OFFSET_AT) == 0) continue;
+                var to = buffer.getInt(from + HASH_AT) & mask;
+                while (mapping.getLong(HEADER_BYTES + to * SLOT_BYTES + OFFSET_AT) != 0) to = to + 1 & mask;
+                buffer.get(from, entry);
+                mapping.put(HEADER_BYTES + to * SLOT_BYTES, entry);
+            }
+            mapping.putInt(SIZE_AT, size)
+                   .putLong(WATERMARK_AT, buffer.getLong(WATERMARK_AT))
+                   .putLong(RECORDS_AT, buffer.getLong(RECORDS_AT));
+            mapping.force();
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        if (!map()) throw new IOException("the grown index is invalid: " + file);
+    }
+
+    /**
+     * Visits every indexed {@code id} in the order of the slots
+     *
+     * @param action receives the {@code id} and its offset
+     */
+    public synchronized void forEach(@NotNull ObjLongConsumer<String> action) {
+        ensureOpen();
+        var bytes = new byte[MAX_ID_BYTES];
+        for (int slot = 0; slot < capacity; slot++) {
+            var position = HEADER_BYTES + slot * SLOT_BYTES;
+            var offset = buffer.getLong(position + OFFSET_AT);
+            if (offset == 0) continue;
+            var length = buffer.get(position + LENGTH_AT);
+            buffer.get(position + ID_AT, bytes, 0, length);
+            action.accept(new String(bytes, 0, length, StandardCharsets.UTF_8), offset - 1);
+        }
+    }
+
+    /**
+     * @return the amount of indexed {@code id}s
+     */
+    public synchronized int size() {return size;}
+
+    /**
+     * @return the amount of slots
+     */
+    public synchronized int capacity() {return capacity;}
+
+    /**
+     * @return the end of the part of the log that has already been indexed
+     */
+    public synchronized long watermark() {
+        ensureOpen();
+        return buffer.getLong(WATERMARK_AT);
+    }
+
+    /**
+     * @return the amount of records below the {@link MappedIdIndex#watermark()}
+     */
+    public synchronized long records() {
+        ensureOpen();
+        return buffer.getLong(RECORDS_AT);
+    }
+
+    /**
+     * Moves the watermark forward once the records below it have been indexed
+     *
+     * @param watermark the end of the part of the log that has been indexed
+     * @param records   the amount of records below the watermark
+     */
+    public synchronized void setWatermark(long watermark, long records) {
+        ensureOpen();
+        buffer.putLong(WATERMARK_AT, watermark).putLong(RECORDS_AT, records);
+    }
+
+    /**
+     * Drops every entry and resets the watermark, the capacity is kept
+     */
+    public synchronized void clear() {
+        ensureOpen();
+        for (int slot = 0; slot < capacity; slot++) buffer.putLong(HEADER_BYTES + slot * SLOT_BYTES + OFFSET_AT, 0);
+        buffer.putInt(SIZE_AT, size = 0);
+        setWatermark(0, 0);
+    }
+
+    /**
+     * Forces the mapped pages to the disk
+     */
+    public synchronized void sync() {
+        if (!closed) buffer.force();
+    }
+
+    private void ensureOpen() {
+        if (closed) throw new IllegalStateException("the index has been closed");
+    }
+
+    /**
+     * Forces the mapped pages to the disk and closes the file, the mapping itself is released by the garbage
+     * collector
+     *
+     * @throws IOException if the file can't be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) return;
+        buffer.force();
+        closed = true;
+        channel.close();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "MappedIdIndex {FILE=" + file + ", SIZE=" + size + ", CAPACITY=" + capacity + "}";
+    }
+}
@@ -0,0 +1,351 @@
+package utils.json;
+
+import annotations.Author;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodySubscribers;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * This class declares the fields of a photo that are actually needed, e.g. {@code id}, {@code links.download}
+ * and {@code urls.regular}, and reads only those out of the JSON. Everything else, i.e., the {@code user},
+ * {@code exif}, {@code location} and {@code tags} objects and all the fields that haven't been declared, is
+ * skipped by the {@link JsonReader} without any of its strings or, numbers being decoded. The declared fields
+ * are handed out as a {@link Record} of strings, numbers and booleans keep the text they have in the document.
+ * <br/>
+ * <b>Example</b>:
+ * <pre>{@code
+ * var record = new RandomFixed().fetchProjected(Projection.PREVIEW);
+ * System.out.println(record.get("urls.regular") + " " + record.getInt("width"));
+ * }</pre>
+ * A projection is immutable and may be shared by any amount of threads.
+ *
+ * @author ConfusedRobo
+ * @see JsonReader#skipValue()
+ * @see Record
+ * @see ImageBinder
+ */
+@Author(
+        author = "ConfusedRobo",
+        creation = "Monday, 19 October, 2026, 12:21:40 AM",
+        profile = "https://github.com/heretickeymaker"
+)
+public final class Projection {
+    /**
+     * The fields that are needed to show a preview of a photo and download it
+     */
+    public static final Projection PREVIEW = of("id", "links.download", "urls.regular", "width", "height", "color");
+
+    private final String[] paths;
+    private final Node root;
+
+    private Projection(String[] paths) {
+        this.paths = paths;
+        this.root = new Node();
+        for (int slot = 0; slot < paths.length; slot++) {
+            var node = root;
+            for (var name : paths[slot].split("\\.", -1)) {
+                if (name.isEmpty()) throw new IllegalArgumentException("invalid path: " + paths[slot]);
+                if (node.slot >= 0) throw new IllegalArgumentException("overlapping paths: " + paths[slot]);
+                node = node.children.computeIfAbsent(name, key -> new Node());
+            }
+            if (node.slot >= 0 || !node.children.isEmpty())
+                throw new IllegalArgumentException("overlapping paths: " + paths[slot]);
+            node.slot = slot;
+        }
+    }
+
+    /**
+     * Declares the fields, the fields of the nested objects are separated by dots, e.g. {@code urls.regular}
+     *
+     * @param paths the paths of the fields, they must point to strings, numbers, booleans or, {@code null}s
+     * @return a {@link Projection} instance
+     * @throws IllegalArgumentException if a path is empty, appears twice or, is the parent of another path
+     */
+    public static @NotNull Projection of(@NotNull String... paths) {
+        if (paths.length == 0) throw new IllegalArgumentException("no paths");
+        return new Projection(paths.clone());
+    }
+
+    /**
+     * @return the declared paths in the order of the declaration
+     */
+    public @NotNull List<String> paths() {return Collections.unmodifiableList(Arrays.asList(paths));}
+
+    /**
+     * @return the amount of declared paths
+     */
+    public int size() {return paths.length;}
+
+    /**
+     * @param path the path
+     * @return the index of the path in the declaration, {@code -1} if it hasn't been declared
+     */
+    public int indexOf(@NotNull String path) {
+        for (int index = 0; index < paths.length; index++) if (paths[index].equals(path)) return index;
+        return -1;
+    }
+
+    /**
+     * Reads the declared fields of a single photo from an already fetched JSON string
+     *
+     * @param source the JSON of the photo
+     * @return the {@link Record} of the declared fields
+     * @throws IOException if the JSON isn't an object
+     */
+    public @NotNull Record bind(@NotNull String source) throws IOException {return read(new JsonReader(source));}
+
+    /**
+     * Reads the declared fields of a single photo from the remaining bytes of the buffer
+     *
+     * @param source the UTF-8 encoded JSON of the photo
+     * @return the {@link Record} of the declared fields
+     * @throws IOException if the JSON isn't an object
+     */
+    public @NotNull Record bind(@NotNull ByteBuffer source) throws IOException {return read(new JsonReader(source));}
+
+    /**
+     * Reads the declared fields of a single photo, the stream is closed afterwards
+     *
+     * @param in the UTF-8 encoded JSON of the photo
+     * @return the {@link Record} of the declared fields
+     * @throws IOException if the stream fails or, the JSON isn't an object
+     */
+    public @NotNull Record bind(@NotNull InputStream in) throws IOException {
+        try (var reader = new JsonReader(in)) {return read(reader);}
+    }
+
+    /**
+     * Reads the declared fields of every photo of the JSON array that is returned by the batch requests
+     *
+     * @param source the UTF-8 encoded JSON array
+     * @return the records in the order of the array
+     * @throws IOException if the JSON isn't an array of objects
+     */
+    public @NotNull List<Record> bindAll(@NotNull ByteBuffer source) throws IOException {
+        return readAll(new JsonReader(source));
+    }
+
+    /**
+     * Reads the declared fields of every photo of a JSON array, the stream is closed afterwards
+     *
+     * @param in the UTF-8 encoded JSON array
+     * @return the records in the order of the array
+     * @throws IOException if the stream fails or, the JSON isn't an array of objects
+     */
+    public @NotNull List<Record> bindAll(@NotNull InputStream in) throws IOException {
+        try (var reader = new JsonReader(in)) {return readAll(reader);}
+    }
+
+    /**
+     * A {@link BodyHandler} that reads the declared fields of a successful response, the body of any other
+     * response is discarded and, the body becomes {@code null}
+     *
+     * @return a {@link BodyHandler} instance
+     */
+    public @NotNull BodyHandler<Record> ofRecord() {
+        return info -> info.statusCode() / 100 != 2
+                ? BodySubscribers.replacing(null)
+                : BodySubscribers.mapping(BodySubscribers.ofByteArray(), bytes -> {
+                    try {
+                        return bind(ByteBuffer.wrap(bytes));
+                    } catch (IOException exception) {throw new UncheckedIOException(exception);}
+                });
+    }
+
+    /**
+     * The batch counterpart of {@link Projection#ofRecord()}
+     *
+     * @return a {@link BodyHandler} instance
+     */
+    public @NotNull BodyHandler<List<Record>> ofRecords() {
+        return info -> info.statusCode() / 100 != 2
+                ? BodySubscribers.replacing(null)
+                : BodySubscribers.mapping(BodySubscribers.ofByteArray(), bytes -> {
+                    try {
+                        return bindAll(ByteBuffer.wrap(bytes));
+                    } catch (IOException exception) {throw new UncheckedIOException(exception);}
+                });
+    }
+
+    /**
+     * Reads the declared fields of every object of an array, the reader must be positioned right before
+     * the opening bracket
+     *
+     * @param reader the reader
+     * @return the records in the order of the array
+     * @throws IOException if the JSON isn't an array of objects
+     */
+    public @NotNull List<Record> readAll(@NotNull JsonReader reader) throws IOException {
+        var records = new ArrayList<Record>();
+        reader.beginArray();
+        while (reader.hasNext()) records.add(read(reader));
+        reader.endArray();
+        return records;
+    }
+
+    /**
+     * Reads the declared fields of one object, the reader must be positioned right before its opening brace
+     * and is left right after its closing brace
+     *
+     * @param reader the reader
+     * @return the {@link Record} of the declared fields
+     * @throws IOException if the JSON isn't an object
+     */
+    public @NotNull Record read(@NotNull JsonReader reader) throws IOException {
+        var values = new String[paths.length];
+        read(reader, root, values, new int[]{paths.length});
+        return new Record(this, values);
+    }
+
+    /**
+     * Walks one object, the values of the declared fields are stored in their slots and everything else
+     * is skipped. Once all the fields have been found the rest of the document is skipped without even
+     * looking the names up.
+     *
+     * @param missing the amount of fields that haven't been found yet, shared by the whole walk
+     */
+    private static void read(JsonReader reader, Node node, String[] values, int[] missing) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            var name = reader.nextName();
+            var child = missing[0] == 0 ? null : node.children.get(name);
+            if (Objects.isNull(child)) {
+                reader.skipValue();
+                continue;
+            }
+            var token = reader.peek();
+            if (child.slot < 0) {
+                if (token == JsonReader.Token.BEGIN_OBJECT) read(reader, child, values, missing);
+                else reader.skipValue();
+                continue;
+            }
+            switch (token) {
+                case STRING:
+                case NUMBER:
+                    values[child.slot] = reader.nextString();
+                    break;
+                case BOOLEAN:
+                    values[child.slot] = String.valueOf(reader.nextBoolean());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+            missing[0]--;
+        }
+        reader.endObject();
+    }
+
+    @Override
+    public String toString() {return "Projection " + Arrays.toString(paths);}
+
+    /**
+     * A level of the declared paths
+     */
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>(8);
+        /**
+         * The index of the path that ends at this node, {@code -1} for the intermediate nodes
+         */
+        private int slot = -1;
+    }
+
+    /**
+     * The declared fields of one photo, the fields that are missing or, {@code null} in the document are
+     * {@code null} here as well
+     */
+    public static final class Record {
+        private final Projection projection;
+        private final String[] values;
+
+        private Record(Projection projection, String[] values) {
+            this.projection = projection;
+            this.values = values;
+        }
+
+        /**
+         * @return the projection the record has been read with
+         */
+        public @NotNull Projection projection() {return projection;}
+
+        /**
+         * @param index the index of the path in the declaration
+         * @return the value as it appears in the document, {@code null} if it is missing
+         */
+        public @Nullable String get(int index) {return values[index];}
+
+        /**
+         * @param path a declared path
+         * @return the value as it appears in the document, {@code null} if it is missing
+         * @throws IllegalArgumentException if the path hasn't been declared
+         */
+        public @Nullable String get(@NotNull String path) {return values[slotOf(path)];}
+
+        /**
+         * @param path a declared path
+         * @return the value as a {@code long}, {@code 0} if it is missing
+         * @throws NumberFormatException    if the value isn't an integer
+         * @throws IllegalArgumentException if the path hasn't been declared
+         */
+        public long getLong(@NotNull String path) {
+            var value = get(path);
+            return Objects.isNull(value) ? 0 : Long.parseLong(value);
+        }
+
+        /**
+         * @param path a declared path
+         * @return the value as an {@code int}, {@code 0} if it is missing
+         * @throws NumberFormatException    if the value isn't an integer
+         * @throws IllegalArgumentException if the path hasn't been declared
+         */
+        public int getInt(@NotNull String path) {
+            var value = get(path);
+            return Objects.isNull(value) ? 0 : Integer.parseInt(value);
+        }
+
+        /**
+         * @param path a declared path
+         * @return {@code true} if the value is the {@code true} literal
+         * @throws IllegalArgumentException if the path hasn't been declared
+         */
+        public boolean getBoolean(@NotNull String path) {return Boolean.parseBoolean(get(path));}
+
+        /**
+         * @param path a declared path
+         * @return {@code true} if the field is in the document and isn't {@code null}
+         * @throws IllegalArgumentException if the path hasn't been declared
+         */
+        public boolean has(@NotNull String path) {return Objects.nonNull(get(path));}
+
+        private int slotOf(String path) {
+            var index = projection.indexOf(path);
+            if (index < 0) throw new IllegalArgumentException("undeclared path: " + path);
+            return index;
+        }
+
+        /**
+         * @return the declared paths and their values in the order of the declaration
+         */
+        public @NotNull Map<String, String> toMap() {
+            var map = new LinkedHashMap<String, String>(values.length * 2);
+            for (int index = 0; index < values.length; index++) map.put(projection.paths[index], values[index]);
+            return map;
+        }
+
+        @Override
+        public String toString() {return "Record " + toMap();}
+    }
+}
@@ -0,0 +1,386 @@
+package utils.server;
+
+import annotations.Author;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import interfaces.UnsplashRandom;
+import org.jetbrains.annotations.NotNull;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import utils.http.HttpEngine;
+import utils.http.RateLimiter;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static utils.paths.RandomPaths.RAND_CATEGORISED_SAVE_PATH;
+import static utils.paths.RandomPaths.RAND_JSON_CACHE_SAVE_PATH;
+
+/**
+ * An embeddable stand-in for the unsplash.com API that is built on the JDK's {@code com.sun.net.httpserver}.
+ * It serves {@code /photos/random} responses which are shaped like the cached samples in
+ * {@link utils.paths.RandomPaths#RAND_JSON_CACHE_SAVE_PATH} (a fresh {@code id} is generated for every photo
+ * and the {@code links.download} field points back to this server) and it serves the image bytes under
+ * {@code /images/{id}}, single {@code Range} requests (along with {@code If-Range}) included. The latency,
+ * the rate limit, the rate of {@code 429} and {@code 5xx} responses and the rate of dropped image bodies can
+ * be changed at any time, so the clients can be load and regression tested without burning any quota.<br/>
+ * <b>Example</b>:
+ * <pre>{@code
+ * try (var server = MockUnsplashServer.start()) {
+ *     server.setLatency(Duration.ofMillis(50));
+ *     var fixed = new RandomFixed(server.engine());
+ *     fixed.init(10);
+ *     fixed.toJPG();
+ * }
+ * }</pre>
+ *
+ * @author ConfusedRobo
+ * @see HttpServer
+ * @see HttpEngine
+ */
+@Author(
+        author = "ConfusedRobo",
+        creation = "Sunday, 18 October, 2026, 06:15:28 PM",
+        profile = "https://github.com/heretickeymaker"
+)
+public final class MockUnsplashServer implements AutoCloseable {
+    /**
+     * The API key the clients can use against this server, any key is accepted though
+     */
+    public static final String API_KEY = "mock-api-key";
+
+    private static final String ID_ALPHABET = "0123456789abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ-_";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final String fixedTemplate;
+    private final String taggedTemplate;
+    private final byte[] imageBytes;
+    /**
+     * The strong {@code ETag} of the image bytes
+     */
+    private final String imageTag;
+
+    private volatile Duration latency = Duration.ZERO;
+    private volatile double tooManyRequestsRate;
+    private volatile double serverErrorRate;
+    private volatile double dropRate;
+    private volatile long rateLimit = 50;
+    private final AtomicLong remaining = new AtomicLong(rateLimit);
+
+    private final AtomicLong apiRequests = new AtomicLong();
+    private final AtomicLong imageRequests = new AtomicLong();
+    private final AtomicLong imageBytesSent = new AtomicLong();
+
+    private MockUnsplashServer(int port, byte[] imageBytes) throws IOException {
+        this.fixedTemplate = readTemplate(RAND_JSON_CACHE_SAVE_PATH + "/sample-fixed.json");
+        this.taggedTemplate = readTemplate(RAND_JSON_CACHE_SAVE_PATH + "/sample-tag.json");
+        this.imageBytes = imageBytes;
+        this.imageTag = "\"" + Integer.toHexString(Arrays.hashCode(imageBytes)) + "\"";
+
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            var thread = new Thread(runnable, "mock-unsplash-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/photos/random", this::handleRandom);
+        server.createContext("/images/", this::handleImage);
+        server.start();
+    }
+
+    /**
+     * Starts a server on an ephemeral port that serves the sample image of
+     * {@link utils.paths.RandomPaths#RAND_CATEGORISED_SAVE_PATH} or, a blob of random bytes if it's missing
+     *
+     * @return the running server
+     * @throws IOException if the server can't be bound
+     */
+    public static @NotNull MockUnsplashServer start() throws IOException {
+        var sample = Path.of(RAND_CATEGORISED_SAVE_PATH + "/sample-random-cat.jpg");
+        if (Files.isRegularFile(sample)) return new MockUnsplashServer(0, Files.readAllBytes(sample));
+        var bytes = new byte[256 * 1024];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        return new MockUnsplashServer(0, bytes);
+    }
+
+    /**
+     * Starts a server on the given port that serves the given bytes for every image
+     *
+     * @param port       the port, {@code 0} for an ephemeral one
+     * @param imageBytes the bytes of every image
+     * @return the running server
+     * @throws IOException if the server can't be bound
+     */
+    public static @NotNull MockUnsplashServer start(int port, byte @NotNull [] imageBytes) throws IOException {
+        return new MockUnsplashServer(port, imageBytes.clone());
+    }
+
+    /**
+     * Reads a sample JSON, a minimal photo is used if the sample is missing or, isn't a JSON object
+     *
+     * @param path the path of the sample
+     * @return the raw JSON of a photo
+     */
+    private static String readTemplate(String path) {
+        try {
+            var raw = Files.readString(Path.of(path));
+            new JSONObject(raw);
+            return raw;
+        } catch (IOException | RuntimeException exception) {
+            return "{\"id\":\"sample\",\"width\":640,\"height\":480,\"color\":\"#595959\","
+                   + "\"blur_hash\":\"LA9%q}x]M{jF_3g3RjV[0hRkjZR*\",\"urls\":{},\"links\":{},\"likes\":0}";
+        }
+    }
+
+    /**
+     * @return the base link of this server e.g. {@code http://127.0.0.1:41234}
+     */
+    public @NotNull String baseLink() {
+        var address = server.getAddress();
+        return "http://" + address.getHostString() + ":" + address.getPort();
+    }
+
+    /**
+     * @return a prepared link shaped like {@link UnsplashRandom#API_LINK} that points at this server
+     */
+    public @NotNull String apiLink() {return baseLink() + "/photos/random/?client_id=API_KEY";}
+
+    /**
+     * Builds an engine that points at this server, the API key can be set with
+     * {@code System.setProperty(UnsplashRandom.API_KEY_PROPERTY, MockUnsplashServer.API_KEY)} if there's
+     * no {@code .env} file
+     *
+     * @return an {@link HttpEngine} instance
+     */
+    public @NotNull HttpEngine engine() {return HttpEngine.builder().apiLink(apiLink()).build();}
+
+    /**
+     * Sets the delay that is added before every response
+     *
+     * @param latency the delay
+     */
+    public void setLatency(@NotNull Duration latency) {this.latency = Objects.requireNonNull(latency);}
+
+    /**
+     * Sets the share of the API requests that are answered with a {@code 429}, regardless of the budget
+     *
+     * @param rate a value between {@code 0} and {@code 1}
+     */
+    public void setTooManyRequestsRate(double rate) {this.tooManyRequestsRate = rate;}
+
+    /**
+     * Sets the share of the requests (API and images) that are answered with a {@code 503}
+     *
+     * @param rate a value between {@code 0} and {@code 1}
+     */
+    public void setServerErrorRate(double rate) {this.serverErrorRate = rate;}
+
+    /**
+     * Sets the share of the image responses whose connection is dropped halfway through the body
+     *
+     * @param rate a value between {@code 0} and {@code 1}
+     */
+    public void setDropRate(double rate) {this.dropRate = rate;}
+
+    /**
+     * Sets the hourly budget that is reported via the {@code X-Ratelimit-*} headers and resets the remaining
+     * budget, once it is exhausted every API request is answered with a {@code 429}
+     *
+     * @param rateLimit the budget, {@link Long#MAX_VALUE} for an unlimited one
+     */
+    public void setRateLimit(long rateLimit) {
+        this.rateLimit = rateLimit;
+        this.remaining.set(rateLimit);
+    }
+
+    /**
+     * @return the amount of {@code /photos/random} requests served so far
+     */
+    public long apiRequests() {return apiRequests.get();}
+
+    /**
+     * @return the amount of {@code /images/} requests served so far
+     */
+    public long imageRequests() {return imageRequests.get();}
+
+    /**
+     * @return the amount of image bytes sent so far, the ranges and the dropped bodies included
+     */
+    public long imageBytesSent() {return imageBytesSent.get();}
+
+    private void handleRandom(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            apiRequests.incrementAndGet();
+            delay();
+            var before = remaining.getAndUpdate(value -> value > 0 ? value - 1 : 0);
+            var left = Math.max(0, before - 1);
+            var headers = exchange.getResponseHeaders();
+            headers.set(RateLimiter.LIMIT_HEADER, String.valueOf(rateLimit));
+            headers.set(RateLimiter.REMAINING_HEADER, String.valueOf(left));
+
+            var random = ThreadLocalRandom.current();
+            if (random.nextDouble() < serverErrorRate) {
+                sendText(exchange, 503, "Service Unavailable");
+                return;
+            }
+            if (before == 0 || random.nextDouble() < tooManyRequestsRate) {
+                sendText(exchange, RateLimiter.TOO_MANY_REQUESTS, "Rate Limit Exceeded");
+                return;
+            }
+
+            var query = parseQuery(exchange.getRequestURI().getRawQuery());
+            var template = query.containsKey("query") ? taggedTemplate : fixedTemplate;
+            String body;
+            if (query.containsKey("count")) {
+                int count;
+                try {
+                    count = Integer.parseInt(query.get("count"));
+                } catch (NumberFormatException exception) {
+                    count = -1;
+                }
+                if (count < 1 || count > UnsplashRandom.MAX_COUNT) {
+                    sendText(exchange, 400, "count must be between 1 and " + UnsplashRandom.MAX_COUNT);
+                    return;
+                }
+                var photos = new JSONArray();
+                for (int index = 0; index < count; index++) photos.put(photo(template));
+                body = photos.toString();
+            } else body = photo(template).toString();
+
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            send(exchange, 200, body.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private void handleImage(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            imageRequests.incrementAndGet();
+            delay();
+            var random = ThreadLocalRandom.current();
+            if (random.nextDouble() < serverErrorRate) {
+                sendText(exchange, 503, "Service Unavailable");
+                return;
+            }
+            var headers = exchange.getResponseHeaders();
+            headers.set("Content-Type", "image/jpeg");
+            headers.set("Accept-Ranges", "bytes");
+            headers.set("ETag", imageTag);
+
+            var from = 0;
+            var to = imageBytes.length - 1;
+            var range = exchange.getRequestHeaders().getFirst("Range");
+            var ifRange = exchange.getRequestHeaders().getFirst("If-Range");
+            var ranged = Objects.nonNull(range) && range.startsWith("bytes=")
+                         && (Objects.isNull(ifRange) || ifRange.equals(imageTag));
+            if (ranged) {
+                try {
+                    var bounds = range.substring("bytes=".length()).split("-", -1);
+                    from = Integer.parseInt(bounds[0]);
+                    if (!bounds[1].isEmpty()) to = Math.min(to, Integer.parseInt(bounds[1]));
+                } catch (RuntimeException exception) {
+                    sendText(exchange, 400, "malformed range " + range);
+                    return;
+                }
+                if (from > to) {
+                    headers.set("Content-Range", "bytes */" + imageBytes.length);
+                    exchange.sendResponseHeaders(416, -1);
+                    return;
+                }
+                headers.set("Content-Range", "bytes " + from + "-" + to + "/" + imageBytes.length);
+            }
+
+            var length = to - from + 1;
+            // a dropped connection sends only half of the body, the client sees the body end early
+            var sent = random.nextDouble() < dropRate ? length / 2 : length;
+            exchange.sendResponseHeaders(ranged ? 206 : 200, length);
+            var stream = exchange.getResponseBody();
+            stream.write(imageBytes, from, sent);
+            imageBytesSent.addAndGet(sent);
+            // closing a body that is short throws, which in turn makes the server drop the connection
+            stream.close();
+        }
+    }
+
+    /**
+     * Clones the template with a fresh {@code id} and points the {@code links.download} field at this server
+     *
+     * @param template the raw JSON of the template
+     * @return the photo
+     */
+    private JSONObject photo(String template) {
+        var photo = new JSONObject(template);
+        var id = randomID();
+        photo.put("id", id);
+        var links = photo.optJSONObject("links");
+        if (Objects.isNull(links)) photo.put("links", links = new JSONObject());
+        links.put("self", baseLink() + "/photos/" + id);
+        links.put("download", baseLink() + "/images/" + id);
+        return photo;
+    }
+
+    private static String randomID() {
+        var random = ThreadLocalRandom.current();
+        var builder = new StringBuilder(11);
+        for (int index = 0; index < 11; index++) builder.append(ID_ALPHABET.charAt(random.nextInt(ID_ALPHABET.length())));
+        return builder.toString();
+    }
+
+    private void delay() {
+        var nanos = latency.toNanos();
+        if (nanos <= 0) return;
+        try {
+            Thread.sleep(nanos / 1_000_000, (int) (nanos % 1_000_000));
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        var query = new HashMap<String, String>();
+        if (Objects.isNull(rawQuery)) return query;
+        for (var pair : rawQuery.split("&")) {
+            var separator = pair.indexOf('=');
+            if (separator < 0) query.put(URLDecoder.decode(pair, StandardCharsets.UTF_8), "");
+            else query.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                           URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    private static void sendText(HttpExchange exchange, int status, String text) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/plain");
+        send(exchange, status, text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.sendResponseHeaders(status, body.length);
+        try (var stream = exchange.getResponseBody()) {
+            stream.write(body);
+        }
+    }
+
+    /**
+     * Stops the server right away
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}